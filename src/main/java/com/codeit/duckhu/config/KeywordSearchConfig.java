@@ -0,0 +1,28 @@
+package com.codeit.duckhu.config;
+
+import com.codeit.duckhu.global.search.KeywordSearchStrategy;
+import com.codeit.duckhu.global.search.LikeKeywordSearchStrategy;
+import com.codeit.duckhu.global.search.TrigramKeywordSearchStrategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 키워드 검색 전략 설정 - duckhu.search.keyword-strategy (trigram | like, 기본값 like) */
+@Configuration
+public class KeywordSearchConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "duckhu.search.keyword-strategy", havingValue = "trigram")
+  public KeywordSearchStrategy trigramKeywordSearchStrategy() {
+    return new TrigramKeywordSearchStrategy();
+  }
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "duckhu.search.keyword-strategy",
+      havingValue = "like",
+      matchIfMissing = true)
+  public KeywordSearchStrategy likeKeywordSearchStrategy() {
+    return new LikeKeywordSearchStrategy();
+  }
+}
@@ -45,7 +45,7 @@ public class BookController implements BookApi {
    * @param orderBy 정렬 기준 -> title, publishedDate, rating, reviewCount
    * @param direction 정렬 방향 -> DESC, ASC
    * @param cursor -> 커서 페이지네이션 커서
-   * @param after -> 보조 커서(createdAt)
+   * @param after -> 사용하지 않음 (createdAt은 cursor에 포함, 하위 호환용)
    * @param limit -> 페이지 크기
    * @return
    */
@@ -87,7 +87,7 @@ public class BookController implements BookApi {
    * @param period 랭킹 기간 -> DAILY, WEEKLY, MONTHLY, ALL_TIME
    * @param direction 정렬 방향 -> DESC, ASC
    * @param cursor 커서 페이지네이션 커서
-   * @param after 보조 커서 (createdAt)
+   * @param after 사용하지 않음 (createdAt은 cursor에 포함, 하위 호환용)
    * @param limit 페이지 크기
    * @return
    */
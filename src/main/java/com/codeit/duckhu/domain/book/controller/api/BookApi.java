@@ -59,7 +59,9 @@ public interface BookApi {
       @Parameter(description = "정렬 방향", example = "DESC") @RequestParam(defaultValue = "DESC")
           Direction direction,
       @Parameter(description = "커서 페이지네이션 커서") @RequestParam(required = false) String cursor,
-      @Parameter(description = "보조 커서(createdAt)") @RequestParam(required = false) Instant after,
+      @Parameter(description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
+          @RequestParam(required = false)
+          Instant after,
       @Parameter(description = "페이지 크기", example = "50") @RequestParam(defaultValue = "50")
           int limit);
 
@@ -199,7 +201,7 @@ public interface BookApi {
       @Parameter(name = "cursor", description = "커서 페이지네이션 커서")
           @RequestParam(value = "cursor", required = false)
           String cursor,
-      @Parameter(name = "after", description = "보조 커서(createdAt)")
+      @Parameter(name = "after", description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
           @RequestParam(value = "after", required = false)
           Instant after,
       @Parameter(name = "limit", description = "페이지 크기", example = "50")
@@ -2,6 +2,7 @@ package com.codeit.duckhu.domain.book.dto;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
 
 public record BookDto(
@@ -16,4 +17,5 @@ public record BookDto(
     Integer reviewCount,
     Double rating,
     Instant createdAt,
-    Instant updatedAt) {}
+    Instant updatedAt,
+    Map<Integer, Integer> ratingHistogram) {}
@@ -0,0 +1,7 @@
+package com.codeit.duckhu.domain.book.dto;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import java.util.UUID;
+
+/** 기간별 도서 리뷰 집계 (인기 도서 배치) */
+public record PopularBookStats(UUID bookId, PeriodType period, int reviewCount, double rating) {}
@@ -9,12 +9,15 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "books")
@@ -22,6 +25,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 도서 정보 수정 시 리뷰 집계 컬럼을 이전 값으로 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 public class Book extends BaseUpdatableEntity {
 
   @Column(nullable = false)
@@ -53,6 +57,31 @@ public class Book extends BaseUpdatableEntity {
   @Builder.Default
   private Double rating = 0.0;
 
+  // 리뷰 집계 - 리뷰 작성/수정/삭제 시 BookRepository.applyReviewDelta로 증감만 반영
+  @Column(name = "rating_sum", nullable = false)
+  @Builder.Default
+  private Long ratingSum = 0L;
+
+  @Column(name = "rating_1_count", nullable = false)
+  @Builder.Default
+  private Integer rating1Count = 0;
+
+  @Column(name = "rating_2_count", nullable = false)
+  @Builder.Default
+  private Integer rating2Count = 0;
+
+  @Column(name = "rating_3_count", nullable = false)
+  @Builder.Default
+  private Integer rating3Count = 0;
+
+  @Column(name = "rating_4_count", nullable = false)
+  @Builder.Default
+  private Integer rating4Count = 0;
+
+  @Column(name = "rating_5_count", nullable = false)
+  @Builder.Default
+  private Integer rating5Count = 0;
+
   @Builder.Default
   @Column(name = "is_deleted", nullable = false)
   private Boolean isDeleted = false;
@@ -82,8 +111,14 @@ public class Book extends BaseUpdatableEntity {
     this.isDeleted = true;
   }
 
-  public void updateReviewStatus(int reviewCount, double rating) {
-    this.reviewCount = reviewCount;
-    this.rating = rating;
+  /** 별점(1~5)별 리뷰 수 */
+  public Map<Integer, Integer> getRatingHistogram() {
+    Map<Integer, Integer> histogram = new LinkedHashMap<>();
+    histogram.put(1, rating1Count);
+    histogram.put(2, rating2Count);
+    histogram.put(3, rating3Count);
+    histogram.put(4, rating4Count);
+    histogram.put(5, rating5Count);
+    return histogram;
   }
 }
@@ -44,4 +44,8 @@ public class PopularBook extends BaseEntity {
   @Column private Double score;
 
   @Column private Integer rank;
+
+  // 스냅샷 세대 (배치가 JDBC로 기록, 조회 시 현재 세대만 읽음)
+  @Column(name = "generation", insertable = false, updatable = false)
+  private Long generation;
 }
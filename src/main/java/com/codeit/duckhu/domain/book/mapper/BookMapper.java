@@ -22,6 +22,7 @@ public interface BookMapper {
         book.getReviewCount(),
         book.getRating(),
         book.getCreatedAt(),
-        book.getUpdatedAt());
+        book.getUpdatedAt(),
+        book.getRatingHistogram());
   }
 }
@@ -1,10 +1,13 @@
 package com.codeit.duckhu.domain.book.repository;
 
 import com.codeit.duckhu.domain.book.entity.Book;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BookRepository extends JpaRepository<Book, UUID>, BookRepositoryCustom {
 
@@ -13,4 +16,68 @@ public interface BookRepository extends JpaRepository<Book, UUID>, BookRepositor
   // 도서에 리뷰가 1개 이상인 도서만 가져오기
   @Query("SELECT b FROM Book b WHERE b.isDeleted = false AND b.reviewCount > 0")
   List<Book> findBooksWithReviews();
+
+  // 리뷰 일괄 등록 시 도서 존재 여부를 한 번에 확인 (엔티티를 로딩하지 않고 ID만 조회)
+  @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * 리뷰 작성/수정/삭제로 생긴 증감분만 도서 집계에 반영합니다. - 전체 리뷰를 다시 집계하지 않고 UPDATE 한 번으로 리뷰 수, 평점 합계, 별점별
+   * 리뷰 수를 갱신하고 평균 평점(rating)도 같은 문장에서 다시 계산합니다.
+   *
+   * @param countDelta 리뷰 수 증감 (-1, 0, 1)
+   * @param ratingDelta 평점 합계 증감
+   * @param star1Delta ~ star5Delta 별점별 리뷰 수 증감
+   */
+  @Modifying
+  @Query(
+      "UPDATE Book b SET "
+          + "b.reviewCount = b.reviewCount + :countDelta, "
+          + "b.ratingSum = b.ratingSum + :ratingDelta, "
+          + "b.rating = CASE WHEN b.reviewCount + :countDelta > 0 "
+          + "THEN (b.ratingSum + :ratingDelta) * 1.0 / (b.reviewCount + :countDelta) ELSE 0.0 END, "
+          + "b.rating1Count = b.rating1Count + :star1Delta, "
+          + "b.rating2Count = b.rating2Count + :star2Delta, "
+          + "b.rating3Count = b.rating3Count + :star3Delta, "
+          + "b.rating4Count = b.rating4Count + :star4Delta, "
+          + "b.rating5Count = b.rating5Count + :star5Delta "
+          + "WHERE b.id = :bookId")
+  int applyReviewDelta(
+      @Param("bookId") UUID bookId,
+      @Param("countDelta") int countDelta,
+      @Param("ratingDelta") long ratingDelta,
+      @Param("star1Delta") int star1Delta,
+      @Param("star2Delta") int star2Delta,
+      @Param("star3Delta") int star3Delta,
+      @Param("star4Delta") int star4Delta,
+      @Param("star5Delta") int star5Delta);
+
+  /**
+   * 리뷰 수, 평점 합계, 평균 평점, 별점 분포 중 하나라도 실제 리뷰와 어긋난 도서의 집계를 다시 계산합니다. - 컬럼 추가 후 기존 도서의 평점
+   * 합계/별점 분포 채우기에도 사용됩니다.
+   *
+   * @return 보정된 도서 수
+   */
+  @Modifying(clearAutomatically = true)
+  @Query(
+      value =
+          "UPDATE books SET "
+              + "review_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE), "
+              + "rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE), "
+              + "rating = (SELECT COALESCE(AVG(CAST(r.rating AS DOUBLE PRECISION)), 0) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE), "
+              + "rating_1_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 1), "
+              + "rating_2_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 2), "
+              + "rating_3_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 3), "
+              + "rating_4_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 4), "
+              + "rating_5_count = (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 5) "
+              + "WHERE review_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE) "
+              + "OR rating_sum <> (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE) "
+              + "OR rating <> (SELECT COALESCE(AVG(CAST(r.rating AS DOUBLE PRECISION)), 0) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE) "
+              + "OR rating_1_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 1) "
+              + "OR rating_2_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 2) "
+              + "OR rating_3_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 3) "
+              + "OR rating_4_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 4) "
+              + "OR rating_5_count <> (SELECT COUNT(*) FROM reviews r WHERE r.book_id = books.id AND r.is_deleted = FALSE AND r.rating = 5)",
+      nativeQuery = true)
+  int reconcileReviewStats();
 }
@@ -2,10 +2,15 @@ package com.codeit.duckhu.domain.book.repository;
 
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.global.type.Direction;
-import java.time.Instant;
 import java.util.List;
 
 public interface BookRepositoryCustom {
+
+  /**
+   * 도서 목록 커서 페이지 조회
+   *
+   * @param cursor 이전 페이지 마지막 도서의 커서 토큰 (정렬 필드, createdAt, id)
+   */
   List<Book> searchBooks(
-      String keyword, String orderBy, Direction direction, String cursor, Instant after, int limit);
+      String keyword, String orderBy, Direction direction, String cursor, int limit);
 }
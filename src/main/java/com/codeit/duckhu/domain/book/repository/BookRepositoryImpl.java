@@ -2,55 +2,64 @@ package com.codeit.duckhu.domain.book.repository;
 
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.entity.QBook;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
+import com.codeit.duckhu.global.search.KeywordSearchStrategy;
+import com.codeit.duckhu.global.search.LikeKeywordSearchStrategy;
 import com.codeit.duckhu.global.type.Direction;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.util.StringUtils;
 
-@RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
   private final JPAQueryFactory queryFactory;
+  private final KeywordSearchStrategy keywordSearchStrategy;
   private final QBook book = QBook.book;
 
+  // 검색 전략 빈이 없는 환경(슬라이스 테스트 등)에서는 LIKE 검색 사용
+  public BookRepositoryImpl(
+      JPAQueryFactory queryFactory, ObjectProvider<KeywordSearchStrategy> keywordSearchStrategy) {
+    this.queryFactory = queryFactory;
+    this.keywordSearchStrategy =
+        keywordSearchStrategy.getIfAvailable(LikeKeywordSearchStrategy::new);
+  }
+
   @Override
   public List<Book> searchBooks(
-      String keyword,
-      String orderBy,
-      Direction direction,
-      String cursor,
-      Instant after,
-      int limit) {
+      String keyword, String orderBy, Direction direction, String cursor, int limit) {
     BooleanBuilder condition = new BooleanBuilder();
 
     // 키워드 검색 -> 제목, 저자, isbn으로 검색
     if (StringUtils.hasText(keyword)) {
-      condition.andAnyOf(
-          book.title.containsIgnoreCase(keyword),
-          book.author.containsIgnoreCase(keyword),
-          book.isbn.containsIgnoreCase(keyword));
+      condition.and(
+          keywordSearchStrategy.containsAny(keyword, book.title, book.author, book.isbn));
     }
 
     // 논리 삭제 제외
     condition.and(book.isDeleted.eq(false));
 
+    // 정렬 키 (정렬 필드 + createdAt + id)
+    boolean isAsc = isAsc(direction);
+    List<ComparableExpressionBase<?>> sortKeys = getSortKeys(orderBy);
+
     // 커서 페이지네이션 조건 추가하기
-    if (cursor != null && after != null) {
-      condition.and(getCursorCondition(orderBy, cursor, after, isAsc(direction)));
+    if (StringUtils.hasText(cursor)) {
+      condition.and(Keyset.after(isAsc, sortKeys, getCursorValues(orderBy, cursor)));
     }
 
-    // 정렬 조건 추가하기
-    List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(orderBy, isAsc(direction));
-
     return queryFactory
         .selectFrom(book)
         .where(condition)
-        .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new))
+        .orderBy(
+            sortKeys.stream()
+                .map(key -> isAsc ? key.asc() : key.desc())
+                .toArray(OrderSpecifier[]::new))
         .limit(limit)
         .fetch();
   }
@@ -59,73 +68,39 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     return "ASC".equalsIgnoreCase(String.valueOf(direction));
   }
 
-  private BooleanBuilder getCursorCondition(
-      String sortBy, String cursor, Instant after, boolean isAsc) {
-    BooleanBuilder builder = new BooleanBuilder();
+  // 정렬 필드 -> 제목, 평점, 출판일, 리뷰수 (동률은 createdAt, id 순)
+  private List<ComparableExpressionBase<?>> getSortKeys(String sortBy) {
+    return switch (String.valueOf(sortBy)) {
+      case "title" -> List.of(book.title, book.createdAt, book.id);
+      case "publishedDate" -> List.of(book.publishedDate, book.createdAt, book.id);
+      case "rating" -> List.of(book.rating, book.createdAt, book.id);
+      case "reviewCount" -> List.of(book.reviewCount, book.createdAt, book.id);
+      default -> List.of(book.createdAt, book.id);
+    };
+  }
 
-    // 정렬 필드 -> 제목, 평점, 출판일, 리뷰수
-    switch (sortBy) {
+  private List<Object> getCursorValues(String sortBy, String cursor) {
+    return switch (String.valueOf(sortBy)) {
       case "title" -> {
-        builder.and(
-            isAsc
-                ? book.title.gt(cursor).or(book.title.eq(cursor).and(book.createdAt.gt(after)))
-                : book.title.lt(cursor).or(book.title.eq(cursor).and(book.createdAt.lt(after))));
+        CursorKeys keys = CursorCodec.decode(cursor, 3);
+        yield List.of(keys.getString(0), keys.getInstant(1), keys.getUuid(2));
+      }
+      case "publishedDate" -> {
+        CursorKeys keys = CursorCodec.decode(cursor, 3);
+        yield List.of(keys.getLocalDate(0), keys.getInstant(1), keys.getUuid(2));
       }
       case "rating" -> {
-        Double rating = Double.parseDouble(cursor);
-        builder.and(
-            isAsc
-                ? book.rating.gt(rating).or(book.rating.eq(rating).and(book.createdAt.gt(after)))
-                : book.rating.lt(rating).or(book.rating.eq(rating).and(book.createdAt.lt(after))));
+        CursorKeys keys = CursorCodec.decode(cursor, 3);
+        yield List.of(keys.getDouble(0), keys.getInstant(1), keys.getUuid(2));
       }
       case "reviewCount" -> {
-        Integer reviewCount = Integer.parseInt(cursor);
-        builder.and(
-            isAsc
-                ? book.reviewCount
-                    .gt(reviewCount)
-                    .or(book.reviewCount.eq(reviewCount).and(book.createdAt.gt(after)))
-                : book.reviewCount
-                    .lt(reviewCount)
-                    .or(book.reviewCount.eq(reviewCount).and(book.createdAt.lt(after))));
+        CursorKeys keys = CursorCodec.decode(cursor, 3);
+        yield List.of(keys.getInt(0), keys.getInstant(1), keys.getUuid(2));
       }
-      case "publishedDate" -> {
-        builder.and(
-            isAsc
-                ? book.publishedDate
-                    .after(java.time.LocalDate.parse(cursor))
-                    .or(
-                        book.publishedDate
-                            .eq(java.time.LocalDate.parse(cursor))
-                            .and(book.createdAt.gt(after)))
-                : book.publishedDate
-                    .before(java.time.LocalDate.parse(cursor))
-                    .or(
-                        book.publishedDate
-                            .eq(java.time.LocalDate.parse(cursor))
-                            .and(book.createdAt.lt(after))));
+      default -> {
+        CursorKeys keys = CursorCodec.decode(cursor, 2);
+        yield List.of(keys.getInstant(0), keys.getUuid(1));
       }
-      default -> builder.and(isAsc ? book.createdAt.gt(after) : book.createdAt.lt(after));
-    }
-
-    return builder;
-  }
-
-  // 정렬 기준 필드 + createdAt을 함께 적용한 Order By 조건을 생성함
-  private List<OrderSpecifier<?>> buildOrderSpecifiers(String sortBy, boolean isAsc) {
-    List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
-
-    switch (sortBy) {
-      case "title" -> orderSpecifiers.add(isAsc ? book.title.asc() : book.title.desc());
-      case "publishedDate" ->
-          orderSpecifiers.add(isAsc ? book.publishedDate.asc() : book.publishedDate.desc());
-      case "rating" -> orderSpecifiers.add(isAsc ? book.rating.asc() : book.rating.desc());
-      case "reviewCount" ->
-          orderSpecifiers.add(isAsc ? book.reviewCount.asc() : book.reviewCount.desc());
-      default -> orderSpecifiers.add(isAsc ? book.createdAt.asc() : book.createdAt.desc());
-    }
-
-    orderSpecifiers.add(isAsc ? book.createdAt.asc() : book.createdAt.desc());
-    return orderSpecifiers;
+    };
   }
 }
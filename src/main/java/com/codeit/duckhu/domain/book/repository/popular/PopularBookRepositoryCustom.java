@@ -1,13 +1,31 @@
 package com.codeit.duckhu.domain.book.repository.popular;
 
+import com.codeit.duckhu.domain.book.dto.PopularBookStats;
 import com.codeit.duckhu.domain.book.entity.PopularBook;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
 
 public interface PopularBookRepositoryCustom {
 
+  /**
+   * 기간별 인기 도서 커서 페이지 조회 (현재 공개 중인 세대만)
+   *
+   * @param cursor 이전 페이지 마지막 항목의 커서 토큰 (rank, createdAt, id)
+   */
   List<PopularBook> searchByPeriodWithCursorPaging(
-      PeriodType period, Direction direction, String cursor, Instant after, int limit);
+      PeriodType period, Direction direction, String cursor, int limit);
+
+  /** 기간별 현재 공개 중인 세대의 인기 도서 수 */
+  int countCurrentByPeriod(PeriodType period);
+
+  /**
+   * 여러 기간의 도서별 리뷰 수와 평균 평점을 reviews 한 번의 스캔으로 집계합니다.
+   *
+   * @param periods 집계할 기간
+   * @param now 집계 기준 시각 (각 기간의 끝)
+   */
+  List<PopularBookStats> findPopularBookStats(EnumSet<PeriodType> periods, Instant now);
 }
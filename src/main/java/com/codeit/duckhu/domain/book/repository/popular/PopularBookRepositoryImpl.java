@@ -1,60 +1,64 @@
 package com.codeit.duckhu.domain.book.repository.popular;
 
+import com.codeit.duckhu.domain.book.dto.PopularBookStats;
 import com.codeit.duckhu.domain.book.entity.PopularBook;
 import com.codeit.duckhu.domain.book.entity.QPopularBook;
+import com.codeit.duckhu.global.batch.PeriodWindows;
+import com.codeit.duckhu.global.batch.RankingGenerations;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 public class PopularBookRepositoryImpl implements PopularBookRepositoryCustom {
 
   private final JPAQueryFactory queryFactory;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public List<PopularBook> searchByPeriodWithCursorPaging(
-      PeriodType period, Direction direction, String cursor, Instant after, int limit) {
+      PeriodType period, Direction direction, String cursor, int limit) {
 
     QPopularBook popularBook = QPopularBook.popularBook;
 
     BooleanBuilder condition = new BooleanBuilder();
     condition.and(popularBook.period.eq(period));
-
-    Instant now = Instant.now();
-    Instant from = period.toStartInstant(now);
-    condition.and(popularBook.createdAt.goe(from));
+    condition.and(currentGeneration(popularBook, period));
 
     boolean isAsc = "ASC".equalsIgnoreCase(String.valueOf(direction));
 
-    if (cursor != null && after != null) {
-      int rank = Integer.parseInt(cursor);
+    // 정렬 키 - rank, createdAt, id
+    List<ComparableExpressionBase<?>> sortKeys =
+        List.of(popularBook.rank, popularBook.createdAt, popularBook.id);
 
-      BooleanBuilder cursorCondition = new BooleanBuilder();
-      if (isAsc) {
-        cursorCondition.and(
-            popularBook
-                .rank
-                .gt(rank)
-                .or(popularBook.rank.eq(rank).and(popularBook.createdAt.gt(after))));
-      } else {
-        cursorCondition.and(
-            popularBook
-                .rank
-                .lt(rank)
-                .or(popularBook.rank.eq(rank).and(popularBook.createdAt.lt(after))));
-      }
-      condition.and(cursorCondition);
+    if (StringUtils.hasText(cursor)) {
+      CursorKeys keys = CursorCodec.decode(cursor, 3);
+      condition.and(
+          Keyset.after(
+              isAsc, sortKeys, List.of(keys.getInt(0), keys.getInstant(1), keys.getUuid(2))));
     }
 
     OrderSpecifier<?>[] orderSpecifiers =
-        isAsc
-            ? new OrderSpecifier[] {popularBook.rank.asc(), popularBook.createdAt.asc()}
-            : new OrderSpecifier[] {popularBook.rank.desc(), popularBook.createdAt.desc()};
+        sortKeys.stream()
+            .map(key -> isAsc ? key.asc() : key.desc())
+            .toArray(OrderSpecifier[]::new);
 
     return queryFactory
         .selectFrom(popularBook)
@@ -63,4 +67,49 @@ public class PopularBookRepositoryImpl implements PopularBookRepositoryCustom {
         .limit(limit)
         .fetch();
   }
+
+  @Override
+  public int countCurrentByPeriod(PeriodType period) {
+    QPopularBook popularBook = QPopularBook.popularBook;
+    Long count =
+        queryFactory
+            .select(popularBook.count())
+            .from(popularBook)
+            .where(popularBook.period.eq(period), currentGeneration(popularBook, period))
+            .fetchOne();
+    return count == null ? 0 : count.intValue();
+  }
+
+  private BooleanExpression currentGeneration(QPopularBook popularBook, PeriodType period) {
+    return RankingGenerations.current(
+        RankingSnapshotTable.POPULAR_BOOK, period, popularBook.generation);
+  }
+
+  @Override
+  public List<PopularBookStats> findPopularBookStats(EnumSet<PeriodType> periods, Instant now) {
+    String sql =
+        """
+        SELECT r.book_id, w.period,
+               COUNT(*) AS review_count,
+               AVG(CAST(r.rating AS DOUBLE PRECISION)) AS rating
+          FROM reviews r
+          JOIN books b ON b.id = r.book_id AND b.is_deleted = FALSE
+          JOIN %s ON r.created_at >= w.window_start
+         WHERE r.is_deleted = FALSE AND r.created_at <= ?
+         GROUP BY r.book_id, w.period
+        """
+            .formatted(PeriodWindows.table(periods));
+
+    List<Object> args = new ArrayList<>(PeriodWindows.startArgs(periods, now));
+    args.add(Timestamp.from(now));
+    return jdbcTemplate.query(
+        sql,
+        (rs, rowNum) ->
+            new PopularBookStats(
+                rs.getObject("book_id", UUID.class),
+                PeriodType.valueOf(rs.getString("period")),
+                rs.getInt("review_count"),
+                rs.getDouble("rating")),
+        args.toArray());
+  }
 }
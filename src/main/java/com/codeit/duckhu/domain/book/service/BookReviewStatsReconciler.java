@@ -0,0 +1,31 @@
+package com.codeit.duckhu.domain.book.service;
+
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 리뷰 집계 보정 작업
+ *
+ * <p>리뷰 수, 평점 합계, 별점 분포는 리뷰 작성/수정/삭제 시 증감분 UPDATE로만 관리됩니다. 수동 데이터 변경 등으로 생길 수 있는 차이를 하루
+ * 한 번 실제 리뷰 기준으로 맞추며, 컬럼 추가 이전에 등록된 도서의 합계/분포도 이 작업으로 채워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookReviewStatsReconciler {
+
+  private final BookRepository bookRepository;
+
+  @Scheduled(cron = "0 20 0 * * *", zone = "Asia/Seoul")
+  @Transactional
+  public void reconcile() {
+    long start = System.currentTimeMillis();
+    int fixed = bookRepository.reconcileReviewStats();
+    log.info(
+        "[도서 리뷰 집계 보정 완료] 보정된 도서 수: {}, 소요 시간: {}ms", fixed, System.currentTimeMillis() - start);
+  }
+}
@@ -19,6 +19,7 @@ import com.codeit.duckhu.domain.book.repository.BookRepository;
 import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepository;
 import com.codeit.duckhu.domain.book.storage.ThumbnailImageStorage;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
@@ -118,8 +119,8 @@ public class BookServiceImpl implements BookService {
    * @param keyword 도서 제목, 저자, ISBN의 키워드를 통해 조회
    * @param orderBy 정렬 기준 title, publishedDate, rating, reviewCount
    * @param direction 정렬 방향 DESC (기본값), ASC
-   * @param cursor 커서 페이지네이션 커서
-   * @param after 보조 커서 (createdAt)
+   * @param cursor 커서 페이지네이션 커서 (이전 응답의 nextCursor)
+   * @param after 보조 커서 (createdAt) - 커서 토큰에 포함되므로 하위 호환용으로만 받음
    * @param limit 페이지 크기 (50)
    * @return 도서 페이지 응답 DTO
    */
@@ -135,7 +136,7 @@ public class BookServiceImpl implements BookService {
     log.info("[도서 목록 조회] keyword: {}, orderBy: {}, direction: {}, limit: {}", keyword, orderBy, direction, limit);
 
     List<Book> books =
-        bookRepository.searchBooks(keyword, orderBy, direction, cursor, after, limit + 1);
+        bookRepository.searchBooks(keyword, orderBy, direction, cursor, limit + 1);
     boolean hasNext = books.size() > limit;
 
     log.debug("[쿼리 실행 결과] 전체 개수: {}, hasNext: {}", books.size(), hasNext);
@@ -150,13 +151,17 @@ public class BookServiceImpl implements BookService {
       Book last = books.get(books.size() - 1);
       nextAfter = last.getCreatedAt();
 
+      // 정렬 필드 + createdAt + id를 담은 커서 토큰
       nextCursor =
           switch (orderBy) {
-            case "title" -> last.getTitle();
-            case "publishedDate" -> last.getPublishedDate().toString();
-            case "rating" -> String.valueOf(last.getRating());
-            case "reviewCount" -> String.valueOf(last.getReviewCount());
-            default -> null;
+            case "title" -> CursorCodec.encode(last.getTitle(), last.getCreatedAt(), last.getId());
+            case "publishedDate" ->
+                CursorCodec.encode(last.getPublishedDate(), last.getCreatedAt(), last.getId());
+            case "rating" ->
+                CursorCodec.encode(last.getRating(), last.getCreatedAt(), last.getId());
+            case "reviewCount" ->
+                CursorCodec.encode(last.getReviewCount(), last.getCreatedAt(), last.getId());
+            default -> CursorCodec.encode(last.getCreatedAt(), last.getId());
           };
     }
 
@@ -187,8 +192,7 @@ public class BookServiceImpl implements BookService {
     log.info("[인기 도서 조회] 기간: {}, 방향: {}, limit: {}", period, direction, limit);
 
     List<PopularBook> books =
-        popularBookRepository.searchByPeriodWithCursorPaging(
-            period, direction, cursor, after, limit + 1);
+        popularBookRepository.searchByPeriodWithCursorPaging(period, direction, cursor, limit + 1);
     boolean hasNext = books.size() > limit;
 
     log.debug("[쿼리 결과] 인기 도서 개수: {}, hasNext: {}", books.size(), hasNext);
@@ -216,11 +220,11 @@ public class BookServiceImpl implements BookService {
     Instant nextAfter = null;
     if (hasNext && !books.isEmpty()) {
       PopularBook last = books.get(books.size() - 1);
-      nextCursor = String.valueOf(last.getRank());
+      nextCursor = CursorCodec.encode(last.getRank(), last.getCreatedAt(), last.getId());
       nextAfter = last.getCreatedAt();
     }
 
-    int total = popularBookRepository.countByPeriod(period);
+    int total = popularBookRepository.countCurrentByPeriod(period);
 
     return new CursorPageResponsePopularBookDto(
         content, nextCursor, nextAfter, limit, total, hasNext);
@@ -3,6 +3,7 @@ package com.codeit.duckhu.domain.book.service;
 import com.codeit.duckhu.global.type.PeriodType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +14,21 @@ public class PopularBookBatchScheduler {
 
   private final PopularBookBatchService popularBookBatchService;
 
+  // true면 reviews를 한 번만 읽어 모든 기간의 랭킹을 함께 계산
+  @Value("${duckhu.batch.ranking.single-pass:true}")
+  private boolean singlePass;
+
   @Scheduled(cron = "0 0 12 * * *")
   public void schedule() {
+    if (singlePass) {
+      try {
+        log.info("[전체 기간 배치 작업] 인기 도서를 한 번에 갱신합니다.");
+        popularBookBatchService.savePopularBooksForAllPeriods();
+      } catch (Exception e) {
+        log.info("[전체 기간 배치 작업] 인기 도서 갱신 중 오류 발생 {}", e.getMessage());
+      }
+      return;
+    }
     executePopularBookBatch(PeriodType.DAILY, "[일간 배치 작업]");
     executePopularBookBatch(PeriodType.WEEKLY, "[주간 배치 작업]");
     executePopularBookBatch(PeriodType.MONTHLY, "[월간 배치 작업]");
@@ -1,108 +1,122 @@
 package com.codeit.duckhu.domain.book.service;
 
 import com.codeit.duckhu.domain.book.dto.PopularBookScore;
+import com.codeit.duckhu.domain.book.dto.PopularBookStats;
 import com.codeit.duckhu.domain.book.entity.Book;
-import com.codeit.duckhu.domain.book.entity.PopularBook;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
 import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepository;
-import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import com.codeit.duckhu.global.type.PeriodType;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기 도서 랭킹 배치
+ *
+ * <p>기간별 저장과 공개는 각각 별도 트랜잭션이라, 한 기간이 실패하면 그 기간의 스냅샷만 롤백되고 다른 기간의 결과는 유지됩니다. 성공/실패 카운터도
+ * 커밋 결과를 기준으로 남습니다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class PopularBookBatchService {
 
   private final BookRepository bookRepository;
-  private final ReviewRepository reviewRepository;
   private final PopularBookRepository popularBookRepository;
+  private final RankingSnapshotWriter rankingSnapshotWriter;
+  private final RankingGenerationStore rankingGenerationStore;
   private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
+
+  public PopularBookBatchService(
+      BookRepository bookRepository,
+      PopularBookRepository popularBookRepository,
+      RankingSnapshotWriter rankingSnapshotWriter,
+      RankingGenerationStore rankingGenerationStore,
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager) {
+    this.bookRepository = bookRepository;
+    this.popularBookRepository = popularBookRepository;
+    this.rankingSnapshotWriter = rankingSnapshotWriter;
+    this.rankingGenerationStore = rankingGenerationStore;
+    this.meterRegistry = meterRegistry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
 
   /**
    * 인기 도서 랭킹을 지정하는 배치 메서드 지정된 기간(일간, 주간, 월간, 역대)에 해당하는 리뷰 수와 평점을 기반으로 점수를 계산합니다.
    *
    * @param period 대상 기간 타입 (DAILY, WEEKLY, MONTHLY, ALL_TIME)
    */
-  @Transactional
   public void savePopularBook(PeriodType period) {
-    try {
-      // 현재 시간과 주어진 기간의 시작 지점을 구합니다.
-      Instant now = Instant.now();
-      Instant from = period.toStartInstant(now);
-
-      log.info("[Batch 시작] period={} | from={} ~ to={}", period, from, now);
-
-      // 전체 도서를 가져오지 않고 리뷰가 1개 이상인 도서 가져오기
-      List<Book> books = bookRepository.findBooksWithReviews();
-
-      // 각 도서에 대해 해당 기간의 리뷰수, 평균 평점, 점수를 계산합니다.
-      List<PopularBookScore> popularBookScores =
-          books.stream()
-              .map(
-                  book -> {
-                    int reviewCount =
-                        reviewRepository.countByBookIdAndCreatedAtBetween(book.getId(), from, now);
-                    double rating =
-                        reviewRepository.calculateAverageRatingByBookIdAndCreatedAtBetween(
-                            book.getId(), from, now);
-                    // 점수는 리뷰수 * 0.4 + 평점 * 0.6로 계산합니다
-                    double score = (reviewCount * 0.4) + (rating * 0.6);
-
-                    log.info(
-                        "도서: {} | 리뷰 수: {} | 평점: {} | 점수: {}",
-                        book.getTitle(),
-                        reviewCount,
-                        rating,
-                        score);
-
-                    return new PopularBookScore(book, reviewCount, rating, score);
-                  })
-              .filter(sb -> sb.reviewCount() > 0)
-              .sorted(Comparator.comparingDouble(PopularBookScore::score).reversed())
-              .toList();
-
-      // 이전에 저장된 해당 기간의 랭킹 정보를 삭제합니다.
-      popularBookRepository.deleteByPeriod(period);
-      log.info("[삭제 완료] 기존 PopularBook 삭제 - period={}", period);
-
-      // 새로 계산된 점수를 기반으로 PopularBook 엔티티를 생성하고 랭킹을 부여합니다.
-      List<PopularBook> popularBooks = new ArrayList<>();
-      for (int i = 0; i < popularBookScores.size(); i++) {
-        PopularBookScore pb = popularBookScores.get(i);
-
-        log.info(
-            "[랭킹 {}] 도서: {} | 리뷰 수: {} | 평점: {} | 점수: {}",
-            i + 1,
-            pb.book().getTitle(),
-            pb.reviewCount(),
-            pb.rating(),
-            pb.score());
+    savePopularBooks(EnumSet.of(period));
+  }
 
-        PopularBook popularBook =
-            PopularBook.builder()
-                .book(pb.book())
-                .period(period)
-                .reviewCount(pb.reviewCount())
-                .rating(pb.rating())
-                .score(pb.score())
-                .rank(i + 1)
-                .build();
+  /** 모든 기간의 인기 도서 랭킹을 reviews 한 번의 스캔으로 집계해 저장합니다. */
+  public void savePopularBooksForAllPeriods() {
+    savePopularBooks(EnumSet.allOf(PeriodType.class));
+  }
 
-        popularBooks.add(popularBook);
-      }
+  private void savePopularBooks(EnumSet<PeriodType> periods) {
+    Map<PeriodType, List<PopularBookStats>> statsByPeriod;
+    Map<UUID, Book> books;
+    try {
+      // 현재 시간을 각 기간의 끝으로 삼아, 기간별 리뷰 수와 평균 평점을 한 번에 집계합니다.
+      Instant now = Instant.now();
+      log.info("[Batch 시작] periods={} | to={}", periods, now);
+
+      List<PopularBookStats> stats = popularBookRepository.findPopularBookStats(periods, now);
+      statsByPeriod =
+          stats.stream()
+              .collect(
+                  Collectors.groupingBy(
+                      PopularBookStats::period,
+                      () -> new EnumMap<>(PeriodType.class),
+                      Collectors.toList()));
+
+      Set<UUID> bookIds =
+          stats.stream().map(PopularBookStats::bookId).collect(Collectors.toSet());
+      books =
+          bookRepository.findAllById(bookIds).stream()
+              .collect(Collectors.toMap(Book::getId, Function.identity()));
+    } catch (Exception e) {
+      log.info("[Batch 오류] periods = {} 집계 중 오류 발생 : {}", periods, e.getMessage());
+      periods.forEach(
+          period ->
+              meterRegistry
+                  .counter("batch.book.popularBook.failure", "period", period.name())
+                  .increment());
+      return;
+    }
 
-      popularBookRepository.saveAll(popularBooks);
-      log.info("[저장 완료] PopularBook {}건 저장 완료", popularBooks.size());
+    // 이번 실행의 모든 기간을 같은 세대로 저장합니다.
+    long generation = rankingGenerationStore.nextGeneration();
+    for (PeriodType period : periods) {
+      saveRanking(period, generation, statsByPeriod.getOrDefault(period, List.of()), books);
+    }
+  }
 
+  private void saveRanking(
+      PeriodType period, long generation, List<PopularBookStats> stats, Map<UUID, Book> books) {
+    try {
+      // 기간마다 별도 트랜잭션으로 저장하고 공개해, 실패한 기간의 행만 롤백되도록 합니다.
+      transactionTemplate.executeWithoutResult(
+          status -> saveSnapshot(period, generation, stats, books));
       meterRegistry.counter("batch.book.popularBook.success", "period", period.name()).increment();
     } catch (Exception e) {
       log.info("[Batch 오류] period = {} 처리 중 오류 발생 : {}", period, e.getMessage());
@@ -110,4 +124,52 @@ public class PopularBookBatchService {
       meterRegistry.counter("batch.book.popularBook.failure", "period", period.name()).increment();
     }
   }
-}
\ No newline at end of file
+
+  private void saveSnapshot(
+      PeriodType period, long generation, List<PopularBookStats> stats, Map<UUID, Book> books) {
+    // 각 도서에 대해 해당 기간의 리뷰수, 평균 평점으로 점수를 계산합니다.
+    List<PopularBookScore> popularBookScores =
+        stats.stream()
+            .filter(s -> s.reviewCount() > 0 && books.containsKey(s.bookId()))
+            .map(
+                s -> {
+                  // 점수는 리뷰수 * 0.4 + 평점 * 0.6로 계산합니다
+                  double score = (s.reviewCount() * 0.4) + (s.rating() * 0.6);
+                  return new PopularBookScore(
+                      books.get(s.bookId()), s.reviewCount(), s.rating(), score);
+                })
+            .sorted(Comparator.comparingDouble(PopularBookScore::score).reversed())
+            .toList();
+
+    // 새로 계산된 점수 순서대로 랭킹을 부여해 새 세대로 저장합니다. 이전 세대는 포인터를 바꾸기 전까지 그대로 조회됩니다.
+    AtomicInteger rankCount = new AtomicInteger(1);
+    int saved =
+        rankingSnapshotWriter.insert(
+            RankingSnapshotTable.POPULAR_BOOK,
+            generation,
+            popularBookScores,
+            pb -> {
+              int rank = rankCount.getAndIncrement();
+              log.info(
+                  "[랭킹 {}] 기간: {} | 도서: {} | 리뷰 수: {} | 평점: {} | 점수: {}",
+                  rank,
+                  period,
+                  pb.book().getTitle(),
+                  pb.reviewCount(),
+                  pb.rating(),
+                  pb.score());
+              return new Object[] {
+                pb.book().getId(),
+                period.name(),
+                pb.reviewCount(),
+                pb.rating(),
+                pb.score(),
+                rank
+              };
+            });
+    log.info("[저장 완료] PopularBook {}건 저장 완료 - period={}", saved, period);
+
+    // 저장이 끝난 세대로 포인터를 바꿔 공개합니다. 지난 세대는 RankingGenerationStore가 따로 정리합니다.
+    rankingGenerationStore.publish(RankingSnapshotTable.POPULAR_BOOK, period, generation);
+  }
+}
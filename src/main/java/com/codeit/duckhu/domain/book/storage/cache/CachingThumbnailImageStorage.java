@@ -0,0 +1,82 @@
+package com.codeit.duckhu.domain.book.storage.cache;
+
+import com.codeit.duckhu.domain.book.storage.ThumbnailImageStorage;
+import com.codeit.duckhu.domain.book.storage.s3.S3ThumbnailImageStorage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Presigned URL 캐싱 데코레이터
+ *
+ * <p>도서/리뷰 목록은 행마다 썸네일 URL을 서명하므로, 같은 key에 대해 서명한 URL을 일정 시간 재사용합니다. 캐시 TTL은 Presigned URL
+ * 만료 시간의 절반으로 잡아, 캐시에서 꺼낸 URL도 클라이언트가 사용할 때까지 최소 절반의 유효 시간이 남도록 합니다.
+ *
+ * <p>히트/미스/eviction 수는 {@code cache.*{cache="thumbnailUrl"}} 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingThumbnailImageStorage implements ThumbnailImageStorage {
+
+  static final String CACHE_NAME = "thumbnailUrl";
+
+  private final ThumbnailImageStorage delegate;
+  private final Cache<String, String> urlCache;
+
+  @Autowired
+  public CachingThumbnailImageStorage(
+      S3ThumbnailImageStorage delegate,
+      MeterRegistry meterRegistry,
+      @Value("${duckhu.storage.s3.presigned-url-expiration:3600}") long presignedUrlExpirationSeconds,
+      @Value("${duckhu.storage.s3.presigned-url-cache.max-size:10000}") long maxSize) {
+    this(delegate, meterRegistry, presignedUrlExpirationSeconds, maxSize, Ticker.systemTicker());
+  }
+
+  CachingThumbnailImageStorage(
+      ThumbnailImageStorage delegate,
+      MeterRegistry meterRegistry,
+      long presignedUrlExpirationSeconds,
+      long maxSize,
+      Ticker ticker) {
+    this.delegate = delegate;
+
+    Duration ttl = Duration.ofSeconds(Math.max(1, presignedUrlExpirationSeconds / 2));
+    this.urlCache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, urlCache, CACHE_NAME);
+    log.info("[Presigned URL 캐시 설정] TTL: {}s, 최대 크기: {}", ttl.toSeconds(), maxSize);
+  }
+
+  @Override
+  public String upload(MultipartFile file) {
+    return delegate.upload(file);
+  }
+
+  // 삭제된 객체의 URL이 캐시에 남지 않도록 함께 무효화
+  @Override
+  public void delete(String url) {
+    delegate.delete(url);
+    urlCache.invalidate(url);
+  }
+
+  @Override
+  public String get(String key) {
+    return urlCache.get(key, delegate::get);
+  }
+}
@@ -72,7 +72,7 @@ public class S3ThumbnailImageStorage implements ThumbnailImageStorage {
 
     try {
       PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-      log.info("[Presigned URL 생성 완료] key: {}, url: {}", key, presignedRequest.url());
+      log.debug("[Presigned URL 생성 완료] key: {}", key);
       return presignedRequest.url().toString();
     } catch (SdkClientException | S3Exception e) {
       log.error("[Presigned URL 생성 실패] key: {}, 오류: {}", key, e.toString());
@@ -6,7 +6,6 @@ import com.codeit.duckhu.domain.comment.dto.request.CommentCreateRequest;
 import com.codeit.duckhu.domain.comment.dto.request.CommentUpdateRequest;
 import com.codeit.duckhu.domain.comment.service.CommentService;
 import com.codeit.duckhu.global.type.Direction;
-import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -64,11 +63,10 @@ public class CommentController {
   public ResponseEntity<CursorPageResponseCommentDto> getCommentsList(
       @RequestParam UUID reviewId,
       @RequestParam(defaultValue = "DESC") Direction direction,
-      @RequestParam(required = false) UUID cursorId,
-      @RequestParam(required = false) Instant createdAt,
+      @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "30") int limit) {
     return ResponseEntity.status(HttpStatus.OK)
-        .body(commentService.getList(reviewId, direction, cursorId, createdAt, limit));
+        .body(commentService.getList(reviewId, direction, cursor, limit));
   }
 
   @GetMapping("/{commentId}")
@@ -1,11 +1,24 @@
 package com.codeit.duckhu.domain.comment.repository;
 
 import com.codeit.duckhu.domain.comment.domain.Comment;
-import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.data.domain.Slice;
 
 public interface CommentCustomRepository {
-  Slice<Comment> searchAll(
-      UUID reviewId, String direction, Instant after, UUID cursorId, int limit);
+  /**
+   * 리뷰의 댓글 커서 페이지 조회
+   *
+   * @param cursor 이전 페이지 마지막 댓글의 커서 토큰 (createdAt, id)
+   */
+  Slice<Comment> searchAll(UUID reviewId, String direction, String cursor, int limit);
+
+  /**
+   * 여러 리뷰의 (삭제되지 않은) 댓글 수를 한 번의 GROUP BY 쿼리로 조회
+   *
+   * @param reviewIds 조회할 리뷰 ID 목록
+   * @return 리뷰 ID → 댓글 수 (댓글이 없는 리뷰는 포함되지 않음)
+   */
+  Map<UUID, Integer> countByReviewIdsAndIsDeletedFalse(Collection<UUID> reviewIds);
 }
@@ -2,17 +2,23 @@ package com.codeit.duckhu.domain.comment.repository;
 
 import com.codeit.duckhu.domain.comment.domain.Comment;
 import com.codeit.duckhu.domain.comment.domain.QComment;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 public class CommentCustomRepositoryImpl implements CommentCustomRepository {
@@ -20,8 +26,7 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
   private final JPAQueryFactory jpaQueryFactory;
 
   @Override
-  public Slice<Comment> searchAll(
-      UUID reviewId, String direction, Instant after, UUID cursorId, int limit) {
+  public Slice<Comment> searchAll(UUID reviewId, String direction, String cursor, int limit) {
     QComment comment = QComment.comment;
 
     BooleanExpression condition =
@@ -30,7 +35,7 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
             .id
             .eq(reviewId)
             .and(comment.isDeleted.eq(false))
-            .and(cursorCondition(comment, direction, after, cursorId));
+            .and(cursorCondition(comment, direction, cursor));
 
     List<Comment> result =
         jpaQueryFactory
@@ -50,6 +55,26 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     return new SliceImpl<>(result, PageRequest.of(0, limit), hasNext);
   }
 
+  @Override
+  public Map<UUID, Integer> countByReviewIdsAndIsDeletedFalse(Collection<UUID> reviewIds) {
+    if (reviewIds == null || reviewIds.isEmpty()) {
+      return Map.of();
+    }
+
+    QComment comment = QComment.comment;
+
+    return jpaQueryFactory
+        .select(comment.review.id, comment.count())
+        .from(comment)
+        .where(comment.review.id.in(reviewIds), comment.isDeleted.eq(false))
+        .groupBy(comment.review.id)
+        .fetch()
+        .stream()
+        .collect(
+            Collectors.toMap(
+                t -> t.get(comment.review.id), t -> Math.toIntExact(t.get(1, Long.class))));
+  }
+
   private OrderSpecifier<?>[] getOrderSpecifiers(String direction, QComment comment) {
     Order order = "DESC".equalsIgnoreCase(direction) ? Order.DESC : Order.ASC;
     return new OrderSpecifier[] {
@@ -57,22 +82,16 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     };
   }
 
-  private BooleanExpression cursorCondition(
-      QComment comment, String direction, Instant after, UUID cursorId) {
-    if (after == null || cursorId == null) {
+  // (createdAt, id) 행 값 비교 - 정렬 순서상 커서 다음 댓글
+  private BooleanExpression cursorCondition(QComment comment, String direction, String cursor) {
+    if (!StringUtils.hasText(cursor)) {
       return null;
     }
 
-    if ("DESC".equalsIgnoreCase(direction)) {
-      return comment
-          .createdAt
-          .lt(after)
-          .or(comment.createdAt.eq(after).and(comment.id.lt(cursorId)));
-    } else { // ASC
-      return comment
-          .createdAt
-          .gt(after)
-          .or(comment.createdAt.eq(Instant.from(after)).and(comment.id.gt(cursorId)));
-    }
+    CursorKeys keys = CursorCodec.decode(cursor, 2);
+    return Keyset.after(
+        !"DESC".equalsIgnoreCase(direction),
+        List.of(comment.createdAt, comment.id),
+        List.of(keys.getInstant(0), keys.getUuid(1)));
   }
 }
@@ -8,17 +8,19 @@ import com.codeit.duckhu.domain.comment.dto.request.CommentUpdateRequest;
 import com.codeit.duckhu.domain.comment.exception.NoAuthorityException;
 import com.codeit.duckhu.domain.comment.exception.NoCommentException;
 import com.codeit.duckhu.domain.comment.repository.CommentRepository;
-import com.codeit.duckhu.domain.notification.exception.NotificationException;
-import com.codeit.duckhu.domain.notification.service.impl.NotificationServiceImpl;
+import com.codeit.duckhu.domain.notification.event.ReviewCommentedEvent;
+import com.codeit.duckhu.domain.review.event.ReviewActivityEvent;
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
 import com.codeit.duckhu.domain.review.service.impl.ReviewServiceImpl;
 import com.codeit.duckhu.domain.user.service.UserServiceImpl;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,7 +35,9 @@ public class CommentService {
 
   private final UserServiceImpl userService;
   private final ReviewServiceImpl reviewService;
-  private final NotificationServiceImpl notificationService;
+
+  // 댓글 수 변경(리뷰 상세 캐시 무효화, 실시간 인기 리뷰 랭킹)과 댓글 알림 생성을 위한 이벤트 발행
+  private final ApplicationEventPublisher eventPublisher;
 
   public CommentDto get(UUID id) {
     Comment comment =
@@ -44,10 +48,15 @@ public class CommentService {
     return commentMapper.toDto(comment);
   }
 
+  /**
+   * 리뷰의 댓글 목록을 조회합니다.
+   *
+   * @param cursor 이전 응답의 nextCursor (createdAt, id 커서 토큰, 첫 페이지면 null)
+   * @throws com.codeit.duckhu.global.exception.DomainException 커서 형식이 잘못된 경우 (INVALID_CURSOR)
+   */
   public CursorPageResponseCommentDto getList(
-      UUID reviewId, Direction direction, UUID cursorId, Instant createdAt, int limit) {
-    Slice<Comment> slice =
-        repository.searchAll(reviewId, direction.toString(), createdAt, cursorId, limit);
+      UUID reviewId, Direction direction, String cursor, int limit) {
+    Slice<Comment> slice = repository.searchAll(reviewId, direction.toString(), cursor, limit);
 
     // 삭제되지 않은 댓글만 필터링
     List<CommentDto> list =
@@ -63,7 +72,7 @@ public class CommentService {
 
     if (!list.isEmpty()) {
       CommentDto lastComment = list.get(list.size() - 1);
-      response.setNextCursor(lastComment.getId().toString());
+      response.setNextCursor(CursorCodec.encode(lastComment.getCreatedAt(), lastComment.getId()));
       response.setNextAfter(lastComment.getCreatedAt());
     }
 
@@ -82,21 +91,22 @@ public class CommentService {
             .isDeleted(false)
             .build();
 
-    // 리뷰의 댓글 수 증가
-    comment.getReview().increaseCommentCount();
-
     repository.save(comment);
 
-    // 알림 생성 로직 이 과정에서 comment의 저장은 영향이 가지 않도록 try catch문으로 잡는다
-    try {
-      log.info("알림 생성 시작");
-      notificationService.createNotifyByComment(
-          request.getReviewId(), request.getUserId(), request.getContent());
-      log.info("알림 생성 완료");
-    } catch (NotificationException e) {
-      // 예외 로깅만 하고 무시
-      log.debug("알림 생성 실패: {}", e.getMessage(), e);
-    }
+    // 리뷰의 댓글 수 증가 (UPDATE 한 번으로 원자적으로 반영)
+    reviewService.increaseCommentCount(request.getReviewId());
+    eventPublisher.publishEvent(new ReviewChangedEvent(request.getReviewId()));
+    eventPublisher.publishEvent(
+        ReviewActivityEvent.commented(request.getReviewId(), comment.getCreatedAt()));
+
+    // 알림은 커밋 이후 비동기로 저장되므로 알림 실패가 댓글 저장이나 응답 시간에 영향을 주지 않는다
+    eventPublisher.publishEvent(
+        new ReviewCommentedEvent(
+            request.getReviewId(),
+            comment.getReview().getUser().getId(),
+            comment.getReview().getContent(),
+            comment.getUser().getNickname(),
+            request.getContent()));
 
     return commentMapper.toDto(comment);
   }
@@ -108,8 +118,13 @@ public class CommentService {
             .orElseThrow(() -> new NoCommentException(ErrorCode.NOT_FOUND_COMMENT));
 
     if (comment.getUser().getId().equals(userId)) {
-      // 리뷰의 댓글 수 감소
-      comment.getReview().decreaseCommentCount();
+      // 이미 논리 삭제된 댓글은 댓글 수에서 빠져 있으므로 삭제되지 않은 경우에만 감소
+      if (!comment.getIsDeleted()) {
+        reviewService.decreaseCommentCount(comment.getReview().getId());
+        eventPublisher.publishEvent(new ReviewChangedEvent(comment.getReview().getId()));
+        eventPublisher.publishEvent(
+            ReviewActivityEvent.uncommented(comment.getReview().getId(), comment.getCreatedAt()));
+      }
 
       repository.deleteById(id);
     } else {
@@ -126,7 +141,10 @@ public class CommentService {
     if (comment.getUser().getId().equals(userId)) {
       // 이미 삭제된 상태가 아닐 때만 리뷰의 댓글 수 감소
       if (!comment.getIsDeleted()) {
-        comment.getReview().decreaseCommentCount();
+        reviewService.decreaseCommentCount(comment.getReview().getId());
+        eventPublisher.publishEvent(new ReviewChangedEvent(comment.getReview().getId()));
+        eventPublisher.publishEvent(
+            ReviewActivityEvent.uncommented(comment.getReview().getId(), comment.getCreatedAt()));
       }
 
       comment.markAsDeleted(true);
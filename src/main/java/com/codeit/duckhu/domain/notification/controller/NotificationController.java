@@ -9,11 +9,9 @@ import com.codeit.duckhu.domain.user.exception.UserException;
 import com.codeit.duckhu.global.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -36,8 +34,7 @@ public class NotificationController {
       HttpServletRequest httpservlet,
       @RequestParam UUID userId,
       @RequestParam(defaultValue = "DESC") String direction,
-      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-          Instant cursor,
+      @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "20") int limit) {
 
     User authenticatedUser = (User) httpservlet.getAttribute("authenticatedUser");
@@ -12,7 +12,6 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.Instant;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -68,11 +67,10 @@ public interface NotificationApi {
           String direction,
       @Parameter(
               name = "cursor",
-              description = "커서 페이지네이션 커서",
-              example = "2025-04-28T06:53:17.683Z",
+              description = "커서 페이지네이션 커서 (이전 응답의 nextCursor)",
               in = ParameterIn.QUERY)
           @RequestParam(required = false)
-          Instant cursor,
+          String cursor,
       @Parameter(name = "limit", description = "페이지 크기", example = "20", in = ParameterIn.QUERY)
           @RequestParam(defaultValue = "20")
           int limit);
@@ -31,6 +31,10 @@ public class Notification extends BaseUpdatableEntity {
   @Column(name = "confirmed", nullable = false)
   private boolean confirmed = false;
 
+  // 배치가 만드는 알림의 중복 방지 키 (재실행 시 같은 알림을 다시 만들지 않음)
+  @Column(name = "dedupe_key", length = 100, updatable = false)
+  private String dedupeKey;
+
   private Notification(UUID reviewId, UUID receiverId, String content, String reviewTitle) {
     this.reviewId = reviewId;
     this.receiverId = receiverId;
@@ -53,6 +57,12 @@ public class Notification extends BaseUpdatableEntity {
 
   public static Notification forPopularReview(
       UUID reviewId, UUID receiverId, PeriodType period, int rank, String reviewTitle) {
+    return new Notification(
+        reviewId, receiverId, popularReviewContent(period, rank), reviewTitle);
+  }
+
+  /** 인기 리뷰 선정 알림 문구 - 배치에서 알림을 일괄 저장할 때도 같은 문구를 사용합니다. */
+  public static String popularReviewContent(PeriodType period, int rank) {
     String periodName = period.name();
     switch (period) {
       case DAILY:
@@ -69,9 +79,12 @@ public class Notification extends BaseUpdatableEntity {
         break;
     }
 
-    String content = String.format("나의 리뷰가 %s 인기 리뷰 %d위에 선정되었습니다.", periodName, rank);
+    return String.format("나의 리뷰가 %s 인기 리뷰 %d위에 선정되었습니다.", periodName, rank);
+  }
 
-    return new Notification(reviewId, receiverId, content, reviewTitle);
+  /** 인기 리뷰 알림 중복 방지 키 - 같은 스냅샷 세대의 같은 기간/리뷰에는 알림을 한 번만 만듭니다. */
+  public static String popularReviewDedupeKey(UUID reviewId, PeriodType period, long generation) {
+    return "POPULAR_REVIEW:" + period.name() + ":" + generation + ":" + reviewId;
   }
 
   public void markAsConfirmed() {
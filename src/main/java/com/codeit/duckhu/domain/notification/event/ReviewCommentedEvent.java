@@ -0,0 +1,11 @@
+package com.codeit.duckhu.domain.notification.event;
+
+import java.util.UUID;
+
+/**
+ * 리뷰에 새 댓글이 작성되었음을 알리는 이벤트
+ *
+ * <p>댓글 작성 중 이미 조회한 값(수신자 ID, 리뷰 내용, 댓글 작성자 닉네임, 댓글 내용)을 담아 알림 생성에 그대로 사용합니다.
+ */
+public record ReviewCommentedEvent(
+    UUID reviewId, UUID receiverId, String reviewTitle, String triggerNickname, String comment) {}
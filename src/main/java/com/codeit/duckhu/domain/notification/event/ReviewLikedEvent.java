@@ -0,0 +1,12 @@
+package com.codeit.duckhu.domain.notification.event;
+
+import java.util.UUID;
+
+/**
+ * 리뷰에 새 좋아요가 추가되었음을 알리는 이벤트
+ *
+ * <p>좋아요 처리 중 이미 조회한 값(수신자 ID, 리뷰 내용, 좋아요를 누른 사용자 닉네임)을 담아, 알림 생성 시 리뷰/사용자를 다시 조회하지 않도록
+ * 합니다.
+ */
+public record ReviewLikedEvent(
+    UUID reviewId, UUID receiverId, String reviewTitle, String triggerNickname) {}
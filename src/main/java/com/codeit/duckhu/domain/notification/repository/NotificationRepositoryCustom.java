@@ -13,9 +13,11 @@ public interface NotificationRepositoryCustom {
 
   List<Notification> findDescNoCursor(UUID receiverId, Pageable pageable);
 
-  List<Notification> findDescWithCursor(UUID receiverId, Instant cursor, Pageable pageable);
+  List<Notification> findDescWithCursor(
+      UUID receiverId, Instant cursorCreatedAt, UUID cursorId, Pageable pageable);
 
   List<Notification> findAscNoCursor(UUID receiverId, Pageable pageable);
 
-  List<Notification> findAscWithCursor(UUID receiverId, Instant cursor, Pageable pageable);
+  List<Notification> findAscWithCursor(
+      UUID receiverId, Instant cursorCreatedAt, UUID cursorId, Pageable pageable);
 }
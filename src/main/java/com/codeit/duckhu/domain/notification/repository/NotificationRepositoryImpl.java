@@ -54,7 +54,7 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         SELECT n
           FROM Notification n
          WHERE n.receiverId = :receiverId
-         ORDER BY n.createdAt DESC
+         ORDER BY n.createdAt DESC, n.id DESC
       """,
             Notification.class)
         .setParameter("receiverId", receiverId)
@@ -65,17 +65,20 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> findDescWithCursor(UUID receiverId, Instant cursor, Pageable pageable) {
+  public List<Notification> findDescWithCursor(
+      UUID receiverId, Instant cursorCreatedAt, UUID cursorId, Pageable pageable) {
     return em.createQuery(
             """
         SELECT n
           FROM Notification n
          WHERE n.receiverId = :receiverId
-           AND n.createdAt < :cursor
+           AND (n.createdAt, n.id) < (:cursorCreatedAt, :cursorId)
+         ORDER BY n.createdAt DESC, n.id DESC
       """,
             Notification.class)
         .setParameter("receiverId", receiverId)
-        .setParameter("cursor", cursor)
+        .setParameter("cursorCreatedAt", cursorCreatedAt)
+        .setParameter("cursorId", cursorId)
         .setFirstResult((int) pageable.getOffset())
         .setMaxResults(pageable.getPageSize())
         .getResultList();
@@ -89,7 +92,7 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         SELECT n
           FROM Notification n
          WHERE n.receiverId = :receiverId
-         ORDER BY n.createdAt ASC
+         ORDER BY n.createdAt ASC, n.id ASC
       """,
             Notification.class)
         .setParameter("receiverId", receiverId)
@@ -100,18 +103,20 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> findAscWithCursor(UUID receiverId, Instant cursor, Pageable pageable) {
+  public List<Notification> findAscWithCursor(
+      UUID receiverId, Instant cursorCreatedAt, UUID cursorId, Pageable pageable) {
     return em.createQuery(
             """
         SELECT n
           FROM Notification n
          WHERE n.receiverId = :receiverId
-           AND n.createdAt > :cursor
-         ORDER BY n.createdAt ASC
+           AND (n.createdAt, n.id) > (:cursorCreatedAt, :cursorId)
+         ORDER BY n.createdAt ASC, n.id ASC
       """,
             Notification.class)
         .setParameter("receiverId", receiverId)
-        .setParameter("cursor", cursor)
+        .setParameter("cursorCreatedAt", cursorCreatedAt)
+        .setParameter("cursorId", cursorId)
         .setFirstResult((int) pageable.getOffset())
         .setMaxResults(pageable.getPageSize())
         .getResultList();
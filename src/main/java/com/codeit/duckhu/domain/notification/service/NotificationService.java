@@ -3,7 +3,6 @@ package com.codeit.duckhu.domain.notification.service;
 import com.codeit.duckhu.domain.notification.dto.CursorPageResponseNotificationDto;
 import com.codeit.duckhu.domain.notification.dto.NotificationDto;
 import com.codeit.duckhu.global.type.PeriodType;
-import java.time.Instant;
 import java.util.UUID;
 
 public interface NotificationService {
@@ -24,7 +23,7 @@ public interface NotificationService {
 
   // 목록 조회를 위한 메서드
   CursorPageResponseNotificationDto getNotifications(
-      UUID receiverId, String direction, Instant cursor, int limit);
+      UUID receiverId, String direction, String cursor, int limit);
 
   // 배치 삭제
   void deleteConfirmedNotificationsOlderThanAWeek();
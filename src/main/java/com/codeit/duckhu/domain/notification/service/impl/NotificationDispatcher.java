@@ -0,0 +1,163 @@
+package com.codeit.duckhu.domain.notification.service.impl;
+
+import com.codeit.duckhu.domain.notification.entity.Notification;
+import com.codeit.duckhu.domain.notification.event.ReviewCommentedEvent;
+import com.codeit.duckhu.domain.notification.event.ReviewLikedEvent;
+import com.codeit.duckhu.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요/댓글 알림 비동기 저장
+ *
+ * <p>좋아요/댓글 트랜잭션이 커밋된 뒤 이벤트를 받아 크기가 제한된 큐에 넣고, 전용 스레드 하나가 큐에 쌓인 알림을 모아 한 트랜잭션으로 일괄
+ * 저장합니다. 알림 저장이 좋아요/댓글 응답 시간에 포함되지 않고, 롤백된 요청에는 알림이 생기지 않습니다.
+ *
+ * <p>큐가 가득 차면 알림은 버려지고 {@code notification.dispatch.dropped}가 증가합니다. 큐 길이는 {@code
+ * notification.dispatch.queue.depth}, 커밋부터 저장까지 걸린 시간은 {@code notification.dispatch.lag}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+  private static final long POLL_TIMEOUT_MILLIS = 500;
+
+  private final NotificationRepository notificationRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<PendingNotification> queue;
+  private final int batchSize;
+  private final ExecutorService worker;
+
+  private final Counter savedCounter;
+  private final Counter failedCounter;
+  private final Counter droppedCounter;
+  private final Timer lagTimer;
+
+  private volatile boolean running = true;
+
+  public NotificationDispatcher(
+      NotificationRepository notificationRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${duckhu.notification.dispatch.queue-capacity:10000}") int queueCapacity,
+      @Value("${duckhu.notification.dispatch.batch-size:100}") int batchSize) {
+    this.notificationRepository = notificationRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+
+    Gauge.builder("notification.dispatch.queue.depth", queue, BlockingQueue::size)
+        .register(meterRegistry);
+    this.savedCounter = meterRegistry.counter("notification.dispatch.saved");
+    this.failedCounter = meterRegistry.counter("notification.dispatch.failed");
+    this.droppedCounter = meterRegistry.counter("notification.dispatch.dropped");
+    this.lagTimer = meterRegistry.timer("notification.dispatch.lag");
+
+    this.worker =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "notification-dispatcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    worker.submit(this::drainLoop);
+    log.info("[알림 비동기 저장 설정] 큐 크기: {}, 배치 크기: {}", queueCapacity, batchSize);
+  }
+
+  // 롤백된 좋아요/댓글에는 알림을 만들지 않도록 커밋 이후에 큐에 넣음 (트랜잭션 밖에서 발행되면 즉시 처리)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onReviewLiked(ReviewLikedEvent event) {
+    enqueue(
+        Notification.forLike(
+            event.reviewId(), event.receiverId(), event.triggerNickname(), event.reviewTitle()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onReviewCommented(ReviewCommentedEvent event) {
+    enqueue(
+        Notification.forComment(
+            event.reviewId(),
+            event.receiverId(),
+            event.triggerNickname(),
+            event.comment(),
+            event.reviewTitle()));
+  }
+
+  private void enqueue(Notification notification) {
+    if (!queue.offer(new PendingNotification(notification, System.nanoTime()))) {
+      droppedCounter.increment();
+      log.warn(
+          "[알림 큐 가득 참] 알림을 저장하지 않고 버립니다. reviewId: {}, receiverId: {}",
+          notification.getReviewId(),
+          notification.getReceiverId());
+    }
+  }
+
+  // 종료 요청 후에도 큐에 남은 알림은 모두 저장한 뒤 끝냄
+  private void drainLoop() {
+    List<PendingNotification> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingNotification first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingNotification> batch) {
+    List<Notification> notifications =
+        batch.stream().map(PendingNotification::notification).toList();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> notificationRepository.saveAll(notifications));
+    } catch (Exception e) {
+      failedCounter.increment(batch.size());
+      log.error("[알림 일괄 저장 실패] 건수: {}", batch.size(), e);
+      return;
+    }
+
+    long now = System.nanoTime();
+    batch.forEach(pending -> lagTimer.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+    savedCounter.increment(batch.size());
+    log.debug("[알림 일괄 저장 완료] 건수: {}", batch.size());
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    worker.shutdown();
+    if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("[알림 비동기 저장 종료 지연] 남은 알림 수: {}", queue.size());
+      worker.shutdownNow();
+    }
+  }
+
+  private record PendingNotification(Notification notification, long enqueuedAt) {}
+}
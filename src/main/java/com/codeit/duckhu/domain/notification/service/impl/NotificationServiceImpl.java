@@ -17,6 +17,8 @@ import com.codeit.duckhu.domain.user.exception.UserException;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
 import com.codeit.duckhu.global.exception.DomainException;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
 import com.codeit.duckhu.global.type.PeriodType;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
@@ -33,6 +35,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @Service
@@ -188,13 +191,13 @@ public class NotificationServiceImpl implements NotificationService {
    *
    * @param receiverId 알림 대상 사용자 ID
    * @param direction 목록 정렬 방향
-   * @param cursor 이전에 봤던 마지막 알림
+   * @param cursor 이전에 봤던 마지막 알림의 커서 토큰 (createdAt, id)
    * @param limit 알림 목록 최대 개수
    * @return 생성된 알림 목록
    */
   @Override
   public CursorPageResponseNotificationDto getNotifications(
-      UUID receiverId, String direction, Instant cursor, int limit) {
+      UUID receiverId, String direction, String cursor, int limit) {
     log.debug("getNotifications.start receiverId={} dir={} cursor={} limit={}", receiverId, direction, cursor, limit);
     // 1) 정렬 방향 & 페이징 설정
     Sort.Direction sortDir =
@@ -203,16 +206,19 @@ public class NotificationServiceImpl implements NotificationService {
 
     // 2) JPQL 메서드 분기 호출
     List<Notification> raw;
-    if ("ASC".equalsIgnoreCase(direction)) {
+    if (!StringUtils.hasText(cursor)) {
       raw =
-          (cursor == null)
+          "ASC".equalsIgnoreCase(direction)
               ? notificationRepository.findAscNoCursor(receiverId, pageable)
-              : notificationRepository.findAscWithCursor(receiverId, cursor, pageable);
+              : notificationRepository.findDescNoCursor(receiverId, pageable);
     } else {
+      CursorKeys keys = CursorCodec.decode(cursor, 2);
       raw =
-          (cursor == null)
-              ? notificationRepository.findDescNoCursor(receiverId, pageable)
-              : notificationRepository.findDescWithCursor(receiverId, cursor, pageable);
+          "ASC".equalsIgnoreCase(direction)
+              ? notificationRepository.findAscWithCursor(
+                  receiverId, keys.getInstant(0), keys.getUuid(1), pageable)
+              : notificationRepository.findDescWithCursor(
+                  receiverId, keys.getInstant(0), keys.getUuid(1), pageable);
     }
 
     // 3) hasNext 판단 및 잘라내기
@@ -224,8 +230,10 @@ public class NotificationServiceImpl implements NotificationService {
         page.stream().map(notificationMapper::toDto).collect(Collectors.toList());
 
     // 5) nextCursor/nextAfter
-    Instant nextAfter = hasNext ? page.get(page.size() - 1).getCreatedAt() : null;
-    String nextCursor = nextAfter != null ? nextAfter.toString() : null;
+    Notification last = hasNext ? page.get(page.size() - 1) : null;
+    Instant nextAfter = last != null ? last.getCreatedAt() : null;
+    String nextCursor =
+        last != null ? CursorCodec.encode(last.getCreatedAt(), last.getId()) : null;
 
     // 6) 전체 카운트
     long total = notificationRepository.countByReceiverId(receiverId);
@@ -0,0 +1,36 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 리뷰 Job 실행마다 스냅샷 세대 번호를 발급해 Job ExecutionContext에 넣습니다. 파티션 worker를 포함한 모든 Step이 같은 세대로
+ * 쓰고, 공개 Step이 이 세대로 포인터를 바꿉니다. 실패한 Job을 재시작하면 새로 발급하지 않고 이전 실행의 세대를 이어서 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularReviewGenerationListener implements JobExecutionListener {
+
+  static final String GENERATION = "generation";
+
+  private final RankingGenerationStore rankingGenerationStore;
+
+  @Override
+  public void beforeJob(JobExecution jobExecution) {
+    // 재시작이면 이전 실행의 세대를 그대로 사용 (완료된 파티션의 행과 보낸 알림의 중복 방지 키가 그 세대에 있음)
+    if (jobExecution.getExecutionContext().containsKey(GENERATION)) {
+      log.info(
+          "인기 리뷰 스냅샷 세대 재사용: generation={}",
+          jobExecution.getExecutionContext().getLong(GENERATION));
+      return;
+    }
+    long generation = rankingGenerationStore.nextGeneration();
+    jobExecution.getExecutionContext().putLong(GENERATION, generation);
+    log.info("인기 리뷰 스냅샷 세대 발급: generation={}", generation);
+  }
+}
@@ -1,51 +1,41 @@
 package com.codeit.duckhu.domain.review.batch;
 
+import com.codeit.duckhu.domain.review.dto.PopularReviewActivity;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
-import com.codeit.duckhu.domain.review.entity.Review;
-import com.codeit.duckhu.global.exception.DomainException;
-import com.codeit.duckhu.global.exception.ErrorCode;
-import com.codeit.duckhu.global.type.PeriodType;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @StepScope
 @RequiredArgsConstructor
 @Slf4j
-public class PopularReviewItemProcessor implements ItemProcessor<Review, PopularReview> {
+public class PopularReviewItemProcessor
+    implements ItemProcessor<PopularReviewActivity, PopularReview> {
 
-  @Value("#{jobParameters['period']}")
-  private String periodParam;
+  private final ReviewRepository reviewRepository;
 
+  /** 점수, 기간, 순위는 reader가 기간 내 활동으로 계산해 오므로, 여기서는 인기 리뷰 행으로 옮기기만 합니다. */
   @Override
-  public PopularReview process(Review review) throws Exception {
-    if (periodParam == null || periodParam.isEmpty()) {
-      log.debug("period 파라미터 누락");
-      throw new DomainException(ErrorCode.BATCH_PARAMETER_ERROR);
-    }
-
-    PeriodType period = PeriodType.valueOf(periodParam);
-
-    double score = (review.getLikeCount() * 0.3) + (review.getCommentCount() * 0.7);
-    
+  public PopularReview process(PopularReviewActivity activity) throws Exception {
     // 스코어가 0인 리뷰는 처리하지 않음
-    if (score <= 0) {
-      log.debug("스코어가 0 이하인 리뷰 제외: reviewId={}, score={}", review.getId(), score);
+    if (activity.score() <= 0) {
+      log.debug("스코어가 0 이하인 리뷰 제외: reviewId={}, score={}", activity.reviewId(), activity.score());
       return null;
     }
 
     return PopularReview.builder()
-        .review(review)
-        .period(period) // 주입된 기간
-        .score(score)
-        .rank(0) // 초기화 (나중에 Step에서 랭킹 정렬 처리)
-        .likeCount(review.getLikeCount())
-        .commentCount(review.getCommentCount())
-        .reviewRating((double) review.getRating())
+        // 저장에는 ID만 필요하므로 리뷰를 조회하지 않고 참조만 얻음
+        .review(reviewRepository.getReferenceById(activity.reviewId()))
+        .period(activity.period())
+        .score(activity.score())
+        .rank(activity.rank())
+        .likeCount(activity.likeCount())
+        .commentCount(activity.commentCount())
+        .reviewRating(activity.reviewRating())
         .build();
   }
 }
@@ -1,10 +1,132 @@
 package com.codeit.duckhu.domain.review.batch;
 
-import com.codeit.duckhu.domain.review.entity.Review;
-import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-
-@StepScope
-@RequiredArgsConstructor
-public class PopularReviewItemReader extends JpaPagingItemReader<Review> {}
+import com.codeit.duckhu.domain.review.dto.PopularReviewActivity;
+import com.codeit.duckhu.global.batch.PeriodWindows;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+
+/**
+ * 인기 리뷰 집계 reader
+ *
+ * <p>기간 안에 생긴 review_likes, comments 행만 리뷰별로 세어 점수까지 SQL에서 계산합니다. 활동이 없는 리뷰는 결과에 나오지 않으므로
+ * DAILY/WEEKLY 배치는 해당 기간에 활동이 있었던 리뷰만 읽습니다.
+ *
+ * <p>여러 기간을 넘기면 활동 행을 {@link PeriodWindows}로 자신이 속한 모든 기간에 펼쳐, 원본 테이블을 한 번만 읽고 (기간, 리뷰) 단위
+ * 결과를 기간 순서대로 반환합니다.
+ *
+ * <p>순위도 같은 쿼리에서 {@code ROW_NUMBER() OVER (PARTITION BY period ORDER BY score DESC, review_id)}로 매겨 읽어 오므로, 저장한
+ * 행을 다시 읽어 순위를 매기는 별도 Step이 필요 없습니다. 단, 리뷰 ID 범위를 지정해 일부 파티션만 읽는 경우에는 범위 안의 순위가 전체 순위가
+ * 아니므로 순위를 0으로 읽고, 모든 파티션이 끝난 뒤 {@link PopularReviewRankTasklet}이 한 번에 매깁니다.
+ *
+ * <p>결과는 페이지 단위(LIMIT/OFFSET)로 다시 조회하지 않고 커서 하나로 끝까지 읽습니다. PostgreSQL 드라이버는 autocommit 커넥션에서
+ * fetch size를 무시하고 결과 전체를 메모리에 올리므로, 커서용 커넥션의 autocommit을 끄고 fetch size만큼씩 서버 측 커서에서 가져옵니다.
+ */
+public class PopularReviewItemReader extends JdbcCursorItemReader<PopularReviewActivity> {
+
+  public static final double LIKE_WEIGHT = 0.3;
+  public static final double COMMENT_WEIGHT = 0.7;
+
+  static final int DEFAULT_FETCH_SIZE = 500;
+
+  static final String SQL =
+      """
+      SELECT s.review_id,
+             s.period,
+             s.rating,
+             s.like_count,
+             s.comment_count,
+             s.score,
+             %s AS ranking
+        FROM (SELECT a.review_id,
+                     w.period,
+                     r.rating,
+                     SUM(a.likes)    AS like_count,
+                     SUM(a.comments) AS comment_count,
+                     SUM(a.likes) * %s + SUM(a.comments) * %s AS score
+                FROM (SELECT review_id, created_at, 1 AS likes, 0 AS comments
+                        FROM review_likes
+                       WHERE created_at <= ?%s
+                      UNION ALL
+                      SELECT review_id, created_at, 0 AS likes, 1 AS comments
+                        FROM comments
+                       WHERE is_deleted = FALSE AND created_at <= ?%s) a
+                JOIN %s ON a.created_at >= w.window_start
+                JOIN reviews r ON r.id = a.review_id AND r.is_deleted = FALSE
+               GROUP BY a.review_id, w.period, r.rating) s
+       ORDER BY s.period, ranking, s.review_id
+      """;
+
+  static final String RANK_EXPRESSION =
+      "ROW_NUMBER() OVER (PARTITION BY s.period ORDER BY s.score DESC, s.review_id)";
+
+  public PopularReviewItemReader(DataSource dataSource, EnumSet<PeriodType> periods, Instant now) {
+    this(dataSource, periods, now, null, null);
+  }
+
+  /**
+   * @param fromReviewId 읽을 리뷰 ID 하한 (포함, null이면 제한 없음)
+   * @param toReviewId 읽을 리뷰 ID 상한 (제외, null이면 제한 없음)
+   */
+  public PopularReviewItemReader(
+      DataSource dataSource,
+      EnumSet<PeriodType> periods,
+      Instant now,
+      UUID fromReviewId,
+      UUID toReviewId) {
+    Timestamp to = Timestamp.from(now);
+    StringBuilder rangeFilter = new StringBuilder();
+    List<Object> rangeArgs = new ArrayList<>(2);
+    if (fromReviewId != null) {
+      rangeFilter.append(" AND review_id >= ?");
+      rangeArgs.add(fromReviewId);
+    }
+    if (toReviewId != null) {
+      rangeFilter.append(" AND review_id < ?");
+      rangeArgs.add(toReviewId);
+    }
+    boolean partial = !rangeArgs.isEmpty();
+
+    List<Object> args = new ArrayList<>();
+    args.add(to);
+    args.addAll(rangeArgs);
+    args.add(to);
+    args.addAll(rangeArgs);
+    args.addAll(PeriodWindows.startArgs(periods, now));
+
+    setName("popularReviewItemReader");
+    setDataSource(dataSource);
+    setSql(
+        SQL.formatted(
+            partial ? "0" : RANK_EXPRESSION,
+            LIKE_WEIGHT,
+            COMMENT_WEIGHT,
+            rangeFilter,
+            rangeFilter,
+            PeriodWindows.table(periods)));
+    setFetchSize(DEFAULT_FETCH_SIZE);
+    setConnectionAutoCommit(false);
+    setPreparedStatementSetter(
+        ps -> {
+          for (int i = 0; i < args.size(); i++) {
+            ps.setObject(i + 1, args.get(i));
+          }
+        });
+    setRowMapper(
+        (rs, rowNum) ->
+            new PopularReviewActivity(
+                rs.getObject("review_id", UUID.class),
+                PeriodType.valueOf(rs.getString("period")),
+                rs.getDouble("rating"),
+                rs.getInt("like_count"),
+                rs.getInt("comment_count"),
+                rs.getDouble("score"),
+                rs.getInt("ranking")));
+  }
+}
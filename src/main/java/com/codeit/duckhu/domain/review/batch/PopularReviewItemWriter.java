@@ -1,11 +1,13 @@
 package com.codeit.duckhu.domain.review.batch;
 
 import com.codeit.duckhu.domain.review.entity.PopularReview;
-import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,11 +15,31 @@ import org.springframework.stereotype.Component;
 @StepScope
 public class PopularReviewItemWriter implements ItemWriter<PopularReview> {
 
-  private final PopularReviewRepository popularReviewRepository;
+  private final RankingSnapshotWriter rankingSnapshotWriter;
+
+  // 이번 Job 실행의 스냅샷 세대 (PopularReviewGenerationListener가 발급)
+  @Value("#{jobExecutionContext['generation']}")
+  private long generation;
 
   @Override
   public void write(Chunk<? extends PopularReview> chunk) throws Exception {
-    popularReviewRepository.saveAll(chunk.getItems());
+    rankingSnapshotWriter.insert(
+        RankingSnapshotTable.POPULAR_REVIEW,
+        generation,
+        chunk.getItems(),
+        popularReview ->
+            new Object[] {
+              popularReview.getReview().getId(),
+              popularReview.getPeriod().name(),
+              popularReview.getReviewRating(),
+              popularReview.getLikeCount(),
+              popularReview.getCommentCount(),
+              popularReview.getScore(),
+              popularReview.getRank()
+            });
   }
-}
 
+  void setGeneration(long generation) {
+    this.generation = generation;
+  }
+}
@@ -5,6 +5,7 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,13 +14,33 @@ import org.springframework.context.annotation.Configuration;
 public class PopularReviewJobConfig {
   private final JobRepository jobRepository;
   private final Step popularReviewStep;
-  private final Step rankUpdateStep;
+  private final Step popularReviewPartitionStep;
+  private final Step popularReviewRankStep;
+  private final Step popularReviewPublishStep;
+  private final Step popularReviewNotifyStep;
+  private final PopularReviewGenerationListener popularReviewGenerationListener;
 
+  // 1보다 크면 파티션으로 나눠 집계한 뒤 순위 Step에서 한 번에 순위를 매김
+  @Value("${duckhu.batch.popular-review.partitions:1}")
+  private int partitions;
+
+  // 모든 Step이 실행마다 발급한 새 세대로 저장하고 한 번에 공개한 뒤, 공개된 상위 리뷰 작성자에게 알림
   @Bean
   public Job popularReviewJob() {
+    if (partitions > 1) {
+      return new JobBuilder("popularReviewJob", jobRepository)
+          .listener(popularReviewGenerationListener)
+          .start(popularReviewPartitionStep)
+          .next(popularReviewRankStep)
+          .next(popularReviewPublishStep)
+          .next(popularReviewNotifyStep)
+          .build();
+    }
     return new JobBuilder("popularReviewJob", jobRepository)
+        .listener(popularReviewGenerationListener)
         .start(popularReviewStep)
-        .next(rankUpdateStep)
+        .next(popularReviewPublishStep)
+        .next(popularReviewNotifyStep)
         .build();
   }
 }
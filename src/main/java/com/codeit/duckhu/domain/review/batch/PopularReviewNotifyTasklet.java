@@ -0,0 +1,147 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import com.codeit.duckhu.domain.notification.entity.Notification;
+import com.codeit.duckhu.global.entity.UuidV7;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 실행에서 공개한 인기 리뷰 상위 N위 작성자에게 알림을 일괄 저장하는 tasklet
+ *
+ * <p>공개 Step 다음에 실행되며, 기간별 상위 N위 리뷰를 작성자와 리뷰 내용까지 쿼리 한 번으로 읽은 뒤 알림을 JDBC 배치 INSERT로 저장합니다.
+ * 리뷰마다 서비스를 호출해 리뷰를 다시 조회하지 않습니다. 공개 Step이 이번 세대로 포인터를 바꾼 기간만 대상으로 하므로, 더 새로운 세대에 밀려 공개되지
+ * 않은 순위로는 알림을 보내지 않습니다.
+ *
+ * <p>알림마다 (리뷰, 기간, 세대) 중복 방지 키를 넣고 같은 키가 이미 있으면 건너뛰므로, 실패한 Job을 재시작해 이 Step이 다시 실행돼도 같은 알림이
+ * 두 번 가지 않습니다. 건너뛴 알림 수는 Step의 filter 건수로 남습니다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class PopularReviewNotifyTasklet implements Tasklet {
+
+  static final String TOP_SQL =
+      """
+      SELECT p.period, p.rank, r.id AS review_id, r.user_id, r.content
+        FROM popular_reviews p
+        JOIN reviews r ON r.id = p.review_id AND r.is_deleted = FALSE
+       WHERE p.generation = ? AND p.period IN (%s) AND p.rank BETWEEN 1 AND ?
+       ORDER BY p.period, p.rank
+      """;
+
+  static final String INSERT_SQL =
+      "INSERT INTO notifications"
+          + " (id, review_id, user_id, review_title, content, confirmed, created_at, updated_at,"
+          + " dedupe_key)"
+          + " SELECT CAST(? AS UUID), CAST(? AS UUID), CAST(? AS UUID), CAST(? AS VARCHAR(255)),"
+          + " CAST(? AS VARCHAR(255)), FALSE, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP),"
+          + " CAST(? AS VARCHAR(100))"
+          + " WHERE NOT EXISTS (SELECT 1 FROM notifications WHERE dedupe_key = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("#{jobParameters['period']}")
+  private String periodParam;
+
+  @Value("#{jobExecutionContext['generation']}")
+  private long generation;
+
+  // 공개 Step이 실제로 이번 세대를 공개한 기간 (PopularReviewPublishTasklet.PUBLISHED_PERIODS)
+  @Value("#{jobExecutionContext['publishedPeriods']}")
+  private String publishedPeriods;
+
+  // 기간별로 알림을 보낼 순위 (0이면 알림을 보내지 않음)
+  @Value("${duckhu.batch.popular-review.notify-top:10}")
+  private int notifyTop;
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+    if (notifyTop <= 0) {
+      return RepeatStatus.FINISHED;
+    }
+    EnumSet<PeriodType> periods = PopularReviewPeriods.resolve(periodParam);
+    periods.retainAll(PopularReviewPeriods.split(publishedPeriods));
+    if (periods.isEmpty()) {
+      log.info("인기 리뷰 알림 생략: 이번 세대가 공개된 기간 없음 - generation={}", generation);
+      return RepeatStatus.FINISHED;
+    }
+    List<Object> args = new ArrayList<>(periods.size() + 2);
+    args.add(generation);
+    periods.forEach(period -> args.add(period.name()));
+    args.add(notifyTop);
+
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> notifications =
+        jdbcTemplate.query(
+            TOP_SQL.formatted(String.join(", ", Collections.nCopies(periods.size(), "?"))),
+            (rs, rowNum) -> {
+              PeriodType period = PeriodType.valueOf(rs.getString("period"));
+              UUID reviewId = rs.getObject("review_id", UUID.class);
+              String dedupeKey = Notification.popularReviewDedupeKey(reviewId, period, generation);
+              return new Object[] {
+                UuidV7.randomUUID(),
+                reviewId,
+                rs.getObject("user_id", UUID.class),
+                rs.getString("content"),
+                Notification.popularReviewContent(period, rs.getInt("rank")),
+                now,
+                now,
+                dedupeKey,
+                dedupeKey
+              };
+            },
+            args.toArray());
+
+    int inserted = 0;
+    if (!notifications.isEmpty()) {
+      for (int count : jdbcTemplate.batchUpdate(INSERT_SQL, notifications)) {
+        // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 봄
+        inserted += count != 0 ? 1 : 0;
+      }
+    }
+
+    contribution.incrementWriteCount(inserted);
+    contribution.incrementFilterCount(notifications.size() - inserted);
+    log.info(
+        "인기 리뷰 알림 저장: periods={}, generation={}, 상위 {}위, 저장 {}건, 중복 {}건",
+        periods,
+        generation,
+        notifyTop,
+        inserted,
+        notifications.size() - inserted);
+    return RepeatStatus.FINISHED;
+  }
+
+  void setPeriodParam(String periodParam) {
+    this.periodParam = periodParam;
+  }
+
+  void setGeneration(long generation) {
+    this.generation = generation;
+  }
+
+  void setPublishedPeriods(String publishedPeriods) {
+    this.publishedPeriods = publishedPeriods;
+  }
+
+  void setNotifyTop(int notifyTop) {
+    this.notifyTop = notifyTop;
+  }
+}
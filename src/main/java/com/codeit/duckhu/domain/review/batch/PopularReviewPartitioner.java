@@ -0,0 +1,67 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 리뷰 집계 파티셔너
+ *
+ * <p>리뷰 ID를 {@code NTILE}로 리뷰 수가 비슷한 구간으로 나눠 파티션마다 [fromReviewId, toReviewId) 범위를 넘깁니다. 첫 구간은 하한,
+ * 마지막 구간은 상한을 두지 않아 파티션을 나눈 뒤 생긴 리뷰도 빠지지 않습니다. 모든 파티션이 같은 시각을 기준으로 기간을 계산하도록 기준 시각도
+ * 함께 넘깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularReviewPartitioner implements Partitioner {
+
+  static final String FROM_REVIEW_ID = "fromReviewId";
+  static final String TO_REVIEW_ID = "toReviewId";
+  static final String NOW = "now";
+
+  static final String BOUNDARY_SQL =
+      """
+      SELECT MIN(id) AS lower_bound
+        FROM (SELECT id, NTILE(?) OVER (ORDER BY id) AS bucket
+                FROM reviews
+               WHERE is_deleted = FALSE) t
+       GROUP BY bucket
+       ORDER BY lower_bound
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    long now = Instant.now().toEpochMilli();
+    List<UUID> lowerBounds =
+        jdbcTemplate.query(
+            BOUNDARY_SQL, (rs, rowNum) -> rs.getObject("lower_bound", UUID.class), gridSize);
+
+    // 리뷰가 없으면 범위 없는 파티션 하나로 처리
+    int partitionCount = Math.max(lowerBounds.size(), 1);
+    Map<String, ExecutionContext> partitions = new HashMap<>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      ExecutionContext context = new ExecutionContext();
+      if (i > 0) {
+        context.putString(FROM_REVIEW_ID, lowerBounds.get(i).toString());
+      }
+      if (i < partitionCount - 1) {
+        context.putString(TO_REVIEW_ID, lowerBounds.get(i + 1).toString());
+      }
+      context.putLong(NOW, now);
+      partitions.put("partition" + i, context);
+    }
+    log.info("인기 리뷰 파티션 분할: 요청 {}개, 생성 {}개", gridSize, partitionCount);
+    return partitions;
+  }
+}
@@ -0,0 +1,49 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+/** 인기 리뷰 배치의 period 잡 파라미터 해석 */
+final class PopularReviewPeriods {
+
+  /** 모든 기간을 한 번의 실행으로 집계하는 period 파라미터 값 */
+  static final String ALL = "ALL";
+
+  private PopularReviewPeriods() {}
+
+  /**
+   * period 파라미터를 집계 대상 기간으로 변환합니다.
+   *
+   * @param periodParam 기간 이름 또는 {@link #ALL}
+   * @throws DomainException 값이 없거나 알 수 없는 기간인 경우
+   */
+  static EnumSet<PeriodType> resolve(String periodParam) {
+    if (ALL.equals(periodParam)) {
+      return EnumSet.allOf(PeriodType.class);
+    }
+    try {
+      return EnumSet.of(PeriodType.valueOf(periodParam));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new DomainException(ErrorCode.BATCH_PARAMETER_ERROR);
+    }
+  }
+
+  /** 기간 목록을 Job ExecutionContext에 넣을 문자열로 만듭니다. (예: "DAILY,WEEKLY") */
+  static String join(EnumSet<PeriodType> periods) {
+    return periods.stream().map(PeriodType::name).collect(Collectors.joining(","));
+  }
+
+  /** {@link #join}으로 만든 문자열을 기간 목록으로 되돌립니다. null이나 빈 문자열이면 빈 목록입니다. */
+  static EnumSet<PeriodType> split(String periods) {
+    EnumSet<PeriodType> result = EnumSet.noneOf(PeriodType.class);
+    if (periods == null || periods.isBlank()) {
+      return result;
+    }
+    Arrays.stream(periods.split(",")).map(PeriodType::valueOf).forEach(result::add);
+    return result;
+  }
+}
@@ -0,0 +1,80 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.util.EnumSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 실행에서 저장한 인기 리뷰 세대를 공개하는 tasklet
+ *
+ * <p>순위 Step 다음에 실행되며, 대상 기간의 포인터를 한 트랜잭션에서 모두 바꿉니다. 앞선 Step이 실패하면 실행되지 않으므로 조회는 계속 이전
+ * 세대를 보고, 공개되지 않은 행은 {@link RankingGenerationStore#collectGarbage()}가 정리합니다.
+ *
+ * <p>더 새로운 세대가 이미 공개돼 포인터를 바꾸지 못한 기간도 있으므로, 실제로 이번 세대가 공개된 기간만 Job ExecutionContext의 {@value
+ * #PUBLISHED_PERIODS}에 남기고 알림 Step은 그 기간에만 알림을 보냅니다. 공개된 기간이 하나도 없으면 Step을 실패시킵니다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class PopularReviewPublishTasklet implements Tasklet {
+
+  static final String PUBLISHED_PERIODS = "publishedPeriods";
+
+  private final RankingGenerationStore rankingGenerationStore;
+
+  @Value("#{jobParameters['period']}")
+  private String periodParam;
+
+  @Value("#{jobExecutionContext['generation']}")
+  private long generation;
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+    EnumSet<PeriodType> periods = PopularReviewPeriods.resolve(periodParam);
+    EnumSet<PeriodType> published = EnumSet.noneOf(PeriodType.class);
+    for (PeriodType period : periods) {
+      // 재시작으로 다시 실행되면 이미 이 세대로 바뀐 포인터는 공개된 것으로 봄
+      if (rankingGenerationStore.publish(RankingSnapshotTable.POPULAR_REVIEW, period, generation)
+          || rankingGenerationStore.isCurrent(
+              RankingSnapshotTable.POPULAR_REVIEW, period, generation)) {
+        published.add(period);
+      }
+    }
+    if (published.isEmpty()) {
+      throw new IllegalStateException(
+          "인기 리뷰 세대를 공개한 기간이 없습니다: periods=" + periods + ", generation=" + generation);
+    }
+
+    chunkContext
+        .getStepContext()
+        .getStepExecution()
+        .getJobExecution()
+        .getExecutionContext()
+        .putString(PUBLISHED_PERIODS, PopularReviewPeriods.join(published));
+    log.info(
+        "인기 리뷰 세대 공개: periods={}, published={}, generation={}",
+        periods,
+        published,
+        generation);
+    return RepeatStatus.FINISHED;
+  }
+
+  void setPeriodParam(String periodParam) {
+    this.periodParam = periodParam;
+  }
+
+  void setGeneration(long generation) {
+    this.generation = generation;
+  }
+}
@@ -0,0 +1,76 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티션으로 나눠 저장한 인기 리뷰의 순위를 한 번에 매기는 tasklet
+ *
+ * <p>파티션 worker는 자기 범위 안의 순위만 알 수 있어 rank 0으로 저장합니다. 모든 파티션이 끝나면 이번 실행의 세대에 속한 행을 기간별로
+ * {@code ROW_NUMBER()}로 번호 매겨, 행을 애플리케이션으로 읽어 오지 않고 DB 안에서 문장 하나로 rank 컬럼을 갱신합니다. 아직 공개 전인 세대라
+ * 조회에는 순위가 매겨지는 중간 상태가 보이지 않습니다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class PopularReviewRankTasklet implements Tasklet {
+
+  // UPDATE ... FROM과 같은 집합 단위 갱신 - 표준 MERGE라 PostgreSQL(15+)과 테스트용 H2에서 같은 문장으로 실행됨
+  static final String RANK_SQL =
+      """
+      MERGE INTO popular_reviews p
+      USING (SELECT id,
+                    ROW_NUMBER() OVER (PARTITION BY period ORDER BY score DESC, review_id) AS rn
+               FROM popular_reviews
+              WHERE generation = ? AND period IN (%s)) s
+         ON p.id = s.id
+       WHEN MATCHED THEN UPDATE SET rank = s.rn
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("#{jobParameters['period']}")
+  private String periodParam;
+
+  @Value("#{jobExecutionContext['generation']}")
+  private long generation;
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+    EnumSet<PeriodType> periods = PopularReviewPeriods.resolve(periodParam);
+    List<Object> args = new ArrayList<>(periods.size() + 1);
+    args.add(generation);
+    periods.forEach(period -> args.add(period.name()));
+
+    int ranked =
+        jdbcTemplate.update(
+            RANK_SQL.formatted(String.join(", ", Collections.nCopies(periods.size(), "?"))),
+            args.toArray());
+
+    contribution.incrementWriteCount(ranked);
+    log.info("인기 리뷰 순위 갱신: periods={}, generation={}, {}건", periods, generation, ranked);
+    return RepeatStatus.FINISHED;
+  }
+
+  void setPeriodParam(String periodParam) {
+    this.periodParam = periodParam;
+  }
+
+  void setGeneration(long generation) {
+    this.generation = generation;
+  }
+}
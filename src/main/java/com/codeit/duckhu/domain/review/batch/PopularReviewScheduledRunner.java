@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -16,11 +17,30 @@ public class PopularReviewScheduledRunner {
   private final JobLauncher jobLauncher;
   private final Job popularReviewJob;
 
+  // true면 활동 테이블을 한 번만 읽어 모든 기간의 인기 리뷰를 한 번의 잡 실행으로 계산
+  @Value("${duckhu.batch.ranking.single-pass:true}")
+  private boolean singlePass;
+
   @Scheduled(cron = "0 0 0 * * ?", zone = "Asia/Seoul")
   public void runPopularReviewJobForAllPeriods() {
     long totalStart = System.currentTimeMillis();
     log.info("전체 배치 시작");
 
+    if (singlePass) {
+      try {
+        JobParameters jobParameters = new JobParametersBuilder()
+            .addString("period", PopularReviewPeriods.ALL)
+            .addLong("timestamp", System.currentTimeMillis())
+            .toJobParameters();
+
+        jobLauncher.run(popularReviewJob, jobParameters);
+        log.info("✅ 전체 기간 배치 종료: 총 {}ms 소요", System.currentTimeMillis() - totalStart);
+      } catch (Exception e) {
+        log.debug("전체 기간 배치 실패", e);
+      }
+      return;
+    }
+
     for (PeriodType period : PeriodType.values()) {
       try {
         long start = System.currentTimeMillis();
@@ -1,22 +1,25 @@
 package com.codeit.duckhu.domain.review.batch;
 
+import com.codeit.duckhu.domain.review.dto.PopularReviewActivity;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
-import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
 import com.codeit.duckhu.global.type.PeriodType;
-import jakarta.persistence.EntityManagerFactory;
-import java.util.Map;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -26,75 +29,107 @@ public class PopularReviewStepConfig {
 
   private final JobRepository jobRepository;
   private final PlatformTransactionManager transactionManager;
-  private final EntityManagerFactory entityManagerFactory;
+  private final DataSource dataSource;
   private final PopularReviewItemProcessor processor;
   private final PopularReviewItemWriter writer;
   private final PopularReviewRepository popularReviewRepository;
+  private final StepTimingListener stepTimingListener;
+
+  // 1보다 크면 popularReviewStep을 리뷰 ID 구간별 파티션으로 나눠 병렬 실행
+  @Value("${duckhu.batch.popular-review.partitions:1}")
+  private int partitions;
+
+  @Value("${duckhu.batch.popular-review.partition-concurrency:4}")
+  private int partitionConcurrency;
+
+  // reader 커서가 DB에서 한 번에 가져오는 행 수
+  @Value("${duckhu.batch.popular-review.fetch-size:500}")
+  private int fetchSize;
 
   @Bean
-  public Step popularReviewStep() {
+  public Step popularReviewStep(PopularReviewItemReader popularReviewItemReader) {
     return new StepBuilder("popularReviewStep", jobRepository)
-        .<Review, PopularReview>chunk(100, transactionManager)
-        .reader(popularReviewItemReader())
+        .<PopularReviewActivity, PopularReview>chunk(100, transactionManager)
+        .reader(popularReviewItemReader)
         .processor(processor)
         .writer(writer)
-        .listener(new StepTimingListener()) // 시간 측정용
+        .listener((StepExecutionListener) stepTimingListener) // Step 소요 시간, 처리 건수 지표
+        .listener((ChunkListener) stepTimingListener) // chunk 처리 시간 지표
         .build();
   }
 
+  /**
+   * 기간 안의 좋아요/댓글만 리뷰별로 집계해 점수가 있는 리뷰만 읽습니다. period가 ALL이면 모든 기간을 한 번에 읽습니다. 파티션 worker로
+   * 실행되면 파티셔너가 넘긴 리뷰 ID 범위와 기준 시각을 사용합니다.
+   */
   @Bean
-  public JpaPagingItemReader<Review> popularReviewItemReader() {
-    JpaPagingItemReader<Review> reader = new JpaPagingItemReader<>();
-    reader.setEntityManagerFactory(entityManagerFactory);
-    // 삭제되지 않았고, 좋아요나 댓글이 있는 리뷰만 처리
-    reader.setQueryString("SELECT r FROM Review r WHERE r.isDeleted = false AND (r.likeCount > 0 OR r.commentCount > 0)");
-    log.info("인기 리뷰 처리 대상 쿼리 설정: 좋아요나 댓글이 있는 리뷰만 조회");
-    reader.setPageSize(100);
+  @StepScope
+  public PopularReviewItemReader popularReviewItemReader(
+      @Value("#{jobParameters['period']}") String periodParam,
+      @Value("#{stepExecutionContext['fromReviewId']}") String fromReviewId,
+      @Value("#{stepExecutionContext['toReviewId']}") String toReviewId,
+      @Value("#{stepExecutionContext['now']}") Long now) {
+    EnumSet<PeriodType> periods = PopularReviewPeriods.resolve(periodParam);
+    log.info(
+        "인기 리뷰 처리 대상 쿼리 설정: periods={}, 리뷰 ID 범위=[{}, {}) 기간 내 좋아요/댓글이 있는 리뷰만 조회",
+        periods,
+        fromReviewId,
+        toReviewId);
+    PopularReviewItemReader reader =
+        new PopularReviewItemReader(
+            dataSource,
+            periods,
+            now != null ? Instant.ofEpochMilli(now) : Instant.now(),
+            fromReviewId != null ? UUID.fromString(fromReviewId) : null,
+            toReviewId != null ? UUID.fromString(toReviewId) : null);
+    if (fetchSize > 0) {
+      reader.setFetchSize(fetchSize);
+    }
     return reader;
   }
 
+  /**
+   * 리뷰 ID 구간별로 {@link #popularReviewStep}을 worker로 병렬 실행합니다. 파티션마다 reader, processor, writer가 따로 만들어지고,
+   * 동시에 실행되는 파티션 수는 concurrency로 제한합니다. 파티션마다 리더 커서와 청크 트랜잭션용 커넥션을 하나씩 더 사용합니다.
+   */
   @Bean
-  public Step rankUpdateStep(
-      JpaPagingItemReader<PopularReview> rankUpdateItemReader,
-      RankUpdateItemProcessor rankUpdateItemProcessor,
-      RankUpdateItemWriter rankUpdateItemWriter
-  ) {
-    return new StepBuilder("rankUpdateStep", jobRepository)
-        .<PopularReview, PopularReview>chunk(100, transactionManager)
-        .reader(rankUpdateItemReader)
-        .processor(rankUpdateItemProcessor)
-        .writer(rankUpdateItemWriter)
+  public Step popularReviewPartitionStep(
+      Step popularReviewStep, PopularReviewPartitioner popularReviewPartitioner) {
+    SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("popular-review-partition-");
+    taskExecutor.setConcurrencyLimit(partitionConcurrency);
+    return new StepBuilder("popularReviewPartitionStep", jobRepository)
+        .partitioner(popularReviewStep.getName(), popularReviewPartitioner)
+        .step(popularReviewStep)
+        .gridSize(partitions)
+        .taskExecutor(taskExecutor)
+        .listener(stepTimingListener)
         .build();
   }
 
+  /** 모든 파티션이 저장한 인기 리뷰의 순위를 기간별로 한 번에 매깁니다. */
   @Bean
-  @StepScope
-  public JpaPagingItemReader<PopularReview> rankUpdateItemReader(
-      @Value("#{jobParameters['period']}") String periodParam
-  ) {
-    RankUpdateItemReader reader = new RankUpdateItemReader(entityManagerFactory);
-    reader.setPeriodParam(periodParam);
-    reader.setParameterValues(Map.of("period", PeriodType.valueOf(periodParam)));
-    reader.setPageSize(100);
-    return reader;
+  public Step popularReviewRankStep(PopularReviewRankTasklet popularReviewRankTasklet) {
+    return new StepBuilder("popularReviewRankStep", jobRepository)
+        .tasklet(popularReviewRankTasklet, transactionManager)
+        .listener((StepExecutionListener) stepTimingListener)
+        .build();
   }
 
+  /** 이번 실행에서 저장한 세대로 기간별 포인터를 바꿔 공개합니다. */
   @Bean
-  @StepScope
-  public RankUpdateItemProcessor rankUpdateItemProcessor() {
-    return new RankUpdateItemProcessor();
+  public Step popularReviewPublishStep(PopularReviewPublishTasklet popularReviewPublishTasklet) {
+    return new StepBuilder("popularReviewPublishStep", jobRepository)
+        .tasklet(popularReviewPublishTasklet, transactionManager)
+        .listener((StepExecutionListener) stepTimingListener)
+        .build();
   }
 
-  @Bean(name = "rankUpdateItemReaderWithScope")
-  @StepScope
-  @ConditionalOnProperty(name = "spring.batch.job.enabled", havingValue = "true")
-  public RankUpdateItemReader rankUpdateItemReaderWithScope(
-      EntityManagerFactory entityManagerFactory,
-      @Value("#{jobParameters['period']}") String periodParam
-  ) {
-    RankUpdateItemReader reader = new RankUpdateItemReader(entityManagerFactory);
-    reader.setPeriodParam(periodParam);
-    reader.setParameterValues(Map.of("period", PeriodType.valueOf(periodParam)));
-    return reader;
+  /** 공개한 세대의 기간별 상위 리뷰 작성자에게 알림을 일괄 저장합니다. */
+  @Bean
+  public Step popularReviewNotifyStep(PopularReviewNotifyTasklet popularReviewNotifyTasklet) {
+    return new StepBuilder("popularReviewNotifyStep", jobRepository)
+        .tasklet(popularReviewNotifyTasklet, transactionManager)
+        .listener((StepExecutionListener) stepTimingListener)
+        .build();
   }
 }
@@ -0,0 +1,79 @@
+package com.codeit.duckhu.domain.review.cache;
+
+import com.codeit.duckhu.domain.review.dto.ReviewDto;
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰 상세 read-through 캐시
+ *
+ * <p>요청자와 무관한 부분(likedByMe = false)만 리뷰 ID 기준으로 저장하고, likedByMe는 호출하는 쪽에서 요청마다 덧씌웁니다. 알림/인기
+ * 목록에서 같은 리뷰 상세로 몰리는 요청을 메모리에서 처리하기 위한 용도입니다.
+ *
+ * <p>리뷰 수정/삭제, 좋아요, 댓글 변경 시 {@link ReviewChangedEvent}를 커밋 이후에 받아 무효화합니다. 도서 제목/썸네일 변경처럼 이벤트가
+ * 없는 변경과 캐시된 Presigned URL의 만료는 짧은 TTL로 흡수합니다.
+ *
+ * <p>히트/미스/eviction 수는 {@code cache.*{cache="reviewDetail"}} 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class ReviewDetailCache {
+
+  static final String CACHE_NAME = "reviewDetail";
+
+  private final Cache<UUID, ReviewDto> cache;
+
+  public ReviewDetailCache(
+      MeterRegistry meterRegistry,
+      @Value("${duckhu.review.detail-cache.ttl-seconds:60}") long ttlSeconds,
+      @Value("${duckhu.review.detail-cache.max-size:10000}") long maxSize) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    log.info("[리뷰 상세 캐시 설정] TTL: {}s, 최대 크기: {}", ttlSeconds, maxSize);
+  }
+
+  /** 캐시에 없으면 loader로 조회해 저장합니다. loader가 예외를 던지면 저장하지 않고 그대로 전파합니다. */
+  public ReviewDto get(UUID reviewId, Function<UUID, ReviewDto> loader) {
+    return cache.get(reviewId, loader);
+  }
+
+  /**
+   * 캐시에 없는 리뷰만 모아 loader로 한 번에 조회해 저장합니다. loader 결과에 없는 리뷰(없거나 삭제된 리뷰)는 반환 값에서 빠지고 저장되지
+   * 않습니다.
+   */
+  public Map<UUID, ReviewDto> getAll(
+      Collection<UUID> reviewIds, Function<Set<UUID>, Map<UUID, ReviewDto>> loader) {
+    return cache.getAll(reviewIds, missing -> loader.apply(Set.copyOf(missing)));
+  }
+
+  public void evict(UUID reviewId) {
+    cache.invalidate(reviewId);
+  }
+
+  // 롤백된 변경으로 캐시를 비우지 않도록 커밋 이후에 무효화 (트랜잭션 밖에서 발행되면 즉시 처리)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onReviewChanged(ReviewChangedEvent event) {
+    log.debug("[리뷰 상세 캐시 무효화] reviewId: {}", event.reviewId());
+    evict(event.reviewId());
+  }
+}
@@ -2,24 +2,30 @@ package com.codeit.duckhu.domain.review.controller;
 
 import com.codeit.duckhu.domain.review.dto.CursorPageResponsePopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponseReviewDto;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewLikeDto;
 import com.codeit.duckhu.domain.review.dto.ReviewSearchRequestDto;
 import com.codeit.duckhu.domain.review.dto.ReviewUpdateRequest;
 import com.codeit.duckhu.domain.review.service.ReviewService;
+import com.codeit.duckhu.domain.review.service.impl.ReviewBulkImportService;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.exception.UserException;
 import com.codeit.duckhu.global.exception.ErrorCode;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
+import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,6 +45,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReviewController {
 
   private final ReviewService reviewService;
+  private final ReviewBulkImportService reviewBulkImportService;
 
   @PostMapping
   public ResponseEntity<ReviewDto> createReview(@Valid @RequestBody ReviewCreateRequest request) {
@@ -47,6 +54,17 @@ public class ReviewController {
     return ResponseEntity.status(HttpStatus.CREATED).body(review);
   }
 
+  // 본문을 한 번에 읽지 않고 스트림으로 넘겨 항목 단위로 처리
+  @PostMapping(
+      value = "/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<ReviewBulkImportResponse> importReviews(InputStream body)
+      throws IOException {
+    log.info("리뷰 일괄 등록 요청");
+    ReviewBulkImportResponse result = reviewBulkImportService.importReviews(body);
+    return ResponseEntity.ok(result);
+  }
+
   @PostMapping("/{reviewId}/like")
   public ResponseEntity<ReviewLikeDto> likeReview(
       @PathVariable("reviewId") UUID reviewId, HttpServletRequest httpServletRequest) {
@@ -112,7 +130,9 @@ public class ReviewController {
       @RequestParam(name = "userId", required = false) UUID userId,
       @RequestParam(name = "bookId", required = false) UUID bookId,
       @RequestParam(name = "cursor", required = false) String cursor,
-      @RequestParam(name = "after", required = false) Instant after,
+      @Parameter(name = "after", description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
+          @RequestParam(name = "after", required = false)
+          Instant after,
       @RequestParam(name = "limit", required = false) Integer limit) {
     log.info("리뷰 목록 조회 요청 : {}, {}, {}", keyword, orderBy, direction);
 
@@ -140,7 +160,9 @@ public class ReviewController {
       @RequestParam(name = "period") PeriodType period,
       @RequestParam(name = "direction", required = false, defaultValue = "ASC") Direction direction,
       @RequestParam(name = "cursor", required = false) String cursor,
-      @RequestParam(name = "after", required = false) Instant after,
+      @Parameter(name = "after", description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
+          @RequestParam(name = "after", required = false)
+          Instant after,
       @RequestParam(name = "limit", required = false) Integer limit) {
     log.info("인기 리뷰 목록 조회 요청 : {}, {}", period, direction);
 
@@ -1,15 +1,18 @@
 package com.codeit.duckhu.domain.review.controller.api;
 
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewUpdateRequest;
 import com.codeit.duckhu.global.type.Direction;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -53,6 +56,23 @@ public interface ReviewApi {
   @PostMapping(value = "/api/reviews")
   ResponseEntity<ReviewDto> createReview(@RequestBody ReviewCreateRequest request);
 
+  @Operation(
+      summary = "리뷰 일괄 등록",
+      description =
+          "JSON 배열 또는 NDJSON(application/x-ndjson) 본문의 리뷰를 한 번에 등록합니다. 항목별 실패 사유는 응답의 errors에 담깁니다.")
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "200",
+          description = "일괄 등록 처리 완료 (일부 항목 실패 포함)",
+          content = @Content(schema = @Schema(implementation = ReviewBulkImportResponse.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "서버 내부 오류",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  @PostMapping(value = "/api/reviews/bulk")
+  ResponseEntity<ReviewBulkImportResponse> importReviews(InputStream body);
+
   @Operation(summary = "리뷰 수정", description = "본인이 작성한 리뷰를 수정합니다.")
   @ApiResponses({
       @ApiResponse(
@@ -207,7 +227,9 @@ public interface ReviewApi {
       @RequestParam(name = "userId", required = false) UUID userId,
       @RequestParam(name = "bookId", required = false) UUID bookId,
       @RequestParam(name = "cursor", required = false) String cursor,
-      @RequestParam(name = "after", required = false) Instant after,
+      @Parameter(name = "after", description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
+          @RequestParam(name = "after", required = false)
+          Instant after,
       @RequestParam(name = "limit", required = false) Integer limit);
 
   @Operation(summary = "인기 리뷰 목록 조회", description = "기간별 인기 리뷰 목록을 조회합니다.")
@@ -231,7 +253,9 @@ public interface ReviewApi {
       @RequestParam(name = "direction", required = false, defaultValue = "DESC")
       Direction direction,
       @RequestParam(name = "cursor", required = false) String cursor,
-      @RequestParam(name = "after", required = false) Instant after,
+      @Parameter(name = "after", description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
+          @RequestParam(name = "after", required = false)
+          Instant after,
       @RequestParam(name = "limit", required = false) Integer limit);
 }
 
@@ -0,0 +1,14 @@
+package com.codeit.duckhu.domain.review.dto;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import java.util.UUID;
+
+/** 집계 기간 안에서 좋아요/댓글 활동이 있었던 리뷰와 그 점수, 기간 내 순위 (인기 리뷰 배치 reader 결과) */
+public record PopularReviewActivity(
+    UUID reviewId,
+    PeriodType period,
+    double reviewRating,
+    int likeCount,
+    int commentCount,
+    double score,
+    int rank) {}
@@ -0,0 +1,6 @@
+package com.codeit.duckhu.domain.review.dto;
+
+import java.util.UUID;
+
+/** 리뷰 작성자와 도서 ID 조합 - 한 사용자는 도서당 리뷰를 하나만 작성할 수 있습니다. */
+public record ReviewAuthorBookKey(UUID userId, UUID bookId) {}
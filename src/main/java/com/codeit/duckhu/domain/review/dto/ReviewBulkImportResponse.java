@@ -0,0 +1,39 @@
+package com.codeit.duckhu.domain.review.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰 일괄 등록 결과
+ *
+ * <p>실패한 항목은 요청 본문에서의 순서(0부터)와 사유를 함께 돌려줍니다. 응답 크기를 제한하기 위해 errors에는 앞에서부터 일정 개수까지만 담고,
+ * 전체 실패 수는 failed로 확인합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewBulkImportResponse {
+
+  private int total;
+  private int succeeded;
+  private int failed;
+  private boolean errorsTruncated;
+  private List<ItemError> errors;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class ItemError {
+    private int index;
+    private UUID userId;
+    private UUID bookId;
+    private String code;
+    private String message;
+  }
+}
@@ -0,0 +1,27 @@
+package com.codeit.duckhu.domain.review.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 리뷰 목록 조회용 프로젝션
+ *
+ * <p>엔티티를 로딩하지 않고 {@link ReviewDto}에 필요한 컬럼만 한 번의 쿼리로 조회합니다. 썸네일은 S3 key 상태로 담기며 서비스에서 URL로
+ * 변환합니다.
+ */
+@Builder
+public record ReviewProjection(
+    UUID id,
+    UUID userId,
+    String userNickname,
+    UUID bookId,
+    String bookTitle,
+    String bookThumbnailKey,
+    String content,
+    int rating,
+    int likeCount,
+    int commentCount,
+    boolean likedByMe,
+    Instant createdAt,
+    Instant updatedAt) {}
@@ -30,8 +30,9 @@ import lombok.NoArgsConstructor;
 @Table(
     name = "popular_reviews",
     indexes = {
-      @Index(name = "idx_popular_reviews_period_rank", columnList = "period, rank"),
-      @Index(name = "idx_popular_reviews_period_created_at", columnList = "period, created_at")
+      @Index(
+          name = "idx_popular_reviews_period_rank",
+          columnList = "period, generation, rank, created_at, id")
     })
 public class PopularReview extends BaseEntity {
 
@@ -61,6 +62,10 @@ public class PopularReview extends BaseEntity {
   @Column(name = "rank", nullable = false)
   private Integer rank;
 
+  // 스냅샷 세대 (배치가 JDBC로 기록, 조회 시 현재 세대만 읽음)
+  @Column(name = "generation", insertable = false, updatable = false)
+  private Long generation;
+
   public void setRank(Integer rank) {
     this.rank = rank;
   }
@@ -25,6 +25,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
@@ -32,6 +33,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "reviews")
+@DynamicUpdate // 리뷰 수정/삭제 시 원자적으로 증감한 좋아요/댓글 수를 이전 값으로 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 public class Review extends BaseUpdatableEntity {
 
   @Column(name = "content", nullable = false)
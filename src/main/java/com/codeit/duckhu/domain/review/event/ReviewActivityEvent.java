@@ -0,0 +1,37 @@
+package com.codeit.duckhu.domain.review.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 인기 리뷰 점수에 들어가는 활동(좋아요, 댓글)이 늘거나 줄었음을 알리는 이벤트
+ *
+ * <p>좋아요 토글과 댓글 생성/삭제 시 발행되며 실시간 인기 리뷰 랭킹 갱신에 사용됩니다. 취소/삭제는 원래 활동이 일어난 시각을 담아 보내야 해당
+ * 시각이 속한 기간에서만 빠집니다.
+ *
+ * @param delta 증가면 1, 취소/삭제면 -1
+ * @param occurredAt 활동이 일어난 시각 (알 수 없으면 null - 역대 랭킹에만 반영)
+ */
+public record ReviewActivityEvent(UUID reviewId, Activity activity, int delta, Instant occurredAt) {
+
+  public enum Activity {
+    LIKE,
+    COMMENT
+  }
+
+  public static ReviewActivityEvent liked(UUID reviewId, Instant likedAt) {
+    return new ReviewActivityEvent(reviewId, Activity.LIKE, 1, likedAt);
+  }
+
+  public static ReviewActivityEvent unliked(UUID reviewId, Instant likedAt) {
+    return new ReviewActivityEvent(reviewId, Activity.LIKE, -1, likedAt);
+  }
+
+  public static ReviewActivityEvent commented(UUID reviewId, Instant commentedAt) {
+    return new ReviewActivityEvent(reviewId, Activity.COMMENT, 1, commentedAt);
+  }
+
+  public static ReviewActivityEvent uncommented(UUID reviewId, Instant commentedAt) {
+    return new ReviewActivityEvent(reviewId, Activity.COMMENT, -1, commentedAt);
+  }
+}
@@ -0,0 +1,10 @@
+package com.codeit.duckhu.domain.review.event;
+
+import java.util.UUID;
+
+/**
+ * 리뷰 상세 응답에 영향을 주는 변경이 발생했음을 알리는 이벤트
+ *
+ * <p>리뷰 수정/삭제, 좋아요 토글, 댓글 생성/삭제 시 발행되며 리뷰 상세 캐시 무효화에 사용됩니다.
+ */
+public record ReviewChangedEvent(UUID reviewId) {}
@@ -0,0 +1,6 @@
+package com.codeit.duckhu.domain.review.event;
+
+import java.util.UUID;
+
+/** 리뷰가 논리/물리 삭제되었음을 알리는 이벤트 - 실시간 인기 리뷰 랭킹에서 리뷰를 빼는 데 사용됩니다. */
+public record ReviewDeletedEvent(UUID reviewId) {}
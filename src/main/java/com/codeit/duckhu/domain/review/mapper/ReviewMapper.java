@@ -3,11 +3,13 @@ package com.codeit.duckhu.domain.review.mapper;
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.user.entity.User;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,9 +18,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewMapper {
 
-  public ReviewDto toDto(Review review, UUID currentUserId) {
-    // 현재 사용자가 해당 리뷰를 좋아했는지 확인
-    boolean liked = (currentUserId != null) && review.liked(currentUserId);
+  public ReviewDto toDto(Review review, Set<UUID> likedReviewIds) {
+    // 현재 사용자가 좋아요를 누른 리뷰 ID 목록으로 확인 (좋아요 컬렉션을 로딩하지 않음)
+    boolean liked = likedReviewIds.contains(review.getId());
 
     ReviewDto.ReviewDtoBuilder builder =
         ReviewDto.builder()
@@ -54,9 +56,9 @@ public class ReviewMapper {
   }
 
   // 썸네일을 별도의 파라미터로 받는 toDto 메서드
-  public ReviewDto toDto(Review review, String thumbnailUrl, UUID currentUserId) {
+  public ReviewDto toDto(Review review, String thumbnailUrl, Set<UUID> likedReviewIds) {
 
-    boolean liked = (currentUserId != null) && review.liked(currentUserId);
+    boolean liked = likedReviewIds.contains(review.getId());
 
     ReviewDto.ReviewDtoBuilder builder =
         ReviewDto.builder()
@@ -89,6 +91,25 @@ public class ReviewMapper {
     return builder.build();
   }
 
+  // 목록 조회 프로젝션을 DTO로 변환 (엔티티 연관관계에 접근하지 않음)
+  public ReviewDto toDto(ReviewProjection projection, String thumbnailUrl) {
+    return ReviewDto.builder()
+        .id(projection.id())
+        .userId(projection.userId())
+        .userNickname(projection.userNickname())
+        .bookId(projection.bookId())
+        .bookTitle(projection.bookTitle())
+        .bookThumbnailUrl(thumbnailUrl)
+        .content(projection.content())
+        .rating(projection.rating())
+        .likeCount(projection.likeCount())
+        .commentCount(projection.commentCount())
+        .likedByMe(projection.likedByMe())
+        .createdAt(mapInstantToLocalDateTime(projection.createdAt()))
+        .updatedAt(mapInstantToLocalDateTime(projection.updatedAt()))
+        .build();
+  }
+
   public Review toEntity(ReviewCreateRequest request, User user, Book book) {
     return Review.builder()
         .user(user)
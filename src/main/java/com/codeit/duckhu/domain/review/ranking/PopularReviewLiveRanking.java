@@ -0,0 +1,245 @@
+package com.codeit.duckhu.domain.review.ranking;
+
+import com.codeit.duckhu.domain.review.event.ReviewActivityEvent;
+import com.codeit.duckhu.domain.review.event.ReviewDeletedEvent;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows.Page;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows.Ranked;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.type.Direction;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 실시간 인기 리뷰 랭킹
+ *
+ * <p>좋아요/댓글 이벤트를 커밋 이후에 받아 {@link ReviewActivityWindows}에 바로 반영하고, 인기 리뷰 조회가 하루 한 번 계산된 스냅샷 대신 이
+ * 랭킹을 읽도록 합니다. 애플리케이션이 뜰 때 review_likes와 comments에서 다시 만들며, 다 만들기 전까지는 {@link #isServing()}이
+ * false라 기존 스냅샷 조회가 그대로 쓰입니다.
+ *
+ * <p>{@code duckhu.review.live-ranking.enabled}가 false(기본값)면 이벤트를 무시하고 재구성도 하지 않습니다. 랭킹은 인스턴스마다
+ * 메모리에 따로 있으므로 여러 인스턴스로 띄우면 각자 받은 이벤트만 반영됩니다.
+ */
+@Slf4j
+@Component
+public class PopularReviewLiveRanking {
+
+  // 월간 기간보다 오래된 활동은 리뷰별 합계만 읽어 역대 랭킹에 더함
+  static final String ALL_TIME_SQL =
+      """
+      SELECT a.review_id, SUM(a.likes) AS like_count, SUM(1 - a.likes) AS comment_count
+        FROM (SELECT review_id, 1 AS likes FROM review_likes WHERE created_at < ?
+              UNION ALL
+              SELECT review_id, 0 AS likes FROM comments
+               WHERE is_deleted = FALSE AND created_at < ?) a
+        JOIN reviews r ON r.id = a.review_id AND r.is_deleted = FALSE
+       GROUP BY a.review_id
+      """;
+
+  // 월간 기간 안의 활동은 발생 시각이 필요하므로 한 건씩 읽어 버킷에 담음 (재구성 기준 시각 이후 활동은 이벤트로 반영)
+  static final String WINDOW_SQL =
+      """
+      SELECT a.review_id, a.likes, a.created_at
+        FROM (SELECT review_id, 1 AS likes, created_at FROM review_likes
+               WHERE created_at >= ? AND created_at < ?
+              UNION ALL
+              SELECT review_id, 0 AS likes, created_at FROM comments
+               WHERE is_deleted = FALSE AND created_at >= ? AND created_at < ?) a
+        JOIN reviews r ON r.id = a.review_id AND r.is_deleted = FALSE
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final Duration bucketWidth;
+
+  // windows 교체와 읽기/쓰기를 함께 보호
+  private final Object lock = new Object();
+  private ReviewActivityWindows windows;
+
+  // 재구성하는 동안 들어온 이벤트 중 재구성 쿼리가 읽지 않는 것 - 새 랭킹으로 바꾼 뒤 다시 반영 (재구성 중이 아니면 null)
+  private List<Consumer<ReviewActivityWindows>> pendingDuringRebuild;
+
+  // 재구성 쿼리는 이 시각 전에 일어난 활동만 읽고, 이 시각 이후 활동은 이벤트로만 새 랭킹에 반영
+  private Instant rebuildCutoff;
+
+  private volatile boolean ready;
+
+  public PopularReviewLiveRanking(
+      JdbcTemplate jdbcTemplate,
+      @Value("${duckhu.review.live-ranking.enabled:false}") boolean enabled,
+      @Value("${duckhu.review.live-ranking.bucket-minutes:10}") long bucketMinutes) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.bucketWidth = Duration.ofMinutes(bucketMinutes);
+    this.windows = new ReviewActivityWindows(bucketWidth);
+    log.info("[실시간 인기 리뷰 랭킹 설정] 사용: {}, 버킷 크기: {}분", enabled, bucketMinutes);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** 재구성이 끝나 인기 리뷰 조회를 이 랭킹에서 처리할 수 있으면 true */
+  public boolean isServing() {
+    return enabled && ready;
+  }
+
+  /**
+   * DB의 좋아요/댓글로 랭킹을 다시 만듭니다. 새 랭킹은 잠금 없이 따로 만들므로 재구성하는 동안에도 이벤트 반영과 조회는 기존 랭킹으로 계속됩니다.
+   *
+   * <p>재구성을 시작한 시각을 기준으로 나눠, 쿼리는 기준 시각 전에 일어난 활동만 읽고 그 사이 들어온 이벤트 중 기준 시각 이후에 일어난 활동만 새
+   * 랭킹에 다시 반영합니다. 쿼리와 커밋 시점이 겹친 활동도 둘 중 한 곳에서만 세어지므로, 줄지 않는 역대 랭킹에 중복으로 쌓이지 않습니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+    long startedAt = System.currentTimeMillis();
+    synchronized (lock) {
+      if (pendingDuringRebuild != null) {
+        log.warn("[실시간 인기 리뷰 랭킹 재구성] 이미 재구성 중이라 건너뜁니다.");
+        return;
+      }
+      pendingDuringRebuild = new ArrayList<>();
+      // 저장된 활동 시각과 같은 정밀도(마이크로초)로 맞춰 경계에 걸친 활동도 한쪽에만 속하게 함
+      rebuildCutoff = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    ReviewActivityWindows rebuilt = new ReviewActivityWindows(bucketWidth);
+    int[] rows = new int[2];
+    try {
+      Instant windowStart = rebuilt.windowStart(rebuildCutoff);
+      Timestamp from = Timestamp.from(windowStart);
+      Timestamp cutoff = Timestamp.from(rebuildCutoff);
+
+      jdbcTemplate.query(
+          ALL_TIME_SQL,
+          rs -> {
+            rebuilt.recordAllTime(
+                rs.getObject("review_id", UUID.class),
+                rs.getInt("like_count"),
+                rs.getInt("comment_count"));
+            rows[0]++;
+          },
+          from,
+          from);
+
+      Instant now = Instant.now();
+      jdbcTemplate.query(
+          WINDOW_SQL,
+          rs -> {
+            boolean like = rs.getInt("likes") == 1;
+            rebuilt.record(
+                rs.getObject("review_id", UUID.class),
+                like ? 1 : 0,
+                like ? 0 : 1,
+                rs.getTimestamp("created_at").toInstant(),
+                now);
+            rows[1]++;
+          },
+          from,
+          cutoff,
+          from,
+          cutoff);
+    } catch (RuntimeException e) {
+      synchronized (lock) {
+        pendingDuringRebuild = null;
+      }
+      throw e;
+    }
+
+    int replayed;
+    synchronized (lock) {
+      replayed = pendingDuringRebuild.size();
+      pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+      pendingDuringRebuild = null;
+      windows = rebuilt;
+    }
+    ready = true;
+    log.info(
+        "[실시간 인기 리뷰 랭킹 재구성] 역대 합계 {}건, 최근 활동 {}건, 재구성 중 이벤트 {}건, 소요 시간: {}ms",
+        rows[0],
+        rows[1],
+        replayed,
+        System.currentTimeMillis() - startedAt);
+  }
+
+  // 롤백된 좋아요/댓글이 순위에 반영되지 않도록 커밋 이후에 처리 (트랜잭션 밖에서 발행되면 즉시 처리)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onReviewActivity(ReviewActivityEvent event) {
+    if (!enabled) {
+      return;
+    }
+    boolean like = event.activity() == ReviewActivityEvent.Activity.LIKE;
+    apply(
+        target ->
+            target.record(
+                event.reviewId(),
+                like ? event.delta() : 0,
+                like ? 0 : event.delta(),
+                event.occurredAt(),
+                Instant.now()),
+        event.occurredAt());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onReviewDeleted(ReviewDeletedEvent event) {
+    if (!enabled) {
+      return;
+    }
+    apply(target -> target.remove(event.reviewId()), null);
+  }
+
+  /**
+   * 현재 랭킹에 반영하고, 재구성 중이면 재구성 쿼리가 읽지 않는 변경만 새 랭킹에도 반영하도록 모아 둡니다.
+   *
+   * @param occurredAt 활동이 일어난 시각 - 재구성 기준 시각 전이면 쿼리가 이미 읽으므로 다시 반영하지 않음 (null이면 리뷰 삭제처럼 시각과
+   *     무관한 변경으로 보고 다시 반영)
+   */
+  private void apply(Consumer<ReviewActivityWindows> change, Instant occurredAt) {
+    synchronized (lock) {
+      change.accept(windows);
+      if (pendingDuringRebuild != null
+          && (occurredAt == null || !occurredAt.isBefore(rebuildCutoff))) {
+        pendingDuringRebuild.add(change);
+      }
+    }
+  }
+
+  /**
+   * 기간 랭킹의 한 페이지를 조회합니다.
+   *
+   * @param cursor 이전 페이지의 {@link #nextCursor}(첫 페이지면 null)
+   * @throws com.codeit.duckhu.global.exception.DomainException 커서 형식이 잘못된 경우 (INVALID_CURSOR)
+   */
+  public Page page(PeriodType period, Direction direction, String cursor, int limit) {
+    Ranked after = null;
+    if (cursor != null && !cursor.isBlank()) {
+      CursorKeys keys = CursorCodec.decode(cursor, 3);
+      after = Ranked.cursor(keys.getInt(0), keys.getDouble(1), keys.getUuid(2));
+    }
+    synchronized (lock) {
+      return windows.page(period, after, direction == Direction.DESC, limit, Instant.now());
+    }
+  }
+
+  public String nextCursor(Ranked last) {
+    return CursorCodec.encode(last.rank(), last.score(), last.reviewId());
+  }
+}
@@ -0,0 +1,279 @@
+package com.codeit.duckhu.domain.review.ranking;
+
+import com.codeit.duckhu.domain.review.batch.PopularReviewItemReader;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 리뷰별 좋아요/댓글 수를 시간 버킷 링 버퍼로 나눠 기간별 슬라이딩 윈도우 점수와 순위를 유지하는 자료구조
+ *
+ * <p>활동은 발생 시각이 속한 버킷에 더하고, 기간마다 누적 합계와 점수순 정렬 집합을 함께 갱신하므로 활동 한 건은 O(log n)에 반영됩니다. 시간이 흘러
+ * 버킷이 기간 밖으로 밀려나면 그 버킷의 합계만큼 해당 기간에서 뺍니다. 링은 월간 기간을 덮는 만큼만 두며, 역대 합계는 빼지 않습니다. 기간 경계는
+ * 버킷 단위로 맞춰지므로 배치 스냅샷(초 단위 경계)과 버킷 크기 이내의 차이가 날 수 있습니다.
+ *
+ * <p>점수와 정렬 규칙은 {@link PopularReviewItemReader}와 같습니다 (점수 내림차순, 같으면 리뷰 ID 오름차순). 스레드 안전하지 않으므로 호출하는
+ * 쪽에서 동기화합니다.
+ */
+public final class ReviewActivityWindows {
+
+  private static final PeriodType[] WINDOWED = {
+    PeriodType.DAILY, PeriodType.WEEKLY, PeriodType.MONTHLY
+  };
+
+  // 기간 길이 계산용 기준 시각 (PeriodType.toStartInstant와 같은 길이를 쓰기 위함)
+  private static final Instant REFERENCE = Instant.parse("2000-01-01T00:00:00Z");
+
+  // PostgreSQL uuid 정렬(바이트 순)과 같은 순서 - UUID.compareTo는 부호 있는 비교라 다름
+  private static final Comparator<UUID> UUID_ORDER =
+      Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+          .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private static final Comparator<Ranked> RANK_ORDER =
+      Comparator.comparingDouble(Ranked::score)
+          .reversed()
+          .thenComparing(Ranked::reviewId, UUID_ORDER);
+
+  private final long bucketMillis;
+  private final EnumMap<PeriodType, Long> spans = new EnumMap<>(PeriodType.class);
+  private final Bucket[] ring;
+
+  // 기간별로 합계에서 이미 뺀 마지막 버킷 번호
+  private final EnumMap<PeriodType, Long> expiredThrough = new EnumMap<>(PeriodType.class);
+  private final EnumMap<PeriodType, Map<UUID, Ranked>> totals = new EnumMap<>(PeriodType.class);
+  private final EnumMap<PeriodType, NavigableSet<Ranked>> rankings =
+      new EnumMap<>(PeriodType.class);
+
+  private long currentIndex = Long.MIN_VALUE;
+
+  ReviewActivityWindows(Duration bucketWidth) {
+    if (bucketWidth.toMillis() <= 0) {
+      throw new IllegalArgumentException("버킷 크기는 1ms 이상이어야 합니다: " + bucketWidth);
+    }
+    this.bucketMillis = bucketWidth.toMillis();
+    for (PeriodType period : WINDOWED) {
+      long windowMillis =
+          Duration.between(period.toStartInstant(REFERENCE), REFERENCE).toMillis();
+      spans.put(period, (windowMillis + bucketMillis - 1) / bucketMillis);
+    }
+    this.ring = new Bucket[Math.toIntExact(spans.get(PeriodType.MONTHLY) + 1)];
+    for (PeriodType period : PeriodType.values()) {
+      totals.put(period, new HashMap<>());
+      rankings.put(period, new TreeSet<>(RANK_ORDER));
+    }
+  }
+
+  /**
+   * 활동 한 건을 반영합니다. 발생 시각이 이미 기간 밖으로 밀려난 버킷이면 그 기간에는 반영하지 않고, 발생 시각을 모르면 역대 합계에만 반영합니다.
+   *
+   * @param likeDelta 좋아요 수 변화
+   * @param commentDelta 댓글 수 변화
+   * @param occurredAt 활동 발생 시각 (null 가능)
+   */
+  void record(UUID reviewId, int likeDelta, int commentDelta, Instant occurredAt, Instant now) {
+    advance(now);
+    apply(PeriodType.ALL_TIME, reviewId, likeDelta, commentDelta);
+    if (occurredAt == null) {
+      return;
+    }
+
+    // 미래 시각(서버 간 시계 차이)은 현재 버킷으로 봄
+    long index = Math.min(bucketIndex(occurredAt), currentIndex);
+    Bucket bucket = bucketFor(index);
+    if (bucket == null) {
+      return;
+    }
+    bucket.add(reviewId, likeDelta, commentDelta);
+    for (PeriodType period : WINDOWED) {
+      if (index > expiredThrough.get(period)) {
+        apply(period, reviewId, likeDelta, commentDelta);
+      }
+    }
+  }
+
+  /** 월간 기간보다 오래된 활동 합계를 역대 랭킹에만 더합니다. 재구성 시 오래된 활동을 한 건씩 넣지 않기 위해 사용합니다. */
+  void recordAllTime(UUID reviewId, int likeCount, int commentCount) {
+    apply(PeriodType.ALL_TIME, reviewId, likeCount, commentCount);
+  }
+
+  /** 리뷰를 모든 기간의 랭킹에서 뺍니다. 버킷에 남은 활동은 만료될 때 무시됩니다. */
+  void remove(UUID reviewId) {
+    for (PeriodType period : PeriodType.values()) {
+      Ranked removed = totals.get(period).remove(reviewId);
+      if (removed != null) {
+        rankings.get(period).remove(removed);
+      }
+    }
+  }
+
+  /**
+   * 기간 랭킹의 한 페이지를 반환합니다.
+   *
+   * @param after 이전 페이지 마지막 항목 (첫 페이지면 null)
+   * @param descending true면 순위가 낮은(점수가 작은) 쪽부터
+   */
+  Page page(PeriodType period, Ranked after, boolean descending, int limit, Instant now) {
+    advance(now);
+    NavigableSet<Ranked> ranking = rankings.get(period);
+    NavigableSet<Ranked> view = descending ? ranking.descendingSet() : ranking;
+    Iterator<Ranked> iterator =
+        (after == null ? view : view.tailSet(after, false)).iterator();
+
+    int rank;
+    if (after != null) {
+      rank = descending ? after.rank() - 1 : after.rank() + 1;
+    } else {
+      rank = descending ? ranking.size() : 1;
+    }
+
+    List<Ranked> content = new ArrayList<>(limit);
+    while (iterator.hasNext() && content.size() < limit) {
+      content.add(iterator.next().withRank(rank));
+      rank += descending ? -1 : 1;
+    }
+    return new Page(content, ranking.size());
+  }
+
+  /** 월간 기간에 들어가는 첫 버킷의 시작 시각 - 이 시각 이후의 활동만 버킷에 담깁니다. */
+  Instant windowStart(Instant now) {
+    advance(now);
+    return Instant.ofEpochMilli(
+        (currentIndex - spans.get(PeriodType.MONTHLY) + 1) * bucketMillis);
+  }
+
+  /** 현재 시각까지 기간 밖으로 밀려난 버킷을 각 기간 합계에서 뺍니다. */
+  private void advance(Instant now) {
+    long target = bucketIndex(now);
+    if (currentIndex == Long.MIN_VALUE) {
+      currentIndex = target;
+      for (PeriodType period : WINDOWED) {
+        expiredThrough.put(period, target - spans.get(period));
+      }
+      return;
+    }
+    if (target <= currentIndex) {
+      return;
+    }
+
+    // 버킷은 현재 번호까지만 존재하므로 오래 쉬었더라도 링 길이 이상 돌지 않음
+    long lastExisting = currentIndex;
+    currentIndex = target;
+    for (PeriodType period : WINDOWED) {
+      long until = target - spans.get(period);
+      long from = expiredThrough.get(period) + 1;
+      for (long index = from; index <= Math.min(until, lastExisting); index++) {
+        Bucket bucket = ring[slot(index)];
+        if (bucket != null && bucket.index == index) {
+          bucket.counts.forEach(
+              (reviewId, counts) -> apply(period, reviewId, -counts[0], -counts[1]));
+        }
+      }
+      expiredThrough.put(period, Math.max(expiredThrough.get(period), until));
+    }
+  }
+
+  // 링 범위 밖(월간 기간보다 오래된) 버킷이면 null
+  private Bucket bucketFor(long index) {
+    if (index <= currentIndex - ring.length) {
+      return null;
+    }
+    int slot = slot(index);
+    Bucket bucket = ring[slot];
+    if (bucket == null || bucket.index != index) {
+      // 같은 슬롯의 이전 버킷은 모든 기간에서 이미 만료됨
+      bucket = new Bucket(index);
+      ring[slot] = bucket;
+    }
+    return bucket;
+  }
+
+  private void apply(PeriodType period, UUID reviewId, int likeDelta, int commentDelta) {
+    Map<UUID, Ranked> periodTotals = totals.get(period);
+    Ranked previous = periodTotals.get(reviewId);
+    if (previous == null && likeDelta <= 0 && commentDelta <= 0) {
+      // 삭제된 리뷰의 만료 또는 재구성 이전 활동의 취소
+      return;
+    }
+
+    NavigableSet<Ranked> ranking = rankings.get(period);
+    int likes = likeDelta;
+    int comments = commentDelta;
+    if (previous != null) {
+      ranking.remove(previous);
+      likes += previous.likeCount();
+      comments += previous.commentCount();
+    }
+
+    if (likes <= 0 && comments <= 0) {
+      periodTotals.remove(reviewId);
+      return;
+    }
+    Ranked updated = Ranked.of(reviewId, Math.max(likes, 0), Math.max(comments, 0));
+    periodTotals.put(reviewId, updated);
+    if (updated.score() > 0) {
+      ranking.add(updated);
+    }
+  }
+
+  private long bucketIndex(Instant instant) {
+    return Math.floorDiv(instant.toEpochMilli(), bucketMillis);
+  }
+
+  private int slot(long index) {
+    return (int) Math.floorMod(index, (long) ring.length);
+  }
+
+  private static final class Bucket {
+
+    private final long index;
+
+    // 리뷰 ID -> {좋아요 수, 댓글 수}
+    private final Map<UUID, int[]> counts = new HashMap<>();
+
+    private Bucket(long index) {
+      this.index = index;
+    }
+
+    private void add(UUID reviewId, int likeDelta, int commentDelta) {
+      int[] count = counts.computeIfAbsent(reviewId, id -> new int[2]);
+      count[0] += likeDelta;
+      count[1] += commentDelta;
+      if (count[0] == 0 && count[1] == 0) {
+        counts.remove(reviewId);
+      }
+    }
+  }
+
+  /** 기간 랭킹의 한 항목. 순위는 페이지를 만들 때만 채워집니다. */
+  public record Ranked(UUID reviewId, int likeCount, int commentCount, double score, int rank) {
+
+    static Ranked of(UUID reviewId, int likeCount, int commentCount) {
+      double score =
+          likeCount * PopularReviewItemReader.LIKE_WEIGHT
+              + commentCount * PopularReviewItemReader.COMMENT_WEIGHT;
+      return new Ranked(reviewId, likeCount, commentCount, score, 0);
+    }
+
+    /** 커서에서 복원한 위치 - 정렬에는 점수와 리뷰 ID만 쓰입니다. */
+    static Ranked cursor(int rank, double score, UUID reviewId) {
+      return new Ranked(reviewId, 0, 0, score, rank);
+    }
+
+    Ranked withRank(int rank) {
+      return new Ranked(reviewId, likeCount, commentCount, score, rank);
+    }
+  }
+
+  /** 한 페이지의 항목과 기간 전체 항목 수 */
+  public record Page(List<Ranked> content, long totalElements) {}
+}
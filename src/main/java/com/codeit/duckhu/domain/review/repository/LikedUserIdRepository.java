@@ -0,0 +1,58 @@
+package com.codeit.duckhu.domain.review.repository;
+
+import com.codeit.duckhu.domain.review.entity.LikedUserId;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LikedUserIdRepository extends JpaRepository<LikedUserId, UUID> {
+
+  /**
+   * 주어진 리뷰들 중 사용자가 좋아요를 누른 리뷰 ID만 조회합니다. - review_likes의 (review_id, user_id) 유니크 인덱스로 처리되며 리뷰의
+   * 좋아요 컬렉션을 로딩하지 않습니다.
+   */
+  @Query(
+      "SELECT l.review.id FROM LikedUserId l WHERE l.userId = :userId AND l.review.id IN :reviewIds")
+  Set<UUID> findLikedReviewIds(
+      @Param("userId") UUID userId, @Param("reviewIds") Collection<UUID> reviewIds);
+
+  /** 사용자가 리뷰에 좋아요를 누른 시각을 조회합니다. - 좋아요 취소를 누른 시각이 속한 기간의 실시간 랭킹에서만 빼기 위해 사용합니다. */
+  @Query(
+      "SELECT l.createdAt FROM LikedUserId l WHERE l.review.id = :reviewId AND l.userId = :userId")
+  Optional<Instant> findLikedAt(@Param("reviewId") UUID reviewId, @Param("userId") UUID userId);
+
+  /**
+   * 좋아요를 멱등하게 추가합니다. - uk_review_likes 제약에 걸리면 아무것도 하지 않으므로 동시에 들어온 중복 요청도 예외 없이 처리됩니다.
+   *
+   * @param createdAt 좋아요 시각 - 실시간 랭킹 이벤트와 같은 값을 저장해 재구성 시 기준 시각으로 중복 여부를 가림
+   * @return 실제로 추가된 행 수 (이미 좋아요 상태면 0)
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO review_likes (id, created_at, review_id, user_id) "
+              + "VALUES (:id, :createdAt, :reviewId, :userId) ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("id") UUID id,
+      @Param("createdAt") Instant createdAt,
+      @Param("reviewId") UUID reviewId,
+      @Param("userId") UUID userId);
+
+  /**
+   * 좋아요를 삭제합니다. - 리뷰의 좋아요 컬렉션을 로딩하지 않고 DELETE 한 번으로 처리합니다.
+   *
+   * @return 실제로 삭제된 행 수 (좋아요 상태가 아니었으면 0)
+   */
+  @Modifying
+  @Query("DELETE FROM LikedUserId l WHERE l.review.id = :reviewId AND l.userId = :userId")
+  int deleteByReviewIdAndUserId(@Param("reviewId") UUID reviewId, @Param("userId") UUID userId);
+}
@@ -1,12 +1,15 @@
 package com.codeit.duckhu.domain.review.repository;
 
+import com.codeit.duckhu.domain.review.dto.ReviewAuthorBookKey;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.review.repository.custom.ReviewRepositoryCustom;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,16 @@ public interface ReviewRepository extends JpaRepository<Review, UUID>, ReviewRep
 
   Optional<Review> findByUserIdAndBookId(UUID userId, UUID bookId);
 
+  /**
+   * 리뷰 일괄 등록 시 이미 리뷰가 있는 (사용자, 도서) 조합을 한 번에 조회합니다. - 논리 삭제된 리뷰도 포함하며, 결과에는 요청에 없던 조합도 섞일
+   * 수 있으므로 호출하는 쪽에서 조합 단위로 다시 비교합니다.
+   */
+  @Query(
+      "SELECT new com.codeit.duckhu.domain.review.dto.ReviewAuthorBookKey(r.user.id, r.book.id) "
+          + "FROM Review r WHERE r.user.id IN :userIds AND r.book.id IN :bookIds")
+  List<ReviewAuthorBookKey> findAuthorBookKeys(
+      @Param("userIds") Collection<UUID> userIds, @Param("bookIds") Collection<UUID> bookIds);
+
   /** 해당 도서에 작성된 논리 삭제되지 않은 리뷰 수를 조회합니다. 리뷰가 없을 경우 0을 반환합니다. - 도서 상세 조회 시 reviewCount에 사용됩니다. */
   // @Query("SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId AND r.isDeleted = false")
   @Query("SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId AND r.isDeleted = false")
@@ -41,4 +54,51 @@ public interface ReviewRepository extends JpaRepository<Review, UUID>, ReviewRep
       @Param("bookId") UUID bookId, @Param("from") Instant from, @Param("to") Instant to);
 
   List<Review> findAllByIsDeletedFalse();
+
+  /** 논리 삭제되지 않은 리뷰들을 도서/작성자와 함께 한 번에 조회합니다. - 실시간 인기 리뷰 페이지의 상세 캐시 미스를 채울 때 사용합니다. */
+  @Query(
+      "SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user"
+          + " WHERE r.id IN :reviewIds AND r.isDeleted = false")
+  List<Review> findAllWithBookAndUserByIdIn(@Param("reviewIds") Collection<UUID> reviewIds);
+
+  /** 좋아요 수를 원자적으로 1 증가시킵니다. - review_likes 행이 실제로 추가된 경우에만 호출합니다. */
+  @Modifying
+  @Query("UPDATE Review r SET r.likeCount = r.likeCount + 1 WHERE r.id = :reviewId")
+  int incrementLikeCount(@Param("reviewId") UUID reviewId);
+
+  /** 좋아요 수를 원자적으로 1 감소시킵니다. - review_likes 행이 실제로 삭제된 경우에만 호출하며 0 미만으로 내려가지 않습니다. */
+  @Modifying
+  @Query(
+      "UPDATE Review r SET r.likeCount = r.likeCount - 1 WHERE r.id = :reviewId AND r.likeCount > 0")
+  int decrementLikeCount(@Param("reviewId") UUID reviewId);
+
+  /**
+   * 댓글 수를 원자적으로 1 증가시킵니다. - 엔티티를 읽고 쓰지 않으므로 동시에 달린 댓글도 유실되지 않습니다.
+   *
+   * @return 갱신된 행 수 (리뷰가 없으면 0)
+   */
+  @Modifying
+  @Query("UPDATE Review r SET r.commentCount = r.commentCount + 1 WHERE r.id = :reviewId")
+  int incrementCommentCount(@Param("reviewId") UUID reviewId);
+
+  /** 댓글 수를 원자적으로 1 감소시킵니다. - 0 미만으로 내려가지 않습니다. */
+  @Modifying
+  @Query(
+      "UPDATE Review r SET r.commentCount = r.commentCount - 1 WHERE r.id = :reviewId AND r.commentCount > 0")
+  int decrementCommentCount(@Param("reviewId") UUID reviewId);
+
+  /**
+   * 삭제되지 않은 댓글 수와 어긋난 comment_count를 실제 값으로 보정합니다.
+   *
+   * @return 보정된 리뷰 수
+   */
+  @Modifying(clearAutomatically = true)
+  @Query(
+      value =
+          "UPDATE reviews SET comment_count = "
+              + "(SELECT COUNT(*) FROM comments c WHERE c.review_id = reviews.id AND c.is_deleted = FALSE) "
+              + "WHERE comment_count <> "
+              + "(SELECT COUNT(*) FROM comments c WHERE c.review_id = reviews.id AND c.is_deleted = FALSE)",
+      nativeQuery = true)
+  int reconcileCommentCounts();
 }
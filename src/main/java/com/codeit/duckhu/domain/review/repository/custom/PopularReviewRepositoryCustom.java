@@ -3,14 +3,18 @@ package com.codeit.duckhu.domain.review.repository.custom;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
-import java.time.Instant;
 import java.util.List;
 
 public interface PopularReviewRepositoryCustom {
-  List<PopularReview> findReviewsWithCursor(
-      PeriodType period, Direction direction, String cursor, Instant after, int size);
 
-  long countByPeriodSince(PeriodType period, Instant from);
+  /**
+   * 기간별 인기 리뷰 커서 페이지 조회 (현재 공개 중인 세대만)
+   *
+   * @param cursor 이전 페이지 마지막 항목의 커서 토큰 (rank, createdAt, id)
+   */
+  List<PopularReview> findReviewsWithCursor(
+      PeriodType period, Direction direction, String cursor, int size);
 
-  void deleteByPeriod(PeriodType period);
+  /** 기간별 현재 공개 중인 세대의 인기 리뷰 수 (period가 null이면 전체 기간) */
+  long countCurrentByPeriod(PeriodType period);
 }
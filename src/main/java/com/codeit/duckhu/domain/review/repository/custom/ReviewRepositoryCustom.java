@@ -1,13 +1,18 @@
 package com.codeit.duckhu.domain.review.repository.custom;
 
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.global.type.Direction;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface ReviewRepositoryCustom {
 
+  /**
+   * 리뷰 목록 커서 페이지 조회
+   *
+   * @param cursor 이전 페이지 마지막 리뷰의 커서 토큰 (createdAt, id 또는 rating, createdAt, id)
+   */
   List<Review> findReviewsWithCursor(
       String keyword,
       String orderBy,
@@ -15,6 +20,22 @@ public interface ReviewRepositoryCustom {
       UUID userId,
       UUID bookId,
       String cursor,
-      Instant after,
       int size);
+
+  /**
+   * {@link #findReviewsWithCursor}와 같은 조건/정렬로 조회하되, 엔티티 대신 DTO 컬럼만 프로젝션합니다.
+   *
+   * <p>작성자 닉네임, 도서 제목/썸네일, 댓글 수, 요청자의 좋아요 여부까지 한 번의 쿼리로 가져오므로 지연 로딩이 발생하지 않습니다.
+   *
+   * @param viewerId 좋아요 여부를 판단할 요청자 ID (null이면 likedByMe는 항상 false)
+   */
+  List<ReviewProjection> findReviewProjectionsWithCursor(
+      String keyword,
+      String orderBy,
+      Direction direction,
+      UUID userId,
+      UUID bookId,
+      String cursor,
+      int size,
+      UUID viewerId);
 }
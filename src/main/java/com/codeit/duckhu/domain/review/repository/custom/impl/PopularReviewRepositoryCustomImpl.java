@@ -3,16 +3,22 @@ package com.codeit.duckhu.domain.review.repository.custom.impl;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.domain.review.entity.QPopularReview;
 import com.codeit.duckhu.domain.review.repository.custom.PopularReviewRepositoryCustom;
+import com.codeit.duckhu.global.batch.RankingGenerations;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,7 +29,7 @@ public class PopularReviewRepositoryCustomImpl implements PopularReviewRepositor
 
   @Override
   public List<PopularReview> findReviewsWithCursor(
-      PeriodType period, Direction direction, String cursor, Instant after, int size) {
+      PeriodType period, Direction direction, String cursor, int size) {
 
     BooleanBuilder booleanBuilder = new BooleanBuilder();
 
@@ -36,46 +42,26 @@ public class PopularReviewRepositoryCustomImpl implements PopularReviewRepositor
     booleanBuilder.and(review.score.gt(0.0));
     booleanBuilder.and(review.likeCount.gt(0).or(review.commentCount.gt(0)));
 
-    // 현재 시간 기준으로 시작 시간 계산
-    Instant now = Instant.now();
-    if (period != null) {
-      Instant startTime = period.toStartInstant(now);
-      booleanBuilder.and(review.createdAt.goe(startTime));
-    }
+    // 현재 공개 중인 세대만 조회
+    booleanBuilder.and(currentGeneration(period));
 
     boolean isAsc = direction == Direction.ASC;
 
+    // 정렬 키 - 랭크, 같은 랭크면 생성 시간, id 순 (랭크는 기간 내에서 유일)
+    List<ComparableExpressionBase<?>> sortKeys = List.of(review.rank, review.createdAt, review.id);
+
     // 커서 조건 추가
-    if (cursor != null && after != null) {
-      int rank = Integer.parseInt(cursor);
-
-      BooleanBuilder cursorCondition = new BooleanBuilder();
-
-      if (isAsc) {
-        cursorCondition.and(
-            review.rank.gt(rank).or(review.rank.eq(rank).and(review.createdAt.gt(after))));
-      } else {
-        cursorCondition.and(
-            review.rank.lt(rank).or(review.rank.eq(rank).and(review.createdAt.lt(after))));
-      }
-      booleanBuilder.and(cursorCondition);
+    if (StringUtils.hasText(cursor)) {
+      CursorKeys keys = CursorCodec.decode(cursor, 3);
+      booleanBuilder.and(
+          Keyset.after(
+              isAsc, sortKeys, List.of(keys.getInt(0), keys.getInstant(1), keys.getUuid(2))));
     }
 
-    // 정렬 조건 설정 - 랭크 먼저, 그 다음 스코어 순서로 정렬
-    OrderSpecifier<?>[] orderSpecifiers;
-    if (isAsc) {
-      orderSpecifiers = new OrderSpecifier[] {
-          review.rank.asc(), 
-          review.score.desc(),  // rank가 같은 경우 score로 정렬
-          review.createdAt.asc()
-      };
-    } else {
-      orderSpecifiers = new OrderSpecifier[] {
-          review.rank.desc(), 
-          review.score.desc(),  // rank가 같은 경우 score로 정렬
-          review.createdAt.desc()
-      };
-    }
+    OrderSpecifier<?>[] orderSpecifiers =
+        sortKeys.stream()
+            .map(key -> isAsc ? key.asc() : key.desc())
+            .toArray(OrderSpecifier[]::new);
 
     List<PopularReview> result = queryFactory
         .selectFrom(review)
@@ -91,14 +77,14 @@ public class PopularReviewRepositoryCustomImpl implements PopularReviewRepositor
   }
 
   @Override
-  public long countByPeriodSince(PeriodType period, Instant from) {
+  public long countCurrentByPeriod(PeriodType period) {
     BooleanBuilder booleanBuilder = new BooleanBuilder();
 
     if (period != null) {
       booleanBuilder.and(review.period.eq(period));
     }
 
-    booleanBuilder.and(review.createdAt.goe(from));
+    booleanBuilder.and(currentGeneration(period));
     // 스코어가 0보다 큰 항목만 카운트
     booleanBuilder.and(review.score.gt(0.0));
     booleanBuilder.and(review.likeCount.gt(0).or(review.commentCount.gt(0)));
@@ -106,12 +92,12 @@ public class PopularReviewRepositoryCustomImpl implements PopularReviewRepositor
     return queryFactory.select(review.count()).from(review).where(booleanBuilder).fetchOne();
   }
 
-  @Override
-  @Transactional
-  public void deleteByPeriod(PeriodType period) {
-    if (period != null) {
-      long deletedCount = queryFactory.delete(review).where(review.period.eq(period)).execute();
-      log.info("기간별 인기 리뷰 삭제 완료 - 기간 : {}, 삭제된 수 : {}", period, deletedCount);
-    }
+  // 기간이 정해지면 포인터를 한 번만 읽는 조건, 전체 기간이면 행마다 자기 기간의 포인터와 비교
+  private BooleanExpression currentGeneration(PeriodType period) {
+    return period != null
+        ? RankingGenerations.current(
+            RankingSnapshotTable.POPULAR_REVIEW, period, review.generation)
+        : RankingGenerations.current(
+            RankingSnapshotTable.POPULAR_REVIEW, review.period, review.generation);
   }
 }
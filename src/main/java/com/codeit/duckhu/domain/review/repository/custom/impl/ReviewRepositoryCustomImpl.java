@@ -1,24 +1,49 @@
 package com.codeit.duckhu.domain.review.repository.custom.impl;
 
+import com.codeit.duckhu.domain.book.entity.QBook;
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
+import com.codeit.duckhu.domain.review.entity.QLikedUserId;
 import com.codeit.duckhu.domain.review.entity.QReview;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.review.repository.custom.ReviewRepositoryCustom;
+import com.codeit.duckhu.domain.user.entity.QUser;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
+import com.codeit.duckhu.global.search.KeywordSearchStrategy;
+import com.codeit.duckhu.global.search.LikeKeywordSearchStrategy;
 import com.codeit.duckhu.global.type.Direction;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.util.StringUtils;
 
-@RequiredArgsConstructor
 public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 
   private final JPAQueryFactory queryFactory;
+  private final KeywordSearchStrategy keywordSearchStrategy;
   QReview review = QReview.review;
+  QUser user = QUser.user;
+  QBook book = QBook.book;
+  QLikedUserId likedUserId = QLikedUserId.likedUserId;
+
+  // 검색 전략 빈이 없는 환경(슬라이스 테스트 등)에서는 LIKE 검색 사용
+  public ReviewRepositoryCustomImpl(
+      JPAQueryFactory queryFactory, ObjectProvider<KeywordSearchStrategy> keywordSearchStrategy) {
+    this.queryFactory = queryFactory;
+    this.keywordSearchStrategy =
+        keywordSearchStrategy.getIfAvailable(LikeKeywordSearchStrategy::new);
+  }
 
   @Override
   public List<Review> findReviewsWithCursor(
@@ -28,17 +53,115 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
       UUID userId,
       UUID bookId,
       String cursor,
-      Instant after,
       int size) {
 
+    BooleanBuilder booleanBuilder =
+        getSearchCondition(keyword, orderBy, direction, userId, bookId, cursor);
+
+    OrderSpecifier<?>[] orderSpecifiers = getOrderSpecifiers(orderBy, isAsc(direction));
+
+    return queryFactory
+        .selectFrom(review)
+        .join(review.user, user)
+        .join(review.book, book)
+        .where(booleanBuilder)
+        .orderBy(orderSpecifiers)
+        .limit(size)
+        .fetch();
+  }
+
+  @Override
+  public List<ReviewProjection> findReviewProjectionsWithCursor(
+      String keyword,
+      String orderBy,
+      Direction direction,
+      UUID userId,
+      UUID bookId,
+      String cursor,
+      int size,
+      UUID viewerId) {
+
+    BooleanBuilder booleanBuilder =
+        getSearchCondition(keyword, orderBy, direction, userId, bookId, cursor);
+
+    OrderSpecifier<?>[] orderSpecifiers = getOrderSpecifiers(orderBy, isAsc(direction));
+
+    Expression<Boolean> likedByMe = likedByViewer(viewerId);
+
+    List<Tuple> rows =
+        queryFactory
+            .select(
+                review.id,
+                user.id,
+                user.nickname,
+                book.id,
+                book.title,
+                book.thumbnailUrl,
+                review.content,
+                review.rating,
+                review.likeCount,
+                review.commentCount,
+                likedByMe,
+                review.createdAt,
+                review.updatedAt)
+            .from(review)
+            .join(review.user, user)
+            .join(review.book, book)
+            .where(booleanBuilder)
+            .orderBy(orderSpecifiers)
+            .limit(size)
+            .fetch();
+
+    return rows.stream()
+        .map(
+            t -> {
+              Boolean liked = t.get(likedByMe);
+              return ReviewProjection.builder()
+                  .id(t.get(review.id))
+                  .userId(t.get(user.id))
+                  .userNickname(t.get(user.nickname))
+                  .bookId(t.get(book.id))
+                  .bookTitle(t.get(book.title))
+                  .bookThumbnailKey(t.get(book.thumbnailUrl))
+                  .content(t.get(review.content))
+                  .rating(t.get(review.rating))
+                  .likeCount(t.get(review.likeCount))
+                  .commentCount(t.get(review.commentCount))
+                  .likedByMe(Boolean.TRUE.equals(liked))
+                  .createdAt(t.get(review.createdAt))
+                  .updatedAt(t.get(review.updatedAt))
+                  .build();
+            })
+        .toList();
+  }
+
+  // 요청자의 좋아요 여부 - EXISTS 서브쿼리 (요청자가 없으면 항상 false)
+  private Expression<Boolean> likedByViewer(UUID viewerId) {
+    if (viewerId == null) {
+      return Expressions.booleanTemplate("false");
+    }
+    BooleanExpression exists =
+        JPAExpressions.selectOne()
+            .from(likedUserId)
+            .where(likedUserId.review.id.eq(review.id), likedUserId.userId.eq(viewerId))
+            .exists();
+    return new CaseBuilder().when(exists).then(true).otherwise(false);
+  }
+
+  // 키워드/작성자/도서 필터 + 논리 삭제 제외 + 커서 조건
+  private BooleanBuilder getSearchCondition(
+      String keyword,
+      String orderBy,
+      Direction direction,
+      UUID userId,
+      UUID bookId,
+      String cursor) {
     BooleanBuilder booleanBuilder = new BooleanBuilder();
 
     // 키워드 검색 - 닉네임, 내용, 도서 제목
     if (StringUtils.hasText(keyword)) {
-      booleanBuilder.andAnyOf(
-          review.user.nickname.containsIgnoreCase(keyword),
-          review.content.containsIgnoreCase(keyword),
-          review.book.title.containsIgnoreCase(keyword));
+      booleanBuilder.and(
+          keywordSearchStrategy.containsAny(keyword, user.nickname, review.content, book.title));
     }
 
     // 작성자 ID 필터링
@@ -53,80 +176,39 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
 
     booleanBuilder.and(review.isDeleted.eq(false));
 
-    if (cursor != null && after != null) {
-      booleanBuilder.and(getCursorCondition(orderBy, cursor, after, isAsc(direction)));
+    if (StringUtils.hasText(cursor)) {
+      booleanBuilder.and(
+          Keyset.after(isAsc(direction), getSortKeys(orderBy), getCursorValues(orderBy, cursor)));
     }
 
-    List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifiers(orderBy, isAsc(direction));
-
-    return queryFactory
-        .selectFrom(review)
-        .where(booleanBuilder)
-        .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new))
-        .limit(size)
-        .fetch();
+    return booleanBuilder;
   }
 
   private boolean isAsc(Direction direction) {
     return "ASC".equalsIgnoreCase(String.valueOf(direction));
   }
 
-  // 정렬 조건 필드 - createdAt, rating
-  private BooleanBuilder getCursorCondition(
-      String orderBy, String cursor, Instant after, boolean isAsc) {
-    BooleanBuilder condition = new BooleanBuilder();
-
-    if (orderBy.equals("createdAt")) {
-      if (isAsc) {
-        condition.and(
-            review
-                .createdAt
-                .gt(after)
-                .or(review.createdAt.eq(after).and(review.id.gt(UUID.fromString(cursor)))));
-      } else {
-        condition.and(
-            review
-                .createdAt
-                .lt(after)
-                .or(review.createdAt.eq(after).and(review.id.lt(UUID.fromString(cursor)))));
-      }
-    } else if (orderBy.equals("rating")) {
-      int cursorRating = Integer.parseInt(cursor);
-      if (isAsc) {
-        condition.and(
-            review
-                .rating
-                .gt(cursorRating)
-                .or(review.rating.eq(cursorRating).and(review.createdAt.gt(after))));
-      } else {
-        condition.and(
-            review
-                .rating
-                .lt(cursorRating)
-                .or(review.rating.eq(cursorRating).and(review.createdAt.lt(after))));
-      }
+  // 정렬 키 - createdAt 또는 rating (동률은 createdAt, id 순)
+  private List<ComparableExpressionBase<?>> getSortKeys(String orderBy) {
+    if ("rating".equals(orderBy)) {
+      return List.of(review.rating, review.createdAt, review.id);
     }
-    return condition;
+    return List.of(review.createdAt, review.id);
   }
 
-  private List<OrderSpecifier<?>> getOrderSpecifiers(String orderBy, boolean isAsc) {
-    List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
-
-    // 주요 정렬 조건 - createdAt or rating
+  // 커서 토큰 - 정렬 키와 같은 순서의 값
+  private List<Object> getCursorValues(String orderBy, String cursor) {
     if ("rating".equals(orderBy)) {
-      orderSpecifiers.add(isAsc ? review.rating.asc() : review.rating.desc());
-
-      // 평점이 같은 경우 생성 시간 정렬
-      orderSpecifiers.add(isAsc ? review.createdAt.asc() : review.createdAt.desc());
-
-    } else {
-
-      // 기본 값 정렬
-      orderSpecifiers.add(isAsc ? review.createdAt.asc() : review.createdAt.desc());
+      CursorKeys keys = CursorCodec.decode(cursor, 3);
+      return List.of(keys.getInt(0), keys.getInstant(1), keys.getUuid(2));
     }
+    CursorKeys keys = CursorCodec.decode(cursor, 2);
+    return List.of(keys.getInstant(0), keys.getUuid(1));
+  }
 
-    orderSpecifiers.add(isAsc ? review.id.asc() : review.id.desc());
-
-    return orderSpecifiers;
+  private OrderSpecifier<?>[] getOrderSpecifiers(String orderBy, boolean isAsc) {
+    return getSortKeys(orderBy).stream()
+        .map(key -> isAsc ? key.asc() : key.desc())
+        .toArray(OrderSpecifier[]::new);
   }
 }
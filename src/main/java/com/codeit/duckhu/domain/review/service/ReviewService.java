@@ -32,6 +32,10 @@ public interface ReviewService {
 
   Review findByIdEntityReturn(UUID reviewId);
 
+  void increaseCommentCount(UUID reviewId);
+
+  void decreaseCommentCount(UUID reviewId);
+
   CursorPageResponsePopularReviewDto getPopularReviews(
       PeriodType period, Direction direction, String cursor, Instant after, Integer limit);
 }
@@ -0,0 +1,343 @@
+package com.codeit.duckhu.domain.review.service.impl;
+
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.dto.ReviewAuthorBookKey;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse.ItemError;
+import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.entity.UuidV7;
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 일괄 등록 (파트너 사이트 리뷰 이관용)
+ *
+ * <p>JSON 배열이나 NDJSON 본문을 한 건씩 읽어 chunk-size 단위로 처리하므로 요청 크기와 상관없이 메모리에는 한 chunk만 올라갑니다. chunk마다
+ * 사용자/도서/기존 리뷰를 IN 조회 한 번씩으로 확인하고, 통과한 리뷰는 JDBC 배치 INSERT로 저장한 뒤 도서별 집계를 도서당 UPDATE 한 번으로
+ * 반영합니다. chunk는 각각 별도 트랜잭션이라 앞선 chunk의 결과는 뒤 chunk가 실패해도 유지됩니다.
+ *
+ * <p>논리 삭제된 리뷰가 있는 조합은 중복으로 보고 건너뜁니다. 삭제된 리뷰 복구는 단건 등록 API에서 처리합니다.
+ *
+ * <p>요청한 사용자와 상관없이 임의의 사용자 이름으로 리뷰를 쓰는 이관 전용 기능이라 {@code duckhu.review.bulk-import.enabled}가
+ * true일 때만 동작하며(기본값 false), 한 요청에서 읽는 항목 수는 {@code max-items}로 제한합니다.
+ */
+@Slf4j
+@Service
+public class ReviewBulkImportService {
+
+  // reviews.content 컬럼 길이 - 넘으면 배치 INSERT 전체가 실패하므로 항목 단위로 먼저 거름
+  private static final int MAX_CONTENT_LENGTH = 255;
+
+  static final String INSERT_SQL =
+      "INSERT INTO reviews (id, book_id, user_id, content, rating, like_count, comment_count, "
+          + "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 0, FALSE, ?, ?)";
+
+  private final ReviewRepository reviewRepository;
+  private final UserRepository userRepository;
+  private final BookRepository bookRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectReader requestReader;
+  private final Validator validator;
+  private final boolean enabled;
+  private final int chunkSize;
+  private final int maxItems;
+  private final int maxReportedErrors;
+
+  public ReviewBulkImportService(
+      ReviewRepository reviewRepository,
+      UserRepository userRepository,
+      BookRepository bookRepository,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${duckhu.review.bulk-import.enabled:false}") boolean enabled,
+      @Value("${duckhu.review.bulk-import.chunk-size:500}") int chunkSize,
+      @Value("${duckhu.review.bulk-import.max-items:10000}") int maxItems,
+      @Value("${duckhu.review.bulk-import.max-reported-errors:1000}") int maxReportedErrors) {
+    this.reviewRepository = reviewRepository;
+    this.userRepository = userRepository;
+    this.bookRepository = bookRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.requestReader = objectMapper.readerFor(ReviewCreateRequest.class);
+    this.validator = validator;
+    this.enabled = enabled;
+    this.chunkSize = chunkSize;
+    this.maxItems = maxItems;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * 요청 본문의 리뷰를 순서대로 등록합니다. 항목 단위 오류(입력값, 사용자/도서 없음, 중복)는 결과에 담고 다음 항목을 계속 처리하며, JSON 문법 오류를
+   * 만나면 그 앞까지만 처리하고 멈춥니다. 최대 항목 수를 넘는 항목도 첫 항목만 실패로 남기고 멈춥니다.
+   *
+   * @param body JSON 배열 또는 줄 단위 JSON(NDJSON) 스트림
+   * @return 전체/성공/실패 건수와 실패 항목 목록
+   * @throws DomainException 일괄 등록이 꺼져 있는 경우 (NOT_FOUND)
+   */
+  public ReviewBulkImportResponse importReviews(InputStream body) throws IOException {
+    if (!enabled) {
+      // 이관 기간 외에는 엔드포인트가 없는 것처럼 응답
+      throw new DomainException(ErrorCode.NOT_FOUND);
+    }
+    ImportResult result = new ImportResult(maxReportedErrors);
+    List<IndexedRequest> chunk = new ArrayList<>(chunkSize);
+    long start = System.currentTimeMillis();
+
+    // 루트가 배열이면 원소를, 아니면 공백으로 구분된 최상위 값(NDJSON)을 하나씩 읽음
+    try (MappingIterator<ReviewCreateRequest> items = requestReader.readValues(body)) {
+      int index = 0;
+      while (true) {
+        ReviewCreateRequest request;
+        try {
+          if (!items.hasNextValue()) {
+            break;
+          }
+          if (index >= maxItems) {
+            result.fail(
+                index,
+                null,
+                ErrorCode.INVALID_INPUT_VALUE,
+                "한 요청에 최대 " + maxItems + "건까지 등록할 수 있습니다.");
+            break;
+          }
+          request = items.nextValue();
+        } catch (JsonProcessingException e) {
+          // 값 변환 오류(잘못된 UUID 등)는 해당 항목만 실패, 문법 오류는 이후를 읽을 수 없어 중단
+          result.fail(index++, null, ErrorCode.INVALID_INPUT_VALUE, e.getOriginalMessage());
+          if (e instanceof JsonParseException) {
+            break;
+          }
+          continue;
+        }
+
+        String violation = validate(request);
+        if (violation != null) {
+          result.fail(index++, request, ErrorCode.INVALID_INPUT_VALUE, violation);
+          continue;
+        }
+
+        chunk.add(new IndexedRequest(index++, request));
+        if (chunk.size() >= chunkSize) {
+          processChunk(chunk, result);
+          chunk.clear();
+        }
+      }
+    } finally {
+      if (!chunk.isEmpty()) {
+        processChunk(chunk, result);
+      }
+    }
+
+    log.info(
+        "[리뷰 일괄 등록 완료] 전체: {}, 성공: {}, 실패: {}, 소요 시간: {}ms",
+        result.total,
+        result.succeeded,
+        result.failed,
+        System.currentTimeMillis() - start);
+    return result.toResponse();
+  }
+
+  private String validate(ReviewCreateRequest request) {
+    if (request == null || request.getUserId() == null || request.getBookId() == null) {
+      return "userId와 bookId는 필수입니다.";
+    }
+    Set<ConstraintViolation<ReviewCreateRequest>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return request.getContent().length() > MAX_CONTENT_LENGTH
+          ? "content: " + MAX_CONTENT_LENGTH + "자 이하여야 합니다."
+          : null;
+    }
+    return violations.stream()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .collect(Collectors.joining(", "));
+  }
+
+  private void processChunk(List<IndexedRequest> chunk, ImportResult result) {
+    try {
+      ChunkOutcome outcome = transactionTemplate.execute(status -> insertChunk(chunk));
+      result.succeeded += outcome.inserted();
+      result.total += outcome.inserted();
+      outcome.rejected().forEach(result::addError);
+    } catch (RuntimeException e) {
+      log.error("[리뷰 일괄 등록 chunk 실패] 건수: {}", chunk.size(), e);
+      chunk.forEach(
+          item ->
+              result.fail(
+                  item.index(),
+                  item.request(),
+                  ErrorCode.INTERNAL_SERVER_ERROR,
+                  ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
+    }
+  }
+
+  /** chunk 하나를 검증/저장하고 저장 건수와 거른 항목을 반환합니다. 롤백되면 chunk 전체를 실패로 기록하므로 결과 반영은 커밋 이후에 합니다. */
+  private ChunkOutcome insertChunk(List<IndexedRequest> chunk) {
+    Set<UUID> userIds = new HashSet<>();
+    Set<UUID> bookIds = new HashSet<>();
+    chunk.forEach(
+        item -> {
+          userIds.add(item.request().getUserId());
+          bookIds.add(item.request().getBookId());
+        });
+
+    // 사용자/도서/기존 리뷰를 chunk당 한 번씩만 조회
+    Set<UUID> existingUsers = new HashSet<>(userRepository.findExistingIds(userIds));
+    Set<UUID> existingBooks = new HashSet<>(bookRepository.findExistingIds(bookIds));
+    Set<ReviewAuthorBookKey> takenKeys =
+        new HashSet<>(reviewRepository.findAuthorBookKeys(userIds, bookIds));
+
+    List<IndexedRequest> accepted = new ArrayList<>(chunk.size());
+    List<ItemError> rejected = new ArrayList<>();
+    for (IndexedRequest item : chunk) {
+      ReviewCreateRequest request = item.request();
+      ErrorCode error = null;
+      if (!existingUsers.contains(request.getUserId())) {
+        error = ErrorCode.NOT_FOUND_USER;
+      } else if (!existingBooks.contains(request.getBookId())) {
+        error = ErrorCode.BOOK_NOT_FOUND;
+      } else if (!takenKeys.add(
+          new ReviewAuthorBookKey(request.getUserId(), request.getBookId()))) {
+        // 이미 저장된 리뷰이거나 같은 요청 안에서 앞서 나온 조합
+        error = ErrorCode.REVIEW_ALREADY_EXISTS_BY_BOOK;
+      }
+
+      if (error == null) {
+        accepted.add(item);
+      } else {
+        rejected.add(ImportResult.toError(item.index(), request, error, error.getMessage()));
+      }
+    }
+
+    if (!accepted.isEmpty()) {
+      Timestamp now = Timestamp.from(Instant.now());
+      List<Object[]> batchArgs = new ArrayList<>(accepted.size());
+      for (IndexedRequest item : accepted) {
+        ReviewCreateRequest request = item.request();
+        batchArgs.add(
+            new Object[] {
+              UuidV7.randomUUID(),
+              request.getBookId(),
+              request.getUserId(),
+              request.getContent(),
+              request.getRating(),
+              now,
+              now
+            });
+      }
+      jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+      applyBookStats(accepted);
+    }
+
+    return new ChunkOutcome(accepted.size(), rejected);
+  }
+
+  // 도서별로 증감분을 모아 도서당 UPDATE 한 번으로 리뷰 수/평점 합계/별점 분포 반영
+  private void applyBookStats(List<IndexedRequest> accepted) {
+    Map<UUID, int[]> starCountsByBook = new HashMap<>();
+    for (IndexedRequest item : accepted) {
+      int[] starCounts =
+          starCountsByBook.computeIfAbsent(item.request().getBookId(), id -> new int[6]);
+      starCounts[item.request().getRating()]++;
+    }
+
+    starCountsByBook.forEach(
+        (bookId, starCounts) -> {
+          int count = 0;
+          long ratingSum = 0;
+          for (int star = 1; star <= 5; star++) {
+            count += starCounts[star];
+            ratingSum += (long) star * starCounts[star];
+          }
+          bookRepository.applyReviewDelta(
+              bookId,
+              count,
+              ratingSum,
+              starCounts[1],
+              starCounts[2],
+              starCounts[3],
+              starCounts[4],
+              starCounts[5]);
+        });
+  }
+
+  private record IndexedRequest(int index, ReviewCreateRequest request) {}
+
+  private record ChunkOutcome(int inserted, List<ItemError> rejected) {}
+
+  /** 건수와 실패 목록 누적 - 실패 목록은 maxReportedErrors개까지만 보관 */
+  private static class ImportResult {
+    private final int maxReportedErrors;
+    private final List<ItemError> errors = new ArrayList<>();
+    private int total;
+    private int succeeded;
+    private int failed;
+
+    ImportResult(int maxReportedErrors) {
+      this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void fail(int index, ReviewCreateRequest request, ErrorCode code, String message) {
+      addError(toError(index, request, code, message));
+    }
+
+    void addError(ItemError error) {
+      total++;
+      failed++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(error);
+      }
+    }
+
+    static ItemError toError(
+        int index, ReviewCreateRequest request, ErrorCode code, String message) {
+      return ItemError.builder()
+          .index(index)
+          .userId(request != null ? request.getUserId() : null)
+          .bookId(request != null ? request.getBookId() : null)
+          .code(code.name())
+          .message(message)
+          .build();
+    }
+
+    ReviewBulkImportResponse toResponse() {
+      errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+      return ReviewBulkImportResponse.builder()
+          .total(total)
+          .succeeded(succeeded)
+          .failed(failed)
+          .errorsTruncated(failed > errors.size())
+          .errors(errors)
+          .build();
+    }
+  }
+}
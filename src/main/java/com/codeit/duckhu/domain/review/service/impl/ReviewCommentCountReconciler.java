@@ -0,0 +1,31 @@
+package com.codeit.duckhu.domain.review.service.impl;
+
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 댓글 수 보정 작업
+ *
+ * <p>comment_count는 댓글 생성/삭제 시 원자적 UPDATE로 관리되고 조회 시에는 컬럼 값을 그대로 사용합니다. 댓글이 리뷰 삭제 등으로 함께
+ * 지워지거나 수동으로 데이터가 바뀌어 생길 수 있는 차이를 하루 한 번 실제 댓글 수로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCommentCountReconciler {
+
+  private final ReviewRepository reviewRepository;
+
+  @Scheduled(cron = "0 15 0 * * *", zone = "Asia/Seoul")
+  @Transactional
+  public void reconcile() {
+    long start = System.currentTimeMillis();
+    int fixed = reviewRepository.reconcileCommentCounts();
+    log.info(
+        "[댓글 수 보정 완료] 보정된 리뷰 수: {}, 소요 시간: {}ms", fixed, System.currentTimeMillis() - start);
+  }
+}
@@ -0,0 +1,182 @@
+package com.codeit.duckhu.domain.review.service.impl;
+
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 좋아요 수 write-behind 버퍼
+ *
+ * <p>좋아요가 몰리는 리뷰는 토글마다 같은 reviews 행을 UPDATE 하느라 행 잠금에서 줄을 서게 됩니다. 이 모드를 켜면 review_likes 행
+ * 추가/삭제는 그대로 요청 트랜잭션에서 처리하고, like_count 증감분만 커밋 이후 리뷰별로 메모리에 모았다가 짧은 주기 또는 누적 건수 기준으로
+ * {@code UPDATE ... SET like_count = like_count + ?} 배치 한 번에 반영합니다.
+ *
+ * <p>증감분은 ConcurrentHashMap의 키 단위 merge로 누적하므로 서로 다른 리뷰끼리는 경합하지 않습니다. 반영 전까지 like_count는 최대
+ * 한 주기만큼 늦게 보이며, 종료 시에는 남은 증감분을 모두 반영합니다. 기본값은 꺼져 있습니다({@code
+ * duckhu.review.like-count.write-behind}).
+ */
+@Slf4j
+@Component
+public class ReviewLikeCountBuffer {
+
+  static final String UPDATE_SQL =
+      "UPDATE reviews SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final int flushThreshold;
+
+  private final Map<UUID, Long> pendingDeltas = new ConcurrentHashMap<>();
+  private final AtomicInteger pendingOps = new AtomicInteger();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final ScheduledExecutorService flusher;
+
+  private final Counter flushedRowsCounter;
+  private final Counter failedFlushCounter;
+
+  public ReviewLikeCountBuffer(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${duckhu.review.like-count.write-behind:false}") boolean enabled,
+      @Value("${duckhu.review.like-count.flush-interval-ms:200}") long flushIntervalMs,
+      @Value("${duckhu.review.like-count.flush-threshold:1000}") int flushThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.flushThreshold = flushThreshold;
+
+    meterRegistry.gauge("review.like_count.buffer.pending", pendingDeltas, Map::size);
+    this.flushedRowsCounter = meterRegistry.counter("review.like_count.buffer.flushed");
+    this.failedFlushCounter = meterRegistry.counter("review.like_count.buffer.failed");
+
+    if (enabled) {
+      this.flusher =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "like-count-flusher");
+                thread.setDaemon(true);
+                return thread;
+              });
+      flusher.scheduleWithFixedDelay(
+          this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+      log.info(
+          "[좋아요 수 write-behind 사용] 반영 주기: {}ms, 즉시 반영 기준: {}건", flushIntervalMs, flushThreshold);
+    } else {
+      this.flusher = null;
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 좋아요 수 증감분을 버퍼에 추가합니다. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영되어, 롤백된 좋아요 토글이 카운트에 섞이지 않습니다.
+   *
+   * @param reviewId 리뷰 ID
+   * @param delta 증감분 (+1 또는 -1)
+   */
+  public void add(UUID reviewId, int delta) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              accumulate(reviewId, delta);
+            }
+          });
+    } else {
+      accumulate(reviewId, delta);
+    }
+  }
+
+  private void accumulate(UUID reviewId, long delta) {
+    pendingDeltas.merge(reviewId, delta, Long::sum);
+    if (pendingOps.incrementAndGet() >= flushThreshold
+        && flusher != null
+        && !flusher.isShutdown()
+        && flushRequested.compareAndSet(false, true)) {
+      flusher.execute(this::flush);
+    }
+  }
+
+  /**
+   * 모인 증감분을 리뷰 ID 순서로 한 트랜잭션 안의 배치 UPDATE로 반영합니다. 실패하면 트랜잭션 전체가 롤백되므로 모든 증감분을 버퍼에 되돌려 다음
+   * 주기에 다시 시도합니다. (트랜잭션 없이 실행하면 문장마다 자동 커밋되어, 이미 반영된 증감분까지 되돌려 두 번 더해질 수 있음)
+   */
+  public synchronized void flush() {
+    flushRequested.set(false);
+    pendingOps.set(0);
+
+    List<UUID> reviewIds = new ArrayList<>(pendingDeltas.keySet());
+    if (reviewIds.isEmpty()) {
+      return;
+    }
+    // 여러 인스턴스가 동시에 반영할 때 잠금 순서를 맞추기 위해 ID 순으로 정렬
+    reviewIds.sort(null);
+
+    List<UUID> flushedIds = new ArrayList<>(reviewIds.size());
+    List<Object[]> batchArgs = new ArrayList<>(reviewIds.size());
+    for (UUID reviewId : reviewIds) {
+      Long delta = pendingDeltas.remove(reviewId);
+      if (delta != null && delta != 0) {
+        flushedIds.add(reviewId);
+        batchArgs.add(new Object[] {delta, reviewId});
+      }
+    }
+    if (batchArgs.isEmpty()) {
+      return;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs));
+    } catch (RuntimeException e) {
+      batchArgs.forEach(args -> pendingDeltas.merge((UUID) args[1], (Long) args[0], Long::sum));
+      failedFlushCounter.increment();
+      log.error("[좋아요 수 반영 실패] 리뷰 수: {} - 다음 주기에 다시 시도합니다.", batchArgs.size(), e);
+      return;
+    }
+
+    flushedRowsCounter.increment(batchArgs.size());
+    // 반영 전에 다시 캐시된 리뷰 상세가 늦은 좋아요 수를 들고 있지 않도록 무효화
+    flushedIds.forEach(reviewId -> eventPublisher.publishEvent(new ReviewChangedEvent(reviewId)));
+    log.debug("[좋아요 수 반영 완료] 리뷰 수: {}", batchArgs.size());
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    if (flusher == null) {
+      return;
+    }
+    flusher.shutdown();
+    flusher.awaitTermination(5, TimeUnit.SECONDS);
+    // 종료 직전까지 쌓인 증감분 반영
+    flush();
+  }
+}
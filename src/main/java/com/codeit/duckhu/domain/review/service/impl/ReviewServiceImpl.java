@@ -3,35 +3,50 @@ package com.codeit.duckhu.domain.review.service.impl;
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
 import com.codeit.duckhu.domain.book.storage.ThumbnailImageStorage;
-import com.codeit.duckhu.domain.comment.repository.CommentRepository;
-import com.codeit.duckhu.domain.notification.service.NotificationService;
+import com.codeit.duckhu.domain.notification.event.ReviewLikedEvent;
+import com.codeit.duckhu.domain.review.cache.ReviewDetailCache;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponsePopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponseReviewDto;
 import com.codeit.duckhu.domain.review.dto.PopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewLikeDto;
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
 import com.codeit.duckhu.domain.review.dto.ReviewSearchRequestDto;
 import com.codeit.duckhu.domain.review.dto.ReviewUpdateRequest;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.event.ReviewActivityEvent;
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
+import com.codeit.duckhu.domain.review.event.ReviewDeletedEvent;
 import com.codeit.duckhu.domain.review.mapper.ReviewMapper;
+import com.codeit.duckhu.domain.review.ranking.PopularReviewLiveRanking;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows;
+import com.codeit.duckhu.domain.review.repository.LikedUserIdRepository;
 import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
 import com.codeit.duckhu.domain.review.repository.ReviewRepository;
 import com.codeit.duckhu.domain.review.service.ReviewService;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.entity.UuidV7;
 import com.codeit.duckhu.global.exception.DomainException;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,13 +62,17 @@ public class ReviewServiceImpl implements ReviewService {
   private final BookRepository bookRepository;
   private final UserRepository userRepository;
   private final PopularReviewRepository popularRepository;
-  // 알림 생성을 위해 DI추가
-  private final NotificationService notificationService;
+  private final LikedUserIdRepository likedUserIdRepository;
+  private final ReviewLikeCountBuffer likeCountBuffer;
 
   private final ThumbnailImageStorage thumbnailImageStorage;
 
-  // 코멘트 수 업데이트를 위해 CommentRepository 추가
-  private final CommentRepository commentRepository;
+  // 리뷰 상세 캐시와 무효화 이벤트 발행
+  private final ReviewDetailCache reviewDetailCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 실시간 인기 리뷰 랭킹 (켜져 있고 재구성이 끝났으면 인기 리뷰 조회를 스냅샷 대신 처리)
+  private final PopularReviewLiveRanking liveRanking;
 
   @Override
   @Transactional
@@ -86,15 +105,17 @@ public class ReviewServiceImpl implements ReviewService {
       review.updateRating(request.getRating());
       review.restore(); // 삭제 상태 해제
       reviewRepository.save(review);
+      eventPublisher.publishEvent(new ReviewChangedEvent(review.getId()));
 
-      // 도서 통계 재계산
-      recalculateBookStats(review.getBook());
+      // 삭제 시 도서 집계에서 빠졌으므로 새 평점으로 다시 더함
+      applyBookStats(review.getBook(), null, request.getRating());
 
       // 썸네일 이미지를 S3 주소로 가져옵니다.
       String thumbnailUrl = thumbnailImageStorage.get(review.getBook().getThumbnailUrl());
 
       // DTO로 변환하여 반환
-      return reviewMapper.toDto(review, thumbnailUrl, request.getUserId());
+      return reviewMapper.toDto(
+          review, thumbnailUrl, findLikedReviewIds(request.getUserId(), review.getId()));
     }
 
     // 매퍼를 사용하여 엔티티 생성
@@ -104,19 +125,28 @@ public class ReviewServiceImpl implements ReviewService {
     review = reviewRepository.save(review);
 
     // jw
-    recalculateBookStats(book);
+    applyBookStats(book, null, review.getRating());
 
     // jw - 썸네일 이미지를 S3 주소로 가져옵니다.
     String thumbnailUrl = thumbnailImageStorage.get(review.getBook().getThumbnailUrl());
 
-    // DTO로 변환하여 반환
-    return reviewMapper.toDto(review, thumbnailUrl, request.getUserId());
+    // DTO로 변환하여 반환 (새로 작성된 리뷰에는 좋아요가 없음)
+    return reviewMapper.toDto(review, thumbnailUrl, Set.of());
   }
 
   @Override
   public ReviewDto getReviewById(UUID userId, UUID reviewId) {
     log.info("리뷰 조회, ID: {}", reviewId);
 
+    // 요청자와 무관한 부분은 캐시에서, 좋아요 여부만 요청마다 review_likes에서 조회
+    ReviewDto cached = reviewDetailCache.get(reviewId, this::loadReviewDetail);
+    boolean likedByMe = findLikedReviewIds(userId, reviewId).contains(reviewId);
+
+    return cached.toBuilder().likedByMe(likedByMe).build();
+  }
+
+  // 리뷰 상세 캐시 미스 시 조회 (likedByMe는 항상 false로 저장)
+  private ReviewDto loadReviewDetail(UUID reviewId) {
     // 리뷰 조회
     Review review =
         reviewRepository
@@ -128,16 +158,22 @@ public class ReviewServiceImpl implements ReviewService {
       throw new DomainException(ErrorCode.REVIEW_IS_DELETED);
     }
 
-    // 코멘트 수를 DB에서 직접 가져옵니다
-    int commentCount = commentRepository.countByReviewIdAndIsDeletedFalse(reviewId);
-    // 리뷰 엔티티에 코멘트 수 설정
-    review.updateCommentCount(commentCount);
-
+    // 코멘트 수는 댓글 생성/삭제 시 원자적으로 갱신되는 comment_count 컬럼을 그대로 사용합니다
     // jw - 썸네일 이미지를 S3 주소로 가져옵니다.
     String thumbnailUrl = thumbnailImageStorage.get(review.getBook().getThumbnailUrl());
 
     // DTO로 변환하여 반환
-    return reviewMapper.toDto(review, thumbnailUrl, userId);
+    return reviewMapper.toDto(review, thumbnailUrl, Set.of());
+  }
+
+  // 여러 리뷰의 상세 캐시 미스를 IN 조회 한 번으로 채움 - 없거나 삭제된 리뷰는 결과에서 빠짐
+  private Map<UUID, ReviewDto> loadReviewDetails(Set<UUID> reviewIds) {
+    Map<UUID, ReviewDto> details = new HashMap<>();
+    for (Review review : reviewRepository.findAllWithBookAndUserByIdIn(reviewIds)) {
+      String thumbnailUrl = thumbnailImageStorage.get(review.getBook().getThumbnailUrl());
+      details.put(review.getId(), reviewMapper.toDto(review, thumbnailUrl, Set.of()));
+    }
+    return details;
   }
 
   @Transactional
@@ -156,13 +192,15 @@ public class ReviewServiceImpl implements ReviewService {
     // 사용자가 권한이 있는지 확인
     if (review.getUser().getId().equals(userId)) {
       reviewRepository.delete(review);
+      eventPublisher.publishEvent(new ReviewChangedEvent(reviewId));
+      eventPublisher.publishEvent(new ReviewDeletedEvent(reviewId));
     } else {
       log.debug("리뷰 물리 삭제 권한 없음 - 사용자 ID: {}", userId);
       throw new DomainException(ErrorCode.NO_AUTHORITY_USER);
     }
 
     // jw
-    recalculateBookStats(review.getBook());
+    applyBookStats(review.getBook(), review.getRating(), null);
   }
 
   @Transactional
@@ -185,9 +223,11 @@ public class ReviewServiceImpl implements ReviewService {
     }
     review.softDelete();
     reviewRepository.save(review);
+    eventPublisher.publishEvent(new ReviewChangedEvent(reviewId));
+    eventPublisher.publishEvent(new ReviewDeletedEvent(reviewId));
 
     // jw
-    recalculateBookStats(review.getBook());
+    applyBookStats(review.getBook(), review.getRating(), null);
   }
 
   @Transactional
@@ -217,19 +257,24 @@ public class ReviewServiceImpl implements ReviewService {
         review.getRating(), 
         request.getRating());
 
+    int previousRating = review.getRating();
     review.updateContent(request.getContent());
     review.updateRating(request.getRating());
 
     Review updatedReview = reviewRepository.save(review);
+    eventPublisher.publishEvent(new ReviewChangedEvent(reviewId));
     log.info("리뷰 업데이트 성공, ID: {}", updatedReview.getId());
 
     // jw
-    recalculateBookStats(updatedReview.getBook());
+    if (previousRating != updatedReview.getRating()) {
+      applyBookStats(updatedReview.getBook(), previousRating, updatedReview.getRating());
+    }
 
     // jw - 썸네일을 S3 저장소에서 가져옵니다.
     String thumbnailUrl = thumbnailImageStorage.get(updatedReview.getBook().getThumbnailUrl());
 
-    return reviewMapper.toDto(updatedReview, thumbnailUrl, userId);
+    return reviewMapper.toDto(
+        updatedReview, thumbnailUrl, findLikedReviewIds(userId, updatedReview.getId()));
   }
 
   @Transactional
@@ -245,38 +290,49 @@ public class ReviewServiceImpl implements ReviewService {
       throw new DomainException(ErrorCode.REVIEW_IS_DELETED);
     }
 
-    // 사용자 찾기
-    var isExistUser = userRepository.existsById(userId);
-    if (!isExistUser) {
-      log.debug("사용자를 찾을 수 없습니다. - 사용자 ID: {}", userId);
-      throw new DomainException(ErrorCode.NOT_FOUND);
-    }
-
-    boolean likedBefore = review.liked(userId);
-
-    if (likedBefore) {
-      review.decreaseLikeCount(userId);
+    // 사용자 찾기 (닉네임은 좋아요 알림 이벤트에 그대로 사용)
+    User liker =
+        userRepository
+            .findById(userId)
+            .orElseThrow(
+                () -> {
+                  log.debug("사용자를 찾을 수 없습니다. - 사용자 ID: {}", userId);
+                  return new DomainException(ErrorCode.NOT_FOUND);
+                });
+
+    // 좋아요 컬렉션을 로딩하지 않고 review_likes 행을 직접 삭제/추가한 뒤, 실제로 바뀐 경우에만 like_count를 원자적으로 조정
+    // 실시간 랭킹은 취소된 좋아요를 누른 시각의 기간에서 빼야 하므로 삭제 전에 시각을 읽어 둠
+    Instant likedAt =
+        liveRanking.isEnabled()
+            ? likedUserIdRepository.findLikedAt(reviewId, userId).orElse(null)
+            : null;
+    // 저장되는 좋아요 시각과 실시간 랭킹 이벤트 시각을 같은 값으로 맞춤 (DB 정밀도인 마이크로초로 자름)
+    Instant likedNow = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    boolean likedAfter;
+    if (likedUserIdRepository.deleteByReviewIdAndUserId(reviewId, userId) > 0) {
+      adjustLikeCount(reviewId, -1);
+      likedAfter = false;
+      eventPublisher.publishEvent(ReviewActivityEvent.unliked(reviewId, likedAt));
+    } else if (likedUserIdRepository.insertIfAbsent(
+            UuidV7.randomUUID(), likedNow, reviewId, userId)
+        > 0) {
+      adjustLikeCount(reviewId, 1);
+      likedAfter = true;
+      eventPublisher.publishEvent(ReviewActivityEvent.liked(reviewId, likedNow));
+
+      // 새 좋아요가 생긴 경우에만 알림 - 커밋 이후 비동기로 저장되어 좋아요 응답 시간에 포함되지 않음
+      eventPublisher.publishEvent(
+          new ReviewLikedEvent(
+              reviewId, review.getUser().getId(), review.getContent(), liker.getNickname()));
     } else {
-      review.increaseLikeCount(userId);
-
-      log.info("좋아요 처리 시작");
-      // 2) 새 좋아요가 생긴 경우에만 알림 생성
-      notificationService.createNotifyByLike(reviewId, userId);
-      log.info("좋아요 처리 완료");
+      // 동시에 들어온 같은 사용자의 좋아요가 먼저 반영된 경우 - 카운트는 이미 반영됨
+      likedAfter = true;
     }
 
-    boolean likedAfter = review.liked(userId);
-    log.info("리뷰 좋아요 상태 변경 - 리뷰ID: {}, 사용자ID: {}, 이전 상태: {}, 변경 후 상태: {}", 
-        reviewId, 
-        userId, 
-        likedBefore, 
-        likedAfter);
-
-    return ReviewLikeDto.builder()
-        .reviewId(review.getId())
-        .userId(userId)
-        .liked(likedAfter)
-        .build();
+    eventPublisher.publishEvent(new ReviewChangedEvent(reviewId));
+    log.info("리뷰 좋아요 상태 변경 - 리뷰ID: {}, 사용자ID: {}, 변경 후 상태: {}", reviewId, userId, likedAfter);
+
+    return ReviewLikeDto.builder().reviewId(reviewId).userId(userId).liked(likedAfter).build();
   }
 
   @Override
@@ -289,34 +345,33 @@ public class ReviewServiceImpl implements ReviewService {
     UUID userId = requestDto.getUserId();
     UUID bookId = requestDto.getBookId();
     String cursor = requestDto.getCursor();
-    Instant after = requestDto.getAfter();
     int limit = requestDto.getLimit();
 
     log.info("리뷰 조회 시작 - 키워드: {}, 정렬 기준: {}, 방향: {}",
         keyword, orderBy, direction);
 
-    // 리포지토리 메서드 호출하여 데이터 조회
-    List<Review> reviews =
-        reviewRepository.findReviewsWithCursor(
-            keyword, orderBy, direction, userId, bookId, cursor, after, limit + 1);
+    // 리포지토리 메서드 호출하여 데이터 조회 - 엔티티 대신 DTO 컬럼만 한 번에 프로젝션
+    List<ReviewProjection> reviews =
+        reviewRepository.findReviewProjectionsWithCursor(
+            keyword, orderBy, direction, userId, bookId, cursor, limit + 1, currentUserId);
 
     // 다음 페이지 존재 여부 확인 (N+1 조회 방식)
     boolean hasNext = reviews.size() > limit;
 
     // 실제 응답에 포함될 리뷰 목록 (마지막 요소는 next cursor 확인용이므로 제외)
-    List<Review> responseReviews = hasNext ? reviews.subList(0, limit) : reviews;
+    List<ReviewProjection> responseReviews = hasNext ? reviews.subList(0, limit) : reviews;
 
     // 다음 페이지 커서 정보 설정
     String nextCursor = null;
     Instant nextAfter = null;
 
     if (hasNext && !responseReviews.isEmpty()) {
-      Review lastReview = responseReviews.get(responseReviews.size() - 1);
+      ReviewProjection lastReview = responseReviews.get(responseReviews.size() - 1);
       nextCursor =
-          orderBy.equals("rating")
-              ? String.valueOf(lastReview.getRating())
-              : lastReview.getId().toString();
-      nextAfter = lastReview.getCreatedAt();
+          "rating".equals(orderBy)
+              ? CursorCodec.encode(lastReview.rating(), lastReview.createdAt(), lastReview.id())
+              : CursorCodec.encode(lastReview.createdAt(), lastReview.id());
+      nextAfter = lastReview.createdAt();
     }
 
     // DTO로 변환
@@ -325,20 +380,11 @@ public class ReviewServiceImpl implements ReviewService {
         responseReviews.stream()
             .map(
                 review -> {
-                  Book book = review.getBook();
-                  String thumbnailUrl = null;
-
-                  if (book != null && book.getThumbnailUrl() != null) {
-                    thumbnailUrl = thumbnailImageStorage.get(book.getThumbnailUrl());
-                  }
-
-                  // 코멘트 수를 DB에서 직접 가져옵니다
-                  int commentCount =
-                      commentRepository.countByReviewIdAndIsDeletedFalse(review.getId());
-                  // 리뷰 엔티티에 코멘트 수 설정
-                  review.updateCommentCount(commentCount);
-
-                  return reviewMapper.toDto(review, thumbnailUrl, currentUserId);
+                  String thumbnailUrl =
+                      review.bookThumbnailKey() != null
+                          ? thumbnailImageStorage.get(review.bookThumbnailKey())
+                          : null;
+                  return reviewMapper.toDto(review, thumbnailUrl);
                 })
             .collect(Collectors.toList());
 
@@ -367,8 +413,12 @@ public class ReviewServiceImpl implements ReviewService {
 
     int size = Optional.ofNullable(limit).orElse(50);
 
+    if (period != null && liveRanking.isServing()) {
+      return getLivePopularReviews(period, direction, cursor, size);
+    }
+
     List<PopularReview> fetched =
-        popularRepository.findReviewsWithCursor(period, direction, cursor, after, size + 1);
+        popularRepository.findReviewsWithCursor(period, direction, cursor, size + 1);
 
     if (fetched.isEmpty()) {
       log.info("조회된 인기 리뷰가 없습니다 . - 기간 : {}", period);
@@ -389,12 +439,12 @@ public class ReviewServiceImpl implements ReviewService {
 
     if (hasNext && !responseReviews.isEmpty()) {
       PopularReview lastReview = responseReviews.get(responseReviews.size() - 1);
-      nextCursor = String.valueOf(lastReview.getRank());
+      nextCursor =
+          CursorCodec.encode(lastReview.getRank(), lastReview.getCreatedAt(), lastReview.getId());
       nextAfter = lastReview.getCreatedAt();
     }
 
-    Instant from = period.toStartInstant(Instant.now());
-    long totalElements = popularRepository.countByPeriodSince(period, from);
+    long totalElements = popularRepository.countCurrentByPeriod(period);
 
     log.info(
         "인기 리뷰 조회 완료 - 기간 : {}, 결과 수 : {}, 총 개수: {}",
@@ -444,6 +494,75 @@ public class ReviewServiceImpl implements ReviewService {
         .build();
   }
 
+  /**
+   * 실시간 랭킹에서 인기 리뷰 페이지를 만듭니다. 리뷰/도서/작성자 정보는 리뷰 상세 캐시에서 가져오고 캐시에 없는 리뷰는 한 번에 조회하며, 랭킹 반영
+   * 전에 삭제된 리뷰는 건너뜁니다.
+   * 스냅샷 행이 없으므로 id는 리뷰 ID, createdAt은 조회 시각입니다.
+   */
+  private CursorPageResponsePopularReviewDto getLivePopularReviews(
+      PeriodType period, Direction direction, String cursor, int size) {
+    ReviewActivityWindows.Page page = liveRanking.page(period, direction, cursor, size + 1);
+    Instant calculatedAt = Instant.now();
+
+    boolean hasNext = page.content().size() > size;
+    List<ReviewActivityWindows.Ranked> ranked =
+        hasNext ? page.content().subList(0, size) : page.content();
+
+    Map<UUID, ReviewDto> details =
+        reviewDetailCache.getAll(
+            ranked.stream().map(ReviewActivityWindows.Ranked::reviewId).toList(),
+            this::loadReviewDetails);
+
+    List<PopularReviewDto> content = new ArrayList<>(ranked.size());
+    for (ReviewActivityWindows.Ranked entry : ranked) {
+      ReviewDto detail = details.get(entry.reviewId());
+      if (detail == null) {
+        log.debug("실시간 인기 리뷰에서 조회할 수 없는 리뷰 제외 - 리뷰 ID: {}", entry.reviewId());
+        continue;
+      }
+      content.add(
+          PopularReviewDto.builder()
+              .id(entry.reviewId())
+              .reviewId(entry.reviewId())
+              .bookId(detail.getBookId())
+              .bookTitle(detail.getBookTitle())
+              .bookThumbnailUrl(detail.getBookThumbnailUrl())
+              .userId(detail.getUserId())
+              .userNickname(detail.getUserNickname())
+              .reviewContent(detail.getContent())
+              .reviewRating((double) detail.getRating())
+              .period(period)
+              .createdAt(calculatedAt)
+              .rank(entry.rank())
+              .score(entry.score())
+              .likeCount(entry.likeCount())
+              .commentCount(entry.commentCount())
+              .build());
+    }
+
+    String nextCursor = null;
+    Instant nextAfter = null;
+    if (hasNext && !ranked.isEmpty()) {
+      nextCursor = liveRanking.nextCursor(ranked.get(ranked.size() - 1));
+      nextAfter = calculatedAt;
+    }
+
+    log.info(
+        "실시간 인기 리뷰 조회 완료 - 기간 : {}, 결과 수 : {}, 총 개수: {}",
+        period,
+        content.size(),
+        page.totalElements());
+
+    return CursorPageResponsePopularReviewDto.builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .nextAfter(nextAfter)
+        .size(content.size())
+        .totalElements(page.totalElements())
+        .hasNext(hasNext)
+        .build();
+  }
+
   @Override
   public Review findByIdEntityReturn(UUID reviewId) {
     return reviewRepository
@@ -451,13 +570,67 @@ public class ReviewServiceImpl implements ReviewService {
         .orElseThrow(() -> new DomainException(ErrorCode.REVIEW_NOT_FOUND));
   }
 
-  // 도서에 관련된 집계 필드 업데이트 - jw
-  private void recalculateBookStats(Book book) {
-    // 도서에 작성된 리뷰 개수 조회 - jw
-    int reviewCount = reviewRepository.countByBookId(book.getId());
-    // 도서에 대한 평균 평점을 계산 - jw
-    double rating = reviewRepository.calculateAverageRatingByBookId(book.getId());
-    // 조회된 리뷰 개수와 평균 평점을 Book 엔티티에 반영 - jw
-    book.updateReviewStatus(reviewCount, rating);
+  // 댓글 생성 시 호출 - 엔티티를 거치지 않고 UPDATE 한 번으로 증가
+  @Transactional
+  @Override
+  public void increaseCommentCount(UUID reviewId) {
+    reviewRepository.incrementCommentCount(reviewId);
+  }
+
+  // 댓글 삭제 시 호출 - 0 미만으로 내려가지 않음
+  @Transactional
+  @Override
+  public void decreaseCommentCount(UUID reviewId) {
+    reviewRepository.decrementCommentCount(reviewId);
+  }
+
+  // write-behind 모드면 커밋 이후 버퍼에 모아 일괄 반영, 아니면 바로 원자적 UPDATE
+  private void adjustLikeCount(UUID reviewId, int delta) {
+    if (likeCountBuffer.isEnabled()) {
+      likeCountBuffer.add(reviewId, delta);
+    } else if (delta > 0) {
+      reviewRepository.incrementLikeCount(reviewId);
+    } else {
+      reviewRepository.decrementLikeCount(reviewId);
+    }
+  }
+
+  // 사용자가 좋아요를 누른 리뷰 ID 조회 (좋아요 컬렉션 로딩 없이 review_likes에서 직접 조회)
+  private Set<UUID> findLikedReviewIds(UUID userId, UUID reviewId) {
+    if (userId == null) {
+      return Set.of();
+    }
+    return likedUserIdRepository.findLikedReviewIds(userId, List.of(reviewId));
+  }
+
+  /**
+   * 도서 리뷰 집계에 리뷰 한 건의 변화만 반영합니다 - jw
+   *
+   * @param removedRating 집계에서 빠지는 평점 (없으면 null)
+   * @param addedRating 집계에 더해지는 평점 (없으면 null)
+   */
+  private void applyBookStats(Book book, Integer removedRating, Integer addedRating) {
+    int[] starDeltas = new int[6];
+    int countDelta = 0;
+    long ratingDelta = 0;
+    if (removedRating != null) {
+      countDelta--;
+      ratingDelta -= removedRating;
+      starDeltas[removedRating]--;
+    }
+    if (addedRating != null) {
+      countDelta++;
+      ratingDelta += addedRating;
+      starDeltas[addedRating]++;
+    }
+    bookRepository.applyReviewDelta(
+        book.getId(),
+        countDelta,
+        ratingDelta,
+        starDeltas[1],
+        starDeltas[2],
+        starDeltas[3],
+        starDeltas[4],
+        starDeltas[5]);
   }
 }
@@ -187,7 +187,7 @@ public interface UserApi {
       @Parameter(description = "랭킹 기간") @RequestParam PeriodType period,
       @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "ASC") Direction direction,
       @Parameter(description = "커서 페이지네이션 커서") @RequestParam(required = false) String cursor,
-      @Parameter(description = "보조 커서(createdAt)")
+      @Parameter(description = "사용하지 않음 (createdAt은 cursor에 포함)", deprecated = true)
           @RequestParam(required = false)
           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
           Instant after,
@@ -1,9 +1,13 @@
 package com.codeit.duckhu.domain.user.repository;
 
 import com.codeit.duckhu.domain.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +16,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   boolean existsByEmail(String email);
 
   Optional<User> findByEmail(String email);
+
+  // 리뷰 일괄 등록 시 사용자 존재 여부를 한 번에 확인 (엔티티를 로딩하지 않고 ID만 조회)
+  @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -5,11 +5,27 @@ import com.codeit.duckhu.domain.user.entity.PowerUser;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 public interface PowerUserRepositoryCustom {
+  /**
+   * 기간별 파워 유저 커서 페이지 조회
+   *
+   * @param cursor 이전 페이지 마지막 항목의 커서 토큰 (rank, createdAt, id)
+   */
   List<PowerUser> searchByPeriodWithCursorPaging(
-      PeriodType period, Direction direction, String cursor, Instant after, int limit);
+      PeriodType period, Direction direction, String cursor, int limit);
 
   List<PowerUserStatsDto> findPowerUserStatsBetween(Instant start, Instant end);
+
+  /**
+   * 여러 기간의 사용자별 활동(작성 리뷰 점수 합, 누른 좋아요 수, 작성 댓글 수)을 활동 테이블 한 번의 스캔으로 집계합니다.
+   *
+   * @param periods 집계할 기간
+   * @param now 집계 기준 시각 (각 기간의 끝)
+   */
+  Map<PeriodType, List<PowerUserStatsDto>> findPowerUserStatsByPeriods(
+      EnumSet<PeriodType> periods, Instant now);
 }
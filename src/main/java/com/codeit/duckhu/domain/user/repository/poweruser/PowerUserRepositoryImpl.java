@@ -7,16 +7,26 @@ import com.codeit.duckhu.domain.user.dto.PowerUserStatsDto;
 import com.codeit.duckhu.domain.user.entity.PowerUser;
 import com.codeit.duckhu.domain.user.entity.QPowerUser;
 import com.codeit.duckhu.domain.user.entity.QUser;
+import com.codeit.duckhu.global.batch.PeriodWindows;
+import com.codeit.duckhu.global.batch.RankingGenerations;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
+import com.codeit.duckhu.global.pagination.Keyset;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,10 +35,14 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 public class PowerUserRepositoryImpl implements PowerUserRepositoryCustom {
   private final JPAQueryFactory queryFactory;
+  private final JdbcTemplate jdbcTemplate;
   QPowerUser powerUser = QPowerUser.powerUser;
   QUser user = QUser.user;
   QReview review = QReview.review;
@@ -114,26 +128,87 @@ public class PowerUserRepositoryImpl implements PowerUserRepositoryCustom {
 
   }
 
+  @Override
+  public Map<PeriodType, List<PowerUserStatsDto>> findPowerUserStatsByPeriods(
+      EnumSet<PeriodType> periods, Instant now) {
+    // 리뷰 작성, 좋아요, 댓글을 하나의 활동 스트림으로 합쳐 각 행을 자신이 속한 모든 기간으로 펼친 뒤 (사용자, 기간)별로 집계
+    String sql =
+        """
+        SELECT e.user_id, w.period,
+               SUM(e.review_score) AS review_score_sum,
+               SUM(e.likes)        AS like_count,
+               SUM(e.comments)     AS comment_count
+          FROM (SELECT user_id, created_at,
+                       like_count * 0.3 + comment_count * 0.7 AS review_score,
+                       0 AS likes, 0 AS comments
+                  FROM reviews
+                 WHERE is_deleted = FALSE
+                UNION ALL
+                SELECT user_id, created_at, 0, 1, 0
+                  FROM review_likes
+                UNION ALL
+                SELECT user_id, created_at, 0, 0, 1
+                  FROM comments
+                 WHERE is_deleted = FALSE) e
+          JOIN %s ON e.created_at >= w.window_start
+         WHERE e.created_at <= ?
+         GROUP BY e.user_id, w.period
+        """
+            .formatted(PeriodWindows.table(periods));
+
+    List<Object> args = new ArrayList<>(PeriodWindows.startArgs(periods, now));
+    args.add(Timestamp.from(now));
+
+    Map<PeriodType, List<PowerUserStatsDto>> result = new EnumMap<>(PeriodType.class);
+    periods.forEach(period -> result.put(period, new ArrayList<>()));
+    jdbcTemplate.query(
+        sql,
+        (RowCallbackHandler)
+            rs -> {
+          result
+              .get(PeriodType.valueOf(rs.getString("period")))
+              .add(
+                  PowerUserStatsDto.builder()
+                      .userId(rs.getObject("user_id", UUID.class))
+                      .reviewScoreSum(rs.getDouble("review_score_sum"))
+                      .likedCount(rs.getInt("like_count"))
+                      .commentCount(rs.getInt("comment_count"))
+                      .build());
+        },
+        args.toArray());
+    return result;
+  }
+
   @Override
   public List<PowerUser> searchByPeriodWithCursorPaging(
-      PeriodType period, Direction direction, String cursor, Instant after, int limit) {
+      PeriodType period, Direction direction, String cursor, int limit) {
     BooleanBuilder condition = new BooleanBuilder();
     condition.and(powerUser.period.eq(period));
+    // 현재 공개 중인 세대만 조회
+    condition.and(
+        RankingGenerations.current(
+            RankingSnapshotTable.POWER_USER, period, powerUser.generation));
     condition.and(user.deleted.eq(false));
 
-    // 커서 있을경우 조건 추가해서 이후 데이터 조회
-    if (cursor != null && after != null) {
-      condition.and(getCursorCondition(cursor, after, isAsc(direction)));
+    boolean isAsc = isAsc(direction);
+
+    // 커서 있을경우 조건 추가해서 이후 데이터 조회 - (rank, createdAt, id)
+    if (StringUtils.hasText(cursor)) {
+      CursorKeys keys = CursorCodec.decode(cursor, 3);
+      condition.and(
+          Keyset.after(
+              isAsc, getSortKeys(), List.of(keys.getInt(0), keys.getInstant(1), keys.getUuid(2))));
     }
-    // 정렬기준 생성
-    List<OrderSpecifier<?>> orders = getOrderSpecifiers(isAsc(direction));
 
     return queryFactory
         .selectFrom(powerUser)
         .join(powerUser.user, user)
         .fetchJoin()
         .where(condition)
-        .orderBy(orders.toArray(OrderSpecifier[]::new))
+        .orderBy(
+            getSortKeys().stream()
+                .map(key -> isAsc ? key.asc() : key.desc())
+                .toArray(OrderSpecifier[]::new))
         .limit(limit)
         .fetch();
   }
@@ -142,30 +217,8 @@ public class PowerUserRepositoryImpl implements PowerUserRepositoryCustom {
     return direction == Direction.ASC;
   }
 
-  private List<OrderSpecifier<?>> getOrderSpecifiers(boolean asc) {
-    List<OrderSpecifier<?>> orders = new ArrayList<>();
-    orders.add(asc ? powerUser.rank.asc() : powerUser.rank.desc());
-    orders.add(asc ? powerUser.createdAt.asc() : powerUser.createdAt.desc());
-    orders.add(asc ? powerUser.user.id.asc() : powerUser.user.id.desc());
-    return orders;
-  }
-
-  private BooleanBuilder getCursorCondition(String cursor, Instant after, boolean isAsc) {
-    int cursorRank = Integer.parseInt(cursor);
-    BooleanBuilder builder = new BooleanBuilder();
-
-    if (isAsc) {
-      builder.and(
-              powerUser.rank.gt(cursorRank)
-                      .or(powerUser.rank.eq(cursorRank).and(powerUser.createdAt.gt(after)))
-      );
-    } else {
-      builder.and(
-              powerUser.rank.lt(cursorRank)
-                      .or(powerUser.rank.eq(cursorRank).and(powerUser.createdAt.lt(after)))
-      );
-    }
-
-    return builder;
+  // 정렬기준 - 순위, 같은 순위면 생성일, id 순
+  private List<ComparableExpressionBase<?>> getSortKeys() {
+    return List.of(powerUser.rank, powerUser.createdAt, powerUser.id);
   }
 }
@@ -4,6 +4,7 @@ import com.codeit.duckhu.global.type.PeriodType;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,8 +15,21 @@ public class PowerUserBatchScheduler {
   private final UserService userService;
   private final MeterRegistry meterRegistry;
 
+  // true면 활동 테이블을 한 번만 읽어 모든 기간의 파워 유저를 함께 계산
+  @Value("${duckhu.batch.ranking.single-pass:true}")
+  private boolean singlePass;
+
   @Scheduled(cron = "0 0 12 * * *")
   public void schedule() {
+    if (singlePass) {
+      try {
+        log.info("[전체 기간 배치 작업] 파워 유저를 한 번에 갱신합니다.");
+        userService.savePowerUsersForAllPeriods();
+      } catch (Exception e) {
+        log.debug("[전체 기간 배치 작업] 파워 유저 갱신 중 오류 발생 {}", e.getMessage());
+      }
+      return;
+    }
     executePopularBookBatch(PeriodType.DAILY, "[일간 배치 작업]");
     executePopularBookBatch(PeriodType.WEEKLY, "[주간 배치 작업]");
     executePopularBookBatch(PeriodType.MONTHLY, "[월간 배치 작업]");
@@ -25,6 +25,9 @@ public interface UserService {
 
   void savePowerUser(PeriodType period);
 
+  /** 모든 기간의 파워 유저를 활동 테이블 한 번의 스캔으로 집계해 저장합니다. */
+  void savePowerUsersForAllPeriods();
+
   CursorPageResponsePowerUserDto findPowerUsers(
       PeriodType period, Direction direction, String cursor, Instant after, int limit);
 }
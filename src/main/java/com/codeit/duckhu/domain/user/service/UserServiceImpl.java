@@ -15,11 +15,16 @@ import com.codeit.duckhu.domain.user.mapper.PowerUserMapper;
 import com.codeit.duckhu.domain.user.mapper.UserMapper;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
 import com.codeit.duckhu.domain.user.repository.poweruser.PowerUserRepository;
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,14 +35,16 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
@@ -45,7 +52,30 @@ public class UserServiceImpl implements UserService {
   private final UserMapper userMapper;
   private final PowerUserMapper powerUserMapper;
   private final MeterRegistry meterRegistry;
-
+  private final RankingSnapshotWriter rankingSnapshotWriter;
+  private final RankingGenerationStore rankingGenerationStore;
+  // 파워 유저 배치에서 기간마다 따로 커밋하기 위한 트랜잭션
+  private final TransactionTemplate periodTransaction;
+
+  public UserServiceImpl(
+      UserRepository userRepository,
+      PowerUserRepository powerUserRepository,
+      UserMapper userMapper,
+      PowerUserMapper powerUserMapper,
+      MeterRegistry meterRegistry,
+      RankingSnapshotWriter rankingSnapshotWriter,
+      RankingGenerationStore rankingGenerationStore,
+      PlatformTransactionManager transactionManager) {
+    this.userRepository = userRepository;
+    this.powerUserRepository = powerUserRepository;
+    this.userMapper = userMapper;
+    this.powerUserMapper = powerUserMapper;
+    this.meterRegistry = meterRegistry;
+    this.rankingSnapshotWriter = rankingSnapshotWriter;
+    this.rankingGenerationStore = rankingGenerationStore;
+    this.periodTransaction = new TransactionTemplate(transactionManager);
+    this.periodTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
 
   @Override
   public UserDto create(UserRegisterRequest request) {
@@ -182,69 +212,62 @@ public class UserServiceImpl implements UserService {
     log.debug("[사용자 물리 삭제 완료] id: {}", id);
   }
 
+  // 기간별 트랜잭션은 savePowerUserRanking에서 따로 열고, 집계 조회는 트랜잭션 없이 실행
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void savePowerUser(PeriodType period) {
+    savePowerUsers(EnumSet.of(period));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void savePowerUsersForAllPeriods() {
+    savePowerUsers(EnumSet.allOf(PeriodType.class));
+  }
+
+  private void savePowerUsers(EnumSet<PeriodType> periods) {
+    Map<PeriodType, List<PowerUserStatsDto>> statsByPeriod;
+    Map<UUID, User> userMap;
     try {
       Instant now = Instant.now();
-      Instant start = period.toStartInstant(now);
+      log.info("[Batch 시작] periods={} | to={}", periods, now);
 
-      log.info("[Batch 시작] period={} | from={} ~ to={}", period, start, now);
-
-      // 계산에 필요한 요소들 갖고오기
-      List<PowerUserStatsDto> stats = powerUserRepository.findPowerUserStatsBetween(start, now);
+      // 계산에 필요한 요소들 갖고오기 (모든 기간을 한 번의 스캔으로 집계)
+      statsByPeriod = powerUserRepository.findPowerUserStatsByPeriods(periods, now);
 
       // 유저목록가져오기
-      Set<UUID> userIds = stats.stream().map(PowerUserStatsDto::userId).collect(Collectors.toSet());
-      Map<UUID, User> userMap =
+      Set<UUID> userIds =
+          statsByPeriod.values().stream()
+              .flatMap(List::stream)
+              .map(PowerUserStatsDto::userId)
+              .collect(Collectors.toSet());
+      userMap =
           userRepository.findAllById(userIds).stream()
               .collect(Collectors.toMap(User::getId, Function.identity()));
+    } catch (Exception e) {
+      log.warn("[Batch 오류] periods = {} 집계 중 오류 발생 : {}", periods, e.getMessage());
+      periods.forEach(
+          period ->
+              meterRegistry
+                  .counter("batch.user.powerUser.failure", "period", period.name())
+                  .increment());
+      return;
+    }
 
-      // 활동점수 계산
-      List<PowerUser> powerUsers =
-          stats.stream()
-              .map(
-                  dto -> {
-                    Double score =
-                        dto.reviewScoreSum() * 0.5
-                            + dto.likedCount() * 0.2
-                            + dto.commentCount() * 0.3;
-                    User user =
-                        Optional.ofNullable(userMap.get(dto.userId()))
-                            .orElseThrow(() -> new UserException(ErrorCode.NOT_FOUND_USER));
-
-                    log.info(
-                        "파워유저: {} | 활동 점수: {} | 리뷰 점수 합: {} | 좋아요 수: {} | 댓글 수: {}",
-                        user.getNickname(),
-                        score,
-                        dto.reviewScoreSum(),
-                        dto.likedCount(),
-                        dto.commentCount());
-
-                    return PowerUser.builder()
-                        .user(user)
-                        .reviewScoreSum(dto.reviewScoreSum())
-                        .likeCount(dto.likedCount())
-                        .commentCount(dto.commentCount())
-                        .score(score)
-                        .period(period)
-                        .build();
-                  })
-              .sorted(Comparator.comparingDouble(PowerUser::getScore).reversed())
-              .toList();
-
-      // 순위 부여-동시성제어
-      AtomicInteger rankCount = new AtomicInteger(1);
-      // 순위 설정
-      powerUsers.forEach(powerUser -> powerUser.setRank(rankCount.getAndIncrement()));
-
-      // 기존 데이터 삭제(for 배치)
-      powerUserRepository.deleteByPeriod(period);
-      log.info("[삭제 완료] 기존 PowerUser 삭제 - period={}", period);
-
-      // PowerUser에 저장
-      powerUserRepository.saveAll(powerUsers);
-      log.info("[PowerUser 저장 완료] 대상 수: {}, period={}", powerUsers.size(), period);
+    // 이번 실행의 모든 기간을 같은 세대로 저장
+    long generation = rankingGenerationStore.nextGeneration();
+    for (PeriodType period : periods) {
+      savePowerUserRanking(
+          period, generation, statsByPeriod.getOrDefault(period, List.of()), userMap);
+    }
+  }
 
+  private void savePowerUserRanking(
+      PeriodType period, long generation, List<PowerUserStatsDto> stats, Map<UUID, User> userMap) {
+    try {
+      // 기간마다 별도 트랜잭션으로 저장하고 공개 - 실패한 기간의 행만 롤백되고 성공 카운터는 커밋된 기간만 셈
+      periodTransaction.executeWithoutResult(
+          status -> savePowerUserSnapshot(period, generation, stats, userMap));
       meterRegistry.counter("batch.user.powerUser.success", "period", period.name()).increment();
     } catch (Exception e) {
       log.warn("[Batch 오류] period = {} 처리 중 오류 발생 : {}", period, e.getMessage()); // 배치작업 오류 그냥 넘어가면 안되니까
@@ -253,6 +276,70 @@ public class UserServiceImpl implements UserService {
     }
   }
 
+  private void savePowerUserSnapshot(
+      PeriodType period, long generation, List<PowerUserStatsDto> stats, Map<UUID, User> userMap) {
+    // 활동점수 계산
+    List<PowerUser> powerUsers =
+        stats.stream()
+            .map(
+                dto -> {
+                  Double score =
+                      dto.reviewScoreSum() * 0.5
+                          + dto.likedCount() * 0.2
+                          + dto.commentCount() * 0.3;
+                  User user =
+                      Optional.ofNullable(userMap.get(dto.userId()))
+                          .orElseThrow(() -> new UserException(ErrorCode.NOT_FOUND_USER));
+
+                  log.info(
+                      "파워유저: {} | 기간: {} | 활동 점수: {} | 리뷰 점수 합: {} | 좋아요 수: {} | 댓글 수: {}",
+                      user.getNickname(),
+                      period,
+                      score,
+                      dto.reviewScoreSum(),
+                      dto.likedCount(),
+                      dto.commentCount());
+
+                  return PowerUser.builder()
+                      .user(user)
+                      .reviewScoreSum(dto.reviewScoreSum())
+                      .likeCount(dto.likedCount())
+                      .commentCount(dto.commentCount())
+                      .score(score)
+                      .period(period)
+                      .build();
+                })
+            .sorted(Comparator.comparingDouble(PowerUser::getScore).reversed())
+            .toList();
+
+    // 순위 부여-동시성제어
+    AtomicInteger rankCount = new AtomicInteger(1);
+    // 순위 설정
+    powerUsers.forEach(powerUser -> powerUser.setRank(rankCount.getAndIncrement()));
+
+    // 새 세대로 PowerUser 저장 (영속성 컨텍스트를 거치지 않는 여러 행 INSERT)
+    // 포인터를 바꾸기 전까지는 이전 세대가 그대로 조회됨
+    int saved =
+        rankingSnapshotWriter.insert(
+            RankingSnapshotTable.POWER_USER,
+            generation,
+            powerUsers,
+            powerUser ->
+                new Object[] {
+                  powerUser.getUser().getId(),
+                  powerUser.getPeriod().name(),
+                  powerUser.getReviewScoreSum(),
+                  powerUser.getLikeCount(),
+                  powerUser.getCommentCount(),
+                  powerUser.getScore(),
+                  powerUser.getRank()
+                });
+    log.info("[PowerUser 저장 완료] 대상 수: {}, period={}", saved, period);
+
+    // 저장한 세대 공개 (지난 세대는 RankingGenerationStore가 주기적으로 정리)
+    rankingGenerationStore.publish(RankingSnapshotTable.POWER_USER, period, generation);
+  }
+
   @Override
   @Transactional(readOnly = true)
   public CursorPageResponsePowerUserDto findPowerUsers(
@@ -260,8 +347,7 @@ public class UserServiceImpl implements UserService {
     log.info("[파워유저 목록 조회] period: {}, direction: {}, limit: {}", period, direction, limit);
 
     List<PowerUser> powerUsers =
-        powerUserRepository.searchByPeriodWithCursorPaging(
-            period, direction, cursor, after, limit + 1);
+        powerUserRepository.searchByPeriodWithCursorPaging(period, direction, cursor, limit + 1);
 
     boolean hasNext = powerUsers.size() > limit;
     log.debug("[쿼리 실행 결과] 전체 개수: {}, hasNext: {}", powerUsers.size(), hasNext);
@@ -277,7 +363,7 @@ public class UserServiceImpl implements UserService {
     Instant nextAfter = null;
     if (hasNext && !powerUsers.isEmpty()) {
       PowerUser last = powerUsers.get(powerUsers.size() - 1);
-      nextCursor = String.valueOf(last.getRank());
+      nextCursor = CursorCodec.encode(last.getRank(), last.getCreatedAt(), last.getId());
       nextAfter = last.getCreatedAt();
     }
 
@@ -0,0 +1,41 @@
+package com.codeit.duckhu.global.batch;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 기간 랭킹을 한 번의 스캔으로 집계하기 위한 기간 테이블
+ *
+ * <p>{@code (VALUES ('DAILY', ?), ('WEEKLY', ?), ...) AS w(period, window_start)} 형태의 인라인 테이블을 만들어 활동 행과
+ * {@code created_at >= w.window_start} 조건으로 조인합니다. 활동 행 하나가 자신이 속한 모든 기간으로 펼쳐지므로, 원본 테이블은 기간 수와
+ * 상관없이 한 번만 읽고 {@code GROUP BY ..., w.period} 로 기간별 집계를 함께 얻습니다.
+ */
+public final class PeriodWindows {
+
+  private PeriodWindows() {}
+
+  /**
+   * 기간 테이블 SQL을 반환합니다. 바인딩 값은 {@link #startArgs(EnumSet, Instant)}를 같은 위치에 넣습니다.
+   *
+   * @param periods 집계할 기간
+   */
+  public static String table(EnumSet<PeriodType> periods) {
+    if (periods.isEmpty()) {
+      throw new IllegalArgumentException("집계할 기간이 없습니다.");
+    }
+    return periods.stream()
+        .map(period -> "('" + period.name() + "', CAST(? AS TIMESTAMP))")
+        .collect(Collectors.joining(", ", "(VALUES ", ") AS w(period, window_start)"));
+  }
+
+  /** 각 기간의 시작 시각을 {@link #table(EnumSet)}와 같은 순서로 반환합니다. */
+  public static List<Object> startArgs(EnumSet<PeriodType> periods, Instant now) {
+    return periods.stream()
+        .<Object>map(period -> Timestamp.from(period.toStartInstant(now)))
+        .toList();
+  }
+}
@@ -0,0 +1,61 @@
+package com.codeit.duckhu.global.batch;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 랭킹 스냅샷 세대 포인터
+ *
+ * <p>(랭킹 종류, 기간)마다 현재 공개 중인 스냅샷 세대를 가리킵니다. 배치는 새 세대 번호로 스냅샷 행을 모두 쓴 뒤 이 행의 generation만 바꿔
+ * 한 번에 공개하고, 조회는 항상 포인터가 가리키는 세대만 읽습니다. 갱신은 {@link RankingGenerationStore}가 JDBC로 처리하며, 이 엔티티는
+ * 조회 쿼리의 서브쿼리에서만 사용합니다.
+ */
+@Entity
+@Table(name = "ranking_generations")
+@IdClass(RankingGeneration.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingGeneration {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "ranking", nullable = false)
+  private RankingSnapshotTable ranking;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "period", nullable = false)
+  private PeriodType period;
+
+  @Column(name = "generation", nullable = false)
+  private Long generation;
+
+  // 직전에 공개했던 세대 (정리 시 현재 세대와 함께 보존)
+  @Column(name = "previous_generation")
+  private Long previousGeneration;
+
+  @Column(name = "published_at", nullable = false)
+  private Instant publishedAt;
+
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private RankingSnapshotTable ranking;
+    private PeriodType period;
+  }
+}
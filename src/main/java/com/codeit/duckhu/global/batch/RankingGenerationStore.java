@@ -0,0 +1,154 @@
+package com.codeit.duckhu.global.batch;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 스냅샷 세대 관리
+ *
+ * <p>배치는 {@link #nextGeneration()}으로 받은 세대 번호로 스냅샷 행을 쓰고, 모두 쓴 뒤 {@link #publish}로 포인터를 바꿉니다. 기존 행을
+ * 지우고 다시 쓰지 않으므로 조회 쪽은 비어 있거나 절반만 쓰인 랭킹을 보지 않습니다. 세대 번호는 발급 시각(epoch millis) 기준으로 증가하므로
+ * 번호만으로 세대의 선후와 나이를 알 수 있습니다.
+ *
+ * <p>지난 세대는 배치와 분리된 주기 작업({@link #collectGarbage()})이 지웁니다. 현재 세대와 직전 세대는 남기고, 공개되지 못한 채 오래된
+ * 세대(실패한 실행)도 함께 지웁니다.
+ */
+@Slf4j
+@Component
+public class RankingGenerationStore {
+
+  static final String PUBLISH_SQL =
+      "UPDATE ranking_generations"
+          + " SET previous_generation = generation, generation = ?, published_at = ?"
+          + " WHERE ranking = ? AND period = ? AND generation < ?";
+
+  static final String INSERT_SQL =
+      "INSERT INTO ranking_generations (ranking, period, generation, published_at)"
+          + " SELECT CAST(? AS VARCHAR(30)), CAST(? AS VARCHAR(20)), CAST(? AS BIGINT),"
+          + " CAST(? AS TIMESTAMP)"
+          + " WHERE NOT EXISTS (SELECT 1 FROM ranking_generations WHERE ranking = ? AND period = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration abandonedAfter;
+  private final AtomicLong lastGeneration = new AtomicLong();
+
+  public RankingGenerationStore(
+      JdbcTemplate jdbcTemplate,
+      @Value("${duckhu.batch.snapshot.abandoned-after-hours:24}") long abandonedAfterHours) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.abandonedAfter = Duration.ofHours(abandonedAfterHours);
+  }
+
+  /** 새 세대 번호를 발급합니다. 같은 밀리초에 여러 번 호출돼도 이전 번호보다 큰 값을 돌려줍니다. */
+  public long nextGeneration() {
+    long now = System.currentTimeMillis();
+    return lastGeneration.updateAndGet(last -> Math.max(now, last + 1));
+  }
+
+  /**
+   * 해당 기간의 포인터를 새 세대로 바꿉니다. 호출하는 쪽의 트랜잭션에 참여하므로, 스냅샷 INSERT와 같은 트랜잭션이면 커밋 시점에 함께 공개됩니다. 이미 더
+   * 새로운 세대가 공개돼 있으면 바꾸지 않습니다. 포인터 행은 schema.sql이 미리 만들어 두며, 없으면(초기 데이터 누락) 새로 만듭니다.
+   *
+   * @return 포인터를 바꿨으면 true
+   */
+  public boolean publish(RankingSnapshotTable table, PeriodType period, long generation) {
+    Timestamp publishedAt = Timestamp.from(Instant.now());
+    int updated =
+        jdbcTemplate.update(
+            PUBLISH_SQL, generation, publishedAt, table.name(), period.name(), generation);
+    if (updated == 0) {
+      updated =
+          jdbcTemplate.update(
+              INSERT_SQL,
+              table.name(),
+              period.name(),
+              generation,
+              publishedAt,
+              table.name(),
+              period.name());
+    }
+    if (updated == 0) {
+      log.warn(
+          "[랭킹 세대 공개 생략] 더 새로운 세대가 이미 공개됨 - ranking={}, period={}, generation={}",
+          table,
+          period,
+          generation);
+      return false;
+    }
+    log.info("[랭킹 세대 공개] ranking={}, period={}, generation={}", table, period, generation);
+    return true;
+  }
+
+  /** 해당 기간에 이 세대가 공개돼 있으면 true - 이미 포인터를 바꾼 공개 작업을 다시 실행할 때 확인용으로 씁니다. */
+  public boolean isCurrent(RankingSnapshotTable table, PeriodType period, long generation) {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM ranking_generations"
+                + " WHERE ranking = ? AND period = ? AND generation = ?",
+            Integer.class,
+            table.name(),
+            period.name(),
+            generation);
+    return count != null && count > 0;
+  }
+
+  /** 모든 랭킹의 지난 세대를 정리합니다. */
+  @Scheduled(cron = "${duckhu.batch.snapshot.gc-cron:0 30 * * * *}", zone = "Asia/Seoul")
+  public void collectGarbage() {
+    long abandonedBefore = System.currentTimeMillis() - abandonedAfter.toMillis();
+    for (RankingSnapshotTable table : RankingSnapshotTable.values()) {
+      try {
+        int deleted = collectGarbage(table, abandonedBefore);
+        if (deleted > 0) {
+          log.info("[랭킹 세대 정리] ranking={}, 삭제 {}건", table, deleted);
+        }
+      } catch (RuntimeException e) {
+        log.warn("[랭킹 세대 정리 실패] ranking={}", table, e);
+      }
+    }
+  }
+
+  /**
+   * 한 랭킹의 기간별로 현재/직전 세대를 제외하고, 현재 세대보다 오래된 행과 abandonedBefore 이전에 발급된 채 공개되지 않은 세대의 행을
+   * 지웁니다. 현재 세대보다 새로운 최근 세대는 실행 중일 수 있으므로 남깁니다. 포인터가 없는 기간은 건드리지 않습니다.
+   *
+   * @param abandonedBefore 이 세대 번호(epoch millis)보다 먼저 발급되고 공개되지 않은 세대는 실패한 실행으로 보고 지움
+   * @return 삭제한 행 수
+   */
+  int collectGarbage(RankingSnapshotTable table, long abandonedBefore) {
+    String deleteSql =
+        "DELETE FROM "
+            + table.tableName()
+            + " WHERE period = ? AND generation NOT IN (?, ?)"
+            + " AND (generation < ? OR generation < ?)";
+    List<Object[]> pointers =
+        jdbcTemplate.query(
+            "SELECT period, generation, previous_generation FROM ranking_generations"
+                + " WHERE ranking = ?",
+            (rs, rowNum) -> {
+              long current = rs.getLong("generation");
+              long previous = rs.getLong("previous_generation");
+              return new Object[] {
+                rs.getString("period"), current, rs.wasNull() ? current : previous
+              };
+            },
+            table.name());
+
+    int deleted = 0;
+    for (Object[] pointer : pointers) {
+      deleted +=
+          jdbcTemplate.update(
+              deleteSql, pointer[0], pointer[1], pointer[2], pointer[1], abandonedBefore);
+    }
+    return deleted;
+  }
+}
@@ -0,0 +1,54 @@
+package com.codeit.duckhu.global.batch;
+
+import com.codeit.duckhu.global.type.PeriodType;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import java.util.function.Function;
+
+/** 랭킹 스냅샷 조회 쿼리에서 현재 공개 중인 세대만 고르는 조건 */
+public final class RankingGenerations {
+
+  private RankingGenerations() {}
+
+  /**
+   * 한 기간의 스냅샷 행이 현재 세대인지 확인하는 조건을 만듭니다. 조회와 같은 쿼리 안의 서브쿼리로 포인터를 읽으므로, 배치가 포인터를 바꾸는 중에도 한
+   * 번의 조회는 한 세대만 봅니다. 서브쿼리가 바깥 행을 참조하지 않아 한 번만 실행되고, {@code period = ? AND generation = (포인터)}로
+   * (period, generation, rank, ...) 인덱스를 바로 찾습니다. 포인터는 schema.sql에서 모든 (랭킹, 기간)에 대해 세대 0으로 미리 만들어
+   * 둡니다.
+   *
+   * @param table 랭킹 종류
+   * @param period 조회할 기간
+   * @param generation 스냅샷 행의 세대 컬럼
+   */
+  public static BooleanExpression current(
+      RankingSnapshotTable table, PeriodType period, NumberPath<Long> generation) {
+    return current(table, pointerPeriod -> pointerPeriod.eq(period), generation);
+  }
+
+  /**
+   * 여러 기간을 한 번에 조회할 때 행마다 자기 기간의 현재 세대인지 확인하는 조건을 만듭니다. 행의 기간 컬럼을 참조하는 서브쿼리라 인덱스 탐색에는 쓰이지
+   * 않으므로, 기간이 정해진 조회는 {@link #current(RankingSnapshotTable, PeriodType, NumberPath)}를 사용합니다.
+   *
+   * @param table 랭킹 종류
+   * @param period 스냅샷 행의 기간 컬럼
+   * @param generation 스냅샷 행의 세대 컬럼
+   */
+  public static BooleanExpression current(
+      RankingSnapshotTable table, EnumPath<PeriodType> period, NumberPath<Long> generation) {
+    return current(table, pointerPeriod -> pointerPeriod.eq(period), generation);
+  }
+
+  // 두 조건이 달라지지 않도록 포인터 서브쿼리는 여기서만 만들고, 기간 조건(값 또는 행의 컬럼)만 받음
+  private static BooleanExpression current(
+      RankingSnapshotTable table,
+      Function<EnumPath<PeriodType>, BooleanExpression> periodMatches,
+      NumberPath<Long> generation) {
+    QRankingGeneration pointer = new QRankingGeneration("currentGeneration");
+    return generation.eq(
+        JPAExpressions.select(pointer.generation)
+            .from(pointer)
+            .where(pointer.ranking.eq(table), periodMatches.apply(pointer.period)));
+  }
+}
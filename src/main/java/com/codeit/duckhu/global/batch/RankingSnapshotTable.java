@@ -0,0 +1,44 @@
+package com.codeit.duckhu.global.batch;
+
+import java.util.List;
+
+/**
+ * 랭킹 스냅샷 테이블 정의
+ *
+ * <p>{@link RankingSnapshotWriter}가 INSERT 문을 만들 때 사용하는 테이블 이름과 컬럼 순서입니다. id, created_at은 작성기가
+ * 채우므로 여기에는 나머지 컬럼만 값 배열과 같은 순서로 나열합니다.
+ */
+public enum RankingSnapshotTable {
+  POPULAR_BOOK(
+      "popular_book", List.of("book_id", "period", "review_count", "rating", "score", "rank")),
+  POWER_USER(
+      "power_user",
+      List.of(
+          "user_id",
+          "period",
+          "review_score_sum",
+          "like_count",
+          "comment_count",
+          "score",
+          "rank")),
+  POPULAR_REVIEW(
+      "popular_reviews",
+      List.of(
+          "review_id", "period", "review_rating", "like_count", "comment_count", "score", "rank"));
+
+  private final String tableName;
+  private final List<String> columns;
+
+  RankingSnapshotTable(String tableName, List<String> columns) {
+    this.tableName = tableName;
+    this.columns = columns;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public List<String> columns() {
+    return columns;
+  }
+}
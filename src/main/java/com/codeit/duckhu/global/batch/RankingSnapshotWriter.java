@@ -0,0 +1,94 @@
+package com.codeit.duckhu.global.batch;
+
+import com.codeit.duckhu.global.entity.UuidV7;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 스냅샷 일괄 작성기
+ *
+ * <p>인기 도서, 파워 유저, 인기 리뷰 배치는 매번 기간 단위로 스냅샷 행을 새 세대로 통째로 다시 씁니다. 엔티티 saveAll은 행마다 영속성 컨텍스트에 올리고
+ * INSERT를 한 건씩 보내므로, 여기서는 ID와 생성 시각을 애플리케이션에서 채운 뒤 여러 행을 {@code INSERT ... VALUES (...), (...)}
+ * 한 문장으로 묶어 보냅니다. 호출하는 쪽의 트랜잭션에 그대로 참여합니다.
+ *
+ * <p>저장한 세대는 {@link RankingGenerationStore#publish}로 포인터를 바꾸기 전까지 조회에 보이지 않습니다.
+ */
+@Slf4j
+@Component
+public class RankingSnapshotWriter {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int rowsPerStatement;
+
+  public RankingSnapshotWriter(
+      JdbcTemplate jdbcTemplate,
+      @Value("${duckhu.batch.snapshot.rows-per-statement:500}") int rowsPerStatement) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.rowsPerStatement = rowsPerStatement;
+  }
+
+  /**
+   * 스냅샷 행을 여러 행 INSERT로 저장합니다.
+   *
+   * @param table 대상 테이블
+   * @param generation 스냅샷 세대 ({@link RankingGenerationStore#nextGeneration()})
+   * @param rows 저장할 행
+   * @param columnValues 행을 {@link RankingSnapshotTable#columns()} 순서의 값 배열로 바꾸는 함수
+   * @return 저장된 행 수
+   */
+  public <T> int insert(
+      RankingSnapshotTable table,
+      long generation,
+      List<? extends T> rows,
+      Function<? super T, Object[]> columnValues) {
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    int columnCount = table.columns().size();
+    Timestamp createdAt = Timestamp.from(Instant.now());
+
+    int written = 0;
+    for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+      List<? extends T> slice = rows.subList(from, Math.min(from + rowsPerStatement, rows.size()));
+      List<Object> args = new ArrayList<>(slice.size() * (columnCount + 3));
+      for (T row : slice) {
+        Object[] values = columnValues.apply(row);
+        if (values.length != columnCount) {
+          throw new IllegalArgumentException(
+              table.tableName() + " 컬럼 수가 맞지 않습니다: " + values.length + " != " + columnCount);
+        }
+        args.add(UuidV7.randomUUID());
+        args.add(createdAt);
+        args.add(generation);
+        args.addAll(Arrays.asList(values));
+      }
+      written += jdbcTemplate.update(insertSql(table, slice.size()), args.toArray());
+    }
+    log.debug(
+        "[스냅샷 저장] table={}, generation={}, rows={}", table.tableName(), generation, written);
+    return written;
+  }
+
+  private String insertSql(RankingSnapshotTable table, int rowCount) {
+    String placeholders = "(?, ?, ?" + ", ?".repeat(table.columns().size()) + ")";
+    StringBuilder sql =
+        new StringBuilder("INSERT INTO ")
+            .append(table.tableName())
+            .append(" (id, created_at, generation, ")
+            .append(String.join(", ", table.columns()))
+            .append(") VALUES ")
+            .append(placeholders);
+    for (int i = 1; i < rowCount; i++) {
+      sql.append(", ").append(placeholders);
+    }
+    return sql.toString();
+  }
+}
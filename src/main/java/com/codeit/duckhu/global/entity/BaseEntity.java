@@ -2,8 +2,6 @@ package com.codeit.duckhu.global.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import java.time.Instant;
@@ -15,7 +13,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 /**
  * 엔티티 작성 시 공통적으로 들어가는 값들에 대해 정의
  *
- * <p>ID 생성 및 생성 일시를 매핑해 줌
+ * <p>ID 생성 및 생성 일시를 매핑해 줌. ID는 시간 순서 UUID(v7)로 만들어 PK 인덱스에 순서대로 쌓이고, (created_at, id) 커서 정렬의
+ * id 보조 정렬도 생성 순서를 따릅니다.
  */
 @MappedSuperclass
 @Getter
@@ -23,7 +22,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public abstract class BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuidV7
   @Column(columnDefinition = "uuid", updatable = false, nullable = false)
   private UUID id;
 
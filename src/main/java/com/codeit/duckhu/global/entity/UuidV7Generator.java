@@ -0,0 +1,13 @@
+package com.codeit.duckhu.global.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/** {@link GeneratedUuidV7}이 붙은 식별자에 {@link UuidV7} 값을 채우는 Hibernate 식별자 생성기 */
+public class UuidV7Generator implements IdentifierGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    return UuidV7.randomUUID();
+  }
+}
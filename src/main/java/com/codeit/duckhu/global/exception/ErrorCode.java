@@ -18,6 +18,7 @@ public enum ErrorCode {
   NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 자원을 찾을 수 없습니다.", "잘못된 요청을 진행하였습니다."),
   METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다.", "잘못된 요청을 진행하였습니다."),
   INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "잘못된 입력값입니다.", "잘못된 요청을 진행하였습니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.", "잘못된 요청을 진행하였습니다."),
 
   // BOOK
   DUPLICATE_ISBN(HttpStatus.CONFLICT, "이미 존재하는 ISBN입니다.", "잘못된 요청을 진행하였습니다."),
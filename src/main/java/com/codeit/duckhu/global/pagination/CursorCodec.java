@@ -0,0 +1,60 @@
+package com.codeit.duckhu.global.pagination;
+
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 토큰 인코더/디코더
+ *
+ * <p>정렬 키 값들과 마지막 ID를 하나의 불투명한 문자열로 묶습니다. 각 값은 URL-safe Base64로 인코딩되어 '.'으로 연결되므로, 제목처럼
+ * 임의의 문자가 들어간 값도 그대로 쿼리 파라미터로 주고받을 수 있습니다.
+ *
+ * <pre>
+ * String next = CursorCodec.encode(last.getRating(), last.getCreatedAt(), last.getId());
+ * CursorKeys keys = CursorCodec.decode(next, 3);
+ * </pre>
+ */
+public final class CursorCodec {
+
+  private static final String DELIMITER = ".";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private CursorCodec() {}
+
+  /** 정렬 키 순서대로 값을 받아 커서 토큰을 생성합니다. (마지막 값은 ID) */
+  public static String encode(Object... keys) {
+    return Arrays.stream(keys)
+        .map(key -> ENCODER.encodeToString(String.valueOf(key).getBytes(StandardCharsets.UTF_8)))
+        .collect(Collectors.joining(DELIMITER));
+  }
+
+  /**
+   * 커서 토큰을 정렬 키 값 목록으로 복원합니다.
+   *
+   * @param cursor 커서 토큰
+   * @param size 기대하는 키 개수 (정렬 키 + ID)
+   * @throws DomainException 토큰 형식이 잘못되었거나 키 개수가 다른 경우 (INVALID_CURSOR)
+   */
+  public static CursorKeys decode(String cursor, int size) {
+    String[] parts = cursor.split("\\.", -1);
+    if (parts.length != size) {
+      throw new DomainException(ErrorCode.INVALID_CURSOR);
+    }
+
+    try {
+      List<String> values =
+          Arrays.stream(parts)
+              .map(part -> new String(DECODER.decode(part), StandardCharsets.UTF_8))
+              .toList();
+      return new CursorKeys(values);
+    } catch (IllegalArgumentException e) {
+      throw new DomainException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
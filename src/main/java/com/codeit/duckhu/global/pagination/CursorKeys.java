@@ -0,0 +1,45 @@
+package com.codeit.duckhu.global.pagination;
+
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/** 디코딩된 커서 값 - 정렬 키 순서대로 타입에 맞게 꺼내 씁니다. */
+public record CursorKeys(List<String> values) {
+
+  public String getString(int index) {
+    return values.get(index);
+  }
+
+  public int getInt(int index) {
+    return parse(index, Integer::parseInt);
+  }
+
+  public double getDouble(int index) {
+    return parse(index, Double::parseDouble);
+  }
+
+  public Instant getInstant(int index) {
+    return parse(index, Instant::parse);
+  }
+
+  public LocalDate getLocalDate(int index) {
+    return parse(index, LocalDate::parse);
+  }
+
+  public UUID getUuid(int index) {
+    return parse(index, UUID::fromString);
+  }
+
+  private <T> T parse(int index, Function<String, T> parser) {
+    try {
+      return parser.apply(values.get(index));
+    } catch (RuntimeException e) {
+      throw new DomainException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.codeit.duckhu.global.pagination;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset 페이지네이션 조건 생성
+ *
+ * <p>{@code a > ? or (a = ? and b > ?) ...} 형태 대신 행 값 비교 {@code (a, b, id) > (?, ?, ?)} 하나로 다음 페이지 조건을
+ * 만듭니다. 정렬 키가 모두 같은 방향이고 (a, b, id) 순서의 인덱스가 있으면 인덱스 범위 스캔 한 번으로 처리됩니다.
+ */
+public final class Keyset {
+
+  private Keyset() {}
+
+  /**
+   * 정렬 순서상 커서 다음에 오는 행을 찾는 조건을 반환합니다.
+   *
+   * @param asc 오름차순 여부
+   * @param columns 정렬 키 컬럼 (마지막은 ID 등 유일한 컬럼)
+   * @param values 커서 값 (columns와 같은 순서)
+   */
+  public static BooleanExpression after(
+      boolean asc, List<? extends Expression<?>> columns, List<?> values) {
+    if (columns.isEmpty() || columns.size() != values.size()) {
+      throw new IllegalArgumentException("정렬 키와 커서 값의 개수가 다릅니다.");
+    }
+
+    int size = columns.size();
+    StringBuilder template = new StringBuilder("(");
+    for (int i = 0; i < size; i++) {
+      template.append(i == 0 ? "" : ", ").append('{').append(i).append('}');
+    }
+    template.append(asc ? ") > (" : ") < (");
+    for (int i = 0; i < size; i++) {
+      template.append(i == 0 ? "" : ", ").append('{').append(size + i).append('}');
+    }
+    template.append(')');
+
+    List<Object> args = new ArrayList<>(columns);
+    args.addAll(values);
+    return Expressions.booleanTemplate(template.toString(), args.toArray());
+  }
+}
@@ -0,0 +1,23 @@
+package com.codeit.duckhu.global.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+
+/**
+ * 키워드 검색 조건 생성 전략
+ *
+ * <p>DB마다 부분 문자열 검색을 인덱스로 처리하는 방식이 달라, 검색 조건 생성을 전략으로 분리합니다.
+ *
+ * @see LikeKeywordSearchStrategy
+ * @see TrigramKeywordSearchStrategy
+ */
+public interface KeywordSearchStrategy {
+
+  /**
+   * 주어진 컬럼 중 하나라도 키워드를 포함하면 참인 조건을 반환합니다.
+   *
+   * @param keyword 검색 키워드 (공백이 아닌 값)
+   * @param columns 검색 대상 컬럼
+   */
+  BooleanExpression containsAny(String keyword, StringExpression... columns);
+}
@@ -0,0 +1,22 @@
+package com.codeit.duckhu.global.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import java.util.Arrays;
+
+/**
+ * {@code lower(column) like lower('%keyword%')} 기반 검색 (기본값)
+ *
+ * <p>모든 DB에서 동작하지만 인덱스를 사용할 수 없어 전체 스캔이 발생합니다. H2 테스트 환경의 기본 전략입니다.
+ */
+public class LikeKeywordSearchStrategy implements KeywordSearchStrategy {
+
+  @Override
+  public BooleanExpression containsAny(String keyword, StringExpression... columns) {
+    return Expressions.anyOf(
+        Arrays.stream(columns)
+            .map(column -> column.containsIgnoreCase(keyword))
+            .toArray(BooleanExpression[]::new));
+  }
+}
@@ -0,0 +1,38 @@
+package com.codeit.duckhu.global.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import java.util.Arrays;
+
+/**
+ * PostgreSQL pg_trgm 기반 검색
+ *
+ * <p>{@code column ilike '%keyword%'}로 검색하며, 컬럼에 {@code gin_trgm_ops} GIN 인덱스가 있으면 부분 문자열 검색도 인덱스를
+ * 탑니다. (인덱스는 schema-postgresql.sql 참고) 한국어는 tsvector 형태소 분석이 지원되지 않아 trigram 방식을 사용합니다.
+ */
+public class TrigramKeywordSearchStrategy implements KeywordSearchStrategy {
+
+  private static final char ESCAPE = '!';
+
+  @Override
+  public BooleanExpression containsAny(String keyword, StringExpression... columns) {
+    String pattern = "%" + escape(keyword) + "%";
+    return Expressions.anyOf(
+        Arrays.stream(columns)
+            .map(column -> Expressions.booleanTemplate("{0} ilike {1} escape '!'", column, pattern))
+            .toArray(BooleanExpression[]::new));
+  }
+
+  // LIKE 와일드카드(%, _)가 키워드에 포함되어도 문자 그대로 검색되도록 이스케이프
+  private String escape(String keyword) {
+    StringBuilder sb = new StringBuilder(keyword.length());
+    for (char c : keyword.toCharArray()) {
+      if (c == ESCAPE || c == '%' || c == '_') {
+        sb.append(ESCAPE);
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,96 @@
+-- 기존 PostgreSQL DB 마이그레이션
+-- initdb 스크립트(schema.sql, schema-postgresql.sql)는 빈 볼륨에서만 실행되므로, 이미 운영 중인 DB에는 배포 전에 이 파일을 직접 한 번 실행해야 함
+--   psql -h <host> -U <user> -d duckhu_dev -f src/main/resources/migration-postgresql.sql
+-- 새로 초기화한 DB에는 필요 없으며, 모든 문장이 IF NOT EXISTS / 재계산 / 인덱스 재생성이라 다시 실행해도 안전
+-- (ddl-auto: validate라 컬럼/테이블이 없으면 애플리케이션이 시작되지 않음)
+
+-- 도서 리뷰 집계 (평점 합계, 별점 분포)
+BEGIN;
+
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_1_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_2_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_3_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_4_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS rating_5_count INTEGER NOT NULL DEFAULT 0;
+
+-- 새 컬럼이 0으로 시작하므로 논리 삭제되지 않은 리뷰로 집계를 채움 (BookRepository.reconcileReviewStats와 같은 기준)
+UPDATE books b
+SET review_count   = s.review_count,
+    rating_sum     = s.rating_sum,
+    rating         = s.rating,
+    rating_1_count = s.rating_1_count,
+    rating_2_count = s.rating_2_count,
+    rating_3_count = s.rating_3_count,
+    rating_4_count = s.rating_4_count,
+    rating_5_count = s.rating_5_count
+FROM (SELECT r.book_id,
+             COUNT(*)                                 AS review_count,
+             SUM(r.rating)                            AS rating_sum,
+             AVG(CAST(r.rating AS DOUBLE PRECISION))  AS rating,
+             COUNT(*) FILTER (WHERE r.rating = 1)     AS rating_1_count,
+             COUNT(*) FILTER (WHERE r.rating = 2)     AS rating_2_count,
+             COUNT(*) FILTER (WHERE r.rating = 3)     AS rating_3_count,
+             COUNT(*) FILTER (WHERE r.rating = 4)     AS rating_4_count,
+             COUNT(*) FILTER (WHERE r.rating = 5)     AS rating_5_count
+      FROM reviews r
+      WHERE r.is_deleted = FALSE
+      GROUP BY r.book_id) s
+WHERE b.id = s.book_id;
+
+COMMIT;
+
+-- 랭킹 스냅샷 세대 (인기 도서/파워 유저/인기 리뷰)
+BEGIN;
+
+-- 세대 도입 전에 저장된 행은 세대 0으로 취급
+ALTER TABLE popular_book ADD COLUMN IF NOT EXISTS generation BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE power_user ADD COLUMN IF NOT EXISTS generation BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE popular_reviews ADD COLUMN IF NOT EXISTS generation BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS ranking_generations
+(
+    ranking             VARCHAR(30)      NOT NULL CHECK (ranking IN ('POPULAR_BOOK', 'POWER_USER', 'POPULAR_REVIEW')),
+    period              VARCHAR(20)      NOT NULL CHECK (period IN ('DAILY', 'WEEKLY', 'MONTHLY', 'ALL_TIME')),
+    generation          BIGINT           NOT NULL,
+    previous_generation BIGINT,
+    published_at        TIMESTAMP        NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (ranking, period)
+);
+
+-- 포인터가 없으면 조회 결과가 비므로 모든 (랭킹, 기간)을 세대 0으로 채움 (이미 공개된 포인터는 유지)
+INSERT INTO ranking_generations (ranking, period, generation)
+VALUES
+       ('POPULAR_BOOK', 'DAILY', 0),
+       ('POPULAR_BOOK', 'WEEKLY', 0),
+       ('POPULAR_BOOK', 'MONTHLY', 0),
+       ('POPULAR_BOOK', 'ALL_TIME', 0),
+       ('POWER_USER', 'DAILY', 0),
+       ('POWER_USER', 'WEEKLY', 0),
+       ('POWER_USER', 'MONTHLY', 0),
+       ('POWER_USER', 'ALL_TIME', 0),
+       ('POPULAR_REVIEW', 'DAILY', 0),
+       ('POPULAR_REVIEW', 'WEEKLY', 0),
+       ('POPULAR_REVIEW', 'MONTHLY', 0),
+       ('POPULAR_REVIEW', 'ALL_TIME', 0)
+ON CONFLICT (ranking, period) DO NOTHING;
+
+-- 세대 없이 만들어진 기존 순위 인덱스는 이름이 같아 IF NOT EXISTS로는 바뀌지 않으므로 다시 만듦 (다시 실행하면 인덱스만 재생성)
+DROP INDEX IF EXISTS idx_popular_reviews_period_rank;
+DROP INDEX IF EXISTS idx_popular_book_period_rank;
+DROP INDEX IF EXISTS idx_power_user_period_rank;
+CREATE INDEX idx_popular_reviews_period_rank ON popular_reviews (period, generation, rank, created_at, id);
+CREATE INDEX idx_popular_book_period_rank ON popular_book (period, generation, rank, created_at, id);
+CREATE INDEX idx_power_user_period_rank ON power_user (period, generation, rank, created_at, id);
+
+COMMIT;
+
+-- 인기 리뷰 알림 중복 방지 키
+BEGIN;
+
+-- 기존 좋아요/댓글 알림은 NULL로 남고, 유니크 인덱스는 NULL끼리 충돌하지 않음
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS dedupe_key VARCHAR(100);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_notifications_dedupe_key ON notifications (dedupe_key);
+
+COMMIT;
@@ -0,0 +1,19 @@
+-- PostgreSQL 전용 스키마 (schema.sql 적용 후 실행)
+-- docker-compose에서 02-schema-postgresql.sql로 initdb에 마운트되어 schema.sql 다음에 실행됨
+-- 이미 초기화된 DB에는 이 파일을 직접 한 번 실행해야 함 (모든 문장이 IF NOT EXISTS라 다시 실행해도 안전)
+-- H2 테스트 환경에서는 실행되지 않음
+
+-- 키워드 검색용 trigram 인덱스 (ILIKE '%keyword%' 부분 검색)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING gin (author gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_isbn_trgm ON books USING gin (isbn gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_reviews_content_trgm ON reviews USING gin (content gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_nickname_trgm ON users USING gin (nickname gin_trgm_ops);
+
+-- 알림 일괄 확인 대상 (미확인 알림)
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unconfirmed ON notifications (user_id) WHERE confirmed = FALSE;
+
+-- 오래된 확인 알림 정리 대상
+CREATE INDEX IF NOT EXISTS idx_notifications_confirmed_updated_at ON notifications (updated_at) WHERE confirmed = TRUE;
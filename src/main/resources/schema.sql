@@ -12,6 +12,12 @@ CREATE TABLE books
     publisher      VARCHAR(255)     NOT NULL,
     rating         DOUBLE PRECISION NOT NULL DEFAULT 0.0,
     review_count   INTEGER          NOT NULL DEFAULT 0,
+    rating_sum     BIGINT           NOT NULL DEFAULT 0, -- 평균 평점 증분 계산용 합계
+    rating_1_count INTEGER          NOT NULL DEFAULT 0, -- 별점 분포
+    rating_2_count INTEGER          NOT NULL DEFAULT 0,
+    rating_3_count INTEGER          NOT NULL DEFAULT 0,
+    rating_4_count INTEGER          NOT NULL DEFAULT 0,
+    rating_5_count INTEGER          NOT NULL DEFAULT 0,
     thumbnail_url  VARCHAR(255),
     title          VARCHAR(255)     NOT NULL
 );
@@ -71,6 +77,7 @@ CREATE TABLE notifications
     confirmed    BOOLEAN          NOT NULL,
     created_at   TIMESTAMP        NOT NULL DEFAULT now(),
     updated_at   TIMESTAMP        NOT NULL,
+    dedupe_key   VARCHAR(100), -- 배치 알림 중복 방지 키 (좋아요/댓글 알림은 NULL)
 
     CONSTRAINT fk_notification_review FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE SET NULL,
     CONSTRAINT fk_notification_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE SET NULL
@@ -88,6 +95,7 @@ CREATE TABLE power_user
     created_at       TIMESTAMP        NOT NULL DEFAULT now(),
     score            DOUBLE PRECISION,
     rank             INT,
+    generation       BIGINT           NOT NULL DEFAULT 0,
 
     CONSTRAINT fk_poweruser_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
@@ -103,6 +111,7 @@ CREATE TABLE popular_book
     rating       DOUBLE PRECISION,
     rank         INT,
     score        DOUBLE PRECISION,
+    generation   BIGINT           NOT NULL DEFAULT 0,
 
     CONSTRAINT fk_popularbook_book FOREIGN KEY (book_id) REFERENCES books (id) ON DELETE CASCADE
 );
@@ -119,10 +128,39 @@ CREATE TABLE popular_reviews
     comment_count INT,
     score         DOUBLE PRECISION,
     rank          INT,
+    generation    BIGINT           NOT NULL DEFAULT 0,
 
     CONSTRAINT fk_popular_reviews FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
 );
 
+-- 랭킹 스냅샷 세대 포인터 (랭킹 종류, 기간별로 현재 공개 중인 세대)
+CREATE TABLE ranking_generations
+(
+    ranking             VARCHAR(30)      NOT NULL CHECK (ranking IN ('POPULAR_BOOK', 'POWER_USER', 'POPULAR_REVIEW')),
+    period              VARCHAR(20)      NOT NULL CHECK (period IN ('DAILY', 'WEEKLY', 'MONTHLY', 'ALL_TIME')),
+    generation          BIGINT           NOT NULL,
+    previous_generation BIGINT,
+    published_at        TIMESTAMP        NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (ranking, period)
+);
+
+-- 모든 (랭킹, 기간) 포인터를 세대 0(세대 도입 전에 저장된 행)으로 미리 만들어 조회가 항상 generation = 포인터 한 조건으로 인덱스를 타게 함
+INSERT INTO ranking_generations (ranking, period, generation)
+VALUES
+       ('POPULAR_BOOK', 'DAILY', 0),
+       ('POPULAR_BOOK', 'WEEKLY', 0),
+       ('POPULAR_BOOK', 'MONTHLY', 0),
+       ('POPULAR_BOOK', 'ALL_TIME', 0),
+       ('POWER_USER', 'DAILY', 0),
+       ('POWER_USER', 'WEEKLY', 0),
+       ('POWER_USER', 'MONTHLY', 0),
+       ('POWER_USER', 'ALL_TIME', 0),
+       ('POPULAR_REVIEW', 'DAILY', 0),
+       ('POPULAR_REVIEW', 'WEEKLY', 0),
+       ('POPULAR_REVIEW', 'MONTHLY', 0),
+       ('POPULAR_REVIEW', 'ALL_TIME', 0);
+
 -- 리뷰 좋아요
 CREATE TABLE review_likes
 (
@@ -135,3 +173,33 @@ CREATE TABLE review_likes
     CONSTRAINT fk_review_likes_review FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE,
     CONSTRAINT uk_review_likes UNIQUE (review_id, user_id)
 );
+
+-- 커서 페이지네이션 인덱스
+-- 각 목록 조회의 (필터 + 정렬) 순서와 동일하게 구성하여 정렬 없이 인덱스 순서대로 LIMIT 만큼만 읽도록 함
+-- PostgreSQL 전용 인덱스(trigram, 부분 인덱스)는 schema-postgresql.sql 참고
+
+-- 도서 목록 (논리 삭제 제외 + 정렬 필드, createdAt, id)
+CREATE INDEX IF NOT EXISTS idx_books_deleted_created_at ON books (is_deleted, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_books_deleted_title ON books (is_deleted, title, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_books_deleted_rating ON books (is_deleted, rating, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_books_deleted_review_count ON books (is_deleted, review_count, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_books_deleted_published_date ON books (is_deleted, published_date, created_at, id);
+
+-- 리뷰 목록 (전체 / 도서별 / 작성자별, createdAt 또는 rating 정렬)
+CREATE INDEX IF NOT EXISTS idx_reviews_deleted_created_at ON reviews (is_deleted, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_reviews_deleted_rating ON reviews (is_deleted, rating, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_reviews_book_deleted_created_at ON reviews (book_id, is_deleted, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_reviews_book_deleted_rating ON reviews (book_id, is_deleted, rating, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_reviews_user_deleted_created_at ON reviews (user_id, is_deleted, created_at, id);
+
+-- 댓글 목록 (리뷰별)
+CREATE INDEX IF NOT EXISTS idx_comments_review_deleted_created_at ON comments (review_id, is_deleted, created_at, id);
+
+-- 알림 목록 (수신자별)
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_at ON notifications (user_id, created_at, id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_notifications_dedupe_key ON notifications (dedupe_key);
+
+-- 인기 리뷰/도서/유저 (기간, 세대별 순위)
+CREATE INDEX IF NOT EXISTS idx_popular_reviews_period_rank ON popular_reviews (period, generation, rank, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_popular_book_period_rank ON popular_book (period, generation, rank, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_power_user_period_rank ON power_user (period, generation, rank, created_at, id);
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -84,7 +85,8 @@ class BookControllerTest {
               0, // reviewCount
               0.0, // rating
               Instant.now(), // createdAt
-              Instant.now() // updatedAt
+              Instant.now(), // updatedAt
+              Map.of() // ratingHistogram
               );
 
       given(bookService.registerBook(request, Optional.of(thumbnailPart))).willReturn(response);
@@ -171,7 +173,8 @@ class BookControllerTest {
               3,
               4.5,
               Instant.now(),
-              Instant.now());
+              Instant.now(),
+              Map.of());
 
       given(bookService.updateBook(eq(bookId), any(), any())).willReturn(response);
 
@@ -3,6 +3,9 @@ package com.codeit.duckhu.domain.book.repository;
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepositoryImpl;
 import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -15,10 +18,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -40,7 +45,7 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName("키워드 검색 - 제목으로 검색 성공")
     void searchByTitle() {
-      List<Book> result = bookRepositoryImpl.searchBooks("Effective", "title", Direction.ASC, null, null, 10);
+      List<Book> result = bookRepositoryImpl.searchBooks("Effective", "title", Direction.ASC, null, 10);
       assertThat(result).hasSize(1);
       assertThat(result.get(0).getTitle()).contains("Effective Java");
     }
@@ -48,7 +53,7 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName("키워드 검색 - 저자로 검색 성공")
     void searchByAuthor() {
-      List<Book> result = bookRepositoryImpl.searchBooks("Robert", "title", Direction.ASC, null, null, 10);
+      List<Book> result = bookRepositoryImpl.searchBooks("Robert", "title", Direction.ASC, null, 10);
       assertThat(result).hasSize(2); // Clean Code, Clean Architecture
       assertThat(result).extracting(Book::getAuthor).allMatch(author -> author.contains("Robert"));
     }
@@ -56,7 +61,7 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName("키워드 검색 - ISBN으로 검색 성공")
     void searchByIsbn() {
-      List<Book> result = bookRepositoryImpl.searchBooks("978-0132350884", "title", Direction.ASC, null, null, 10);
+      List<Book> result = bookRepositoryImpl.searchBooks("978-0132350884", "title", Direction.ASC, null, 10);
       assertThat(result).hasSize(1);
       assertThat(result.get(0).getIsbn()).isEqualTo("978-0132350884");
     }
@@ -64,7 +69,7 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName("정렬 테스트 - 제목 오름차순 정렬")
     void sortByTitleAsc() {
-      List<Book> result = bookRepositoryImpl.searchBooks("", "title", Direction.ASC, null, null, 10);
+      List<Book> result = bookRepositoryImpl.searchBooks("", "title", Direction.ASC, null, 10);
       assertThat(result).hasSizeGreaterThanOrEqualTo(3);
       assertThat(result).extracting(Book::getTitle)
           .isSortedAccordingTo(String::compareToIgnoreCase);
@@ -73,7 +78,7 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName("정렬 테스트 - 제목 내림차순 정렬")
     void sortByTitleDesc() {
-      List<Book> result = bookRepositoryImpl.searchBooks("", "title", Direction.DESC, null, null, 10);
+      List<Book> result = bookRepositoryImpl.searchBooks("", "title", Direction.DESC, null, 10);
       assertThat(result).hasSizeGreaterThanOrEqualTo(3);
       assertThat(result).extracting(Book::getTitle)
           .isSortedAccordingTo((a, b) -> b.compareToIgnoreCase(a));
@@ -87,38 +92,83 @@ public class BookRepositoryImplTest {
     @Test
     @DisplayName(" rating 기준 커서 페이징")
     void cursorPagingByRating() {
-      List<Book> books = bookRepositoryImpl.searchBooks(
-          "", "rating", Direction.ASC, "4.5", null, 3
+      List<Book> page1 = bookRepositoryImpl.searchBooks("", "rating", Direction.ASC, null, 3);
+      Book last = page1.get(page1.size() - 1);
+
+      List<Book> page2 = bookRepositoryImpl.searchBooks(
+          "", "rating", Direction.ASC,
+          CursorCodec.encode(last.getRating(), last.getCreatedAt(), last.getId()), 3
       );
 
-      assertThat(books).isNotEmpty()
+      assertThat(page2).isNotEmpty()
           .extracting(Book::getRating)
-          .allSatisfy(r -> assertThat(r).isLessThanOrEqualTo(4.5));
+          .allSatisfy(r -> assertThat(r).isGreaterThanOrEqualTo(last.getRating()));
+      assertThat(page2).extracting(Book::getId).doesNotContainAnyElementsOf(
+          page1.stream().map(Book::getId).toList());
     }
 
     @Test
     @DisplayName(" reviewCount 기준 커서 페이징")
     void cursorPagingByReviewCount() {
-      List<Book> books = bookRepositoryImpl.searchBooks(
-          "", "reviewCount", Direction.ASC, "60", null, 3
+      List<Book> page1 = bookRepositoryImpl.searchBooks("", "reviewCount", Direction.DESC, null, 3);
+      Book last = page1.get(page1.size() - 1);
+
+      List<Book> page2 = bookRepositoryImpl.searchBooks(
+          "", "reviewCount", Direction.DESC,
+          CursorCodec.encode(last.getReviewCount(), last.getCreatedAt(), last.getId()), 3
       );
 
-      assertThat(books).isNotEmpty()
+      assertThat(page2).isNotEmpty()
           .extracting(Book::getReviewCount)
-          .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(60));
+          .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(last.getReviewCount()));
     }
 
     @Test
     @DisplayName("publishedDate 기준 커서 페이징")
     void cursorPagingByPublishedDate() {
-      List<Book> books = bookRepositoryImpl.searchBooks(
+      List<Book> page1 = bookRepositoryImpl.searchBooks("", "publishedDate", Direction.ASC, null, 3);
+      Book last = page1.get(page1.size() - 1);
+
+      List<Book> page2 = bookRepositoryImpl.searchBooks(
           "", "publishedDate", Direction.ASC,
-          "2018-01-06", null, 3
+          CursorCodec.encode(last.getPublishedDate(), last.getCreatedAt(), last.getId()), 3
       );
 
-      assertThat(books).isNotEmpty()
+      assertThat(page2).isNotEmpty()
           .extracting(Book::getPublishedDate)
-          .allSatisfy(date -> assertThat(date).isBeforeOrEqualTo(LocalDate.of(2018, 1, 6)));
+          .allSatisfy(date -> assertThat(date).isAfterOrEqualTo(last.getPublishedDate()));
+    }
+
+    @Test
+    @DisplayName("생성일이 모두 같아도 id 기준으로 누락/중복 없이 전체를 순회한다")
+    void cursorPagingVisitsEveryBookOnce() {
+      List<Book> all = bookRepositoryImpl.searchBooks("", "createdAt", Direction.DESC, null, 100);
+
+      List<UUID> visited = new ArrayList<>();
+      String cursor = null;
+      while (true) {
+        List<Book> page =
+            bookRepositoryImpl.searchBooks("", "createdAt", Direction.DESC, cursor, 3);
+        if (page.isEmpty()) {
+          break;
+        }
+        page.forEach(book -> visited.add(book.getId()));
+        Book last = page.get(page.size() - 1);
+        cursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+      }
+
+      assertThat(visited).doesNotHaveDuplicates()
+          .containsExactlyElementsOf(all.stream().map(Book::getId).toList());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR 예외가 발생한다")
+    void invalidCursor() {
+      assertThatThrownBy(
+              () -> bookRepositoryImpl.searchBooks("", "rating", Direction.ASC, "4.5", 3))
+          .isInstanceOf(DomainException.class)
+          .extracting("errorCode")
+          .isEqualTo(ErrorCode.INVALID_CURSOR);
     }
   }
 
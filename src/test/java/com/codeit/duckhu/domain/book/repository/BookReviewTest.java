@@ -10,10 +10,12 @@ import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -27,6 +29,8 @@ public class BookReviewTest {
 
   @Autowired private UserRepository userRepository;
 
+  @Autowired private TestEntityManager entityManager;
+
   /**
    * 도서에 등록된 리뷰가 있을 때
    * - 리뷰 개수(count)가 정확히 계산되는지
@@ -108,4 +112,116 @@ public class BookReviewTest {
     assertThat(count).isEqualTo(0);
     assertThat(avg).isEqualTo(0.0);
   }
+
+  /**
+   * 리뷰 증감분 반영
+   * - 리뷰 수, 평점 합계, 별점 분포가 UPDATE 한 번으로 바뀌고
+   * - 평균 평점이 합계/개수로 다시 계산되는지 검증합니다.
+   */
+  @Test
+  @DisplayName("리뷰 증감분만으로 리뷰 수, 평균 평점, 별점 분포를 갱신한다")
+  void applyReviewDelta_updatesAggregates() {
+    // Given
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title("증분 집계 도서")
+                .author("저자")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+
+    // When - 4점, 2점 리뷰 작성 후 2점 리뷰를 5점으로 수정
+    bookRepository.applyReviewDelta(book.getId(), 1, 4, 0, 0, 0, 1, 0);
+    bookRepository.applyReviewDelta(book.getId(), 1, 2, 0, 1, 0, 0, 0);
+    bookRepository.applyReviewDelta(book.getId(), 0, 3, 0, -1, 0, 0, 1);
+    entityManager.clear();
+
+    // Then
+    Book updated = bookRepository.findById(book.getId()).orElseThrow();
+    assertThat(updated.getReviewCount()).isEqualTo(2);
+    assertThat(updated.getRatingSum()).isEqualTo(9L);
+    assertThat(updated.getRating()).isEqualTo(4.5);
+    assertThat(updated.getRatingHistogram()).isEqualTo(Map.of(1, 0, 2, 0, 3, 0, 4, 1, 5, 1));
+  }
+
+  /**
+   * 집계 보정
+   * - 실제 리뷰와 어긋난 도서의 리뷰 수, 평점 합계, 별점 분포를 다시 계산하는지 검증합니다.
+   */
+  @Test
+  @DisplayName("어긋난 도서 집계를 실제 리뷰 기준으로 보정한다")
+  void reconcileReviewStats_repairsDrift() {
+    // Given - 리뷰는 3점, 5점 두 개지만 집계는 비어 있는 상태
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title("보정 도서")
+                .author("저자")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    User user1 = User.builder().email("c@test.com").nickname("c").password("1234").build();
+    User user2 = User.builder().email("d@test.com").nickname("d").password("1234").build();
+    userRepository.saveAll(List.of(user1, user2));
+    reviewRepository.saveAll(
+        List.of(
+            Review.builder().book(book).user(user1).rating(3).content("보통").build(),
+            Review.builder().book(book).user(user2).rating(5).content("최고").build()));
+    entityManager.flush();
+
+    // When
+    int fixed = bookRepository.reconcileReviewStats();
+
+    // Then
+    Book reconciled = bookRepository.findById(book.getId()).orElseThrow();
+    assertThat(fixed).isEqualTo(1);
+    assertThat(reconciled.getReviewCount()).isEqualTo(2);
+    assertThat(reconciled.getRatingSum()).isEqualTo(8L);
+    assertThat(reconciled.getRating()).isEqualTo(4.0);
+    assertThat(reconciled.getRatingHistogram()).isEqualTo(Map.of(1, 0, 2, 0, 3, 1, 4, 0, 5, 1));
+    assertThat(bookRepository.reconcileReviewStats()).isZero();
+  }
+
+  @Test
+  @DisplayName("리뷰 수와 평점 합계가 맞아도 별점 분포나 평균이 어긋나면 보정한다")
+  void reconcileReviewStats_repairsHistogramDrift() {
+    // Given - 3점, 5점 리뷰로 보정된 도서의 분포와 평균만 어긋남 (리뷰 수 2, 합계 8은 그대로)
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title("분포 보정 도서")
+                .author("저자")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    User user1 = User.builder().email("e@test.com").nickname("e").password("1234").build();
+    User user2 = User.builder().email("f@test.com").nickname("f").password("1234").build();
+    userRepository.saveAll(List.of(user1, user2));
+    reviewRepository.saveAll(
+        List.of(
+            Review.builder().book(book).user(user1).rating(3).content("보통").build(),
+            Review.builder().book(book).user(user2).rating(5).content("최고").build()));
+    entityManager.flush();
+    bookRepository.reconcileReviewStats();
+    entityManager
+        .getEntityManager()
+        .createNativeQuery(
+            "UPDATE books SET rating_3_count = 0, rating_4_count = 2, rating_5_count = 0,"
+                + " rating = 0 WHERE id = ?1")
+        .setParameter(1, book.getId())
+        .executeUpdate();
+
+    // When
+    int fixed = bookRepository.reconcileReviewStats();
+
+    // Then
+    Book reconciled = bookRepository.findById(book.getId()).orElseThrow();
+    assertThat(fixed).isEqualTo(1);
+    assertThat(reconciled.getRating()).isEqualTo(4.0);
+    assertThat(reconciled.getRatingHistogram()).isEqualTo(Map.of(1, 0, 2, 0, 3, 1, 4, 0, 5, 1));
+  }
 }
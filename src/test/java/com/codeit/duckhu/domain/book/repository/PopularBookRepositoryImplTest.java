@@ -4,6 +4,7 @@ import com.codeit.duckhu.domain.book.entity.PopularBook;
 import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepositoryCustom;
 import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepositoryImpl;
 import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import org.springframework.test.context.jdbc.Sql;
@@ -33,7 +35,7 @@ public class PopularBookRepositoryImplTest {
   void searchDailyBooks() {
     // when
     List<PopularBook> daily = popularBookRepository.searchByPeriodWithCursorPaging(
-        PeriodType.DAILY, Direction.ASC, null, null, 10);
+        PeriodType.DAILY, Direction.ASC, null, 10);
 
     // then
     assertThat(daily).hasSize(3); // DAILY 데이터 3건
@@ -46,7 +48,7 @@ public class PopularBookRepositoryImplTest {
   void searchWeeklyBooks() {
     // when
     List<PopularBook> weekly = popularBookRepository.searchByPeriodWithCursorPaging(
-        PeriodType.WEEKLY, Direction.ASC, null, null, 10);
+        PeriodType.WEEKLY, Direction.ASC, null, 10);
 
     // then
     assertThat(weekly).hasSize(3); // WEEKLY 데이터 3건
@@ -59,7 +61,7 @@ public class PopularBookRepositoryImplTest {
   void searchMonthlyBooks() {
     // when
     List<PopularBook> monthly = popularBookRepository.searchByPeriodWithCursorPaging(
-        PeriodType.MONTHLY, Direction.ASC, null, null, 10);
+        PeriodType.MONTHLY, Direction.ASC, null, 10);
 
     // then
     assertThat(monthly).hasSize(2); // MONTHLY 데이터 2건
@@ -72,7 +74,7 @@ public class PopularBookRepositoryImplTest {
   void searchAllTimeBooks() {
     // when
     List<PopularBook> allTime = popularBookRepository.searchByPeriodWithCursorPaging(
-        PeriodType.ALL_TIME, Direction.ASC, null, null, 10);
+        PeriodType.ALL_TIME, Direction.ASC, null, 10);
 
     // then
     assertThat(allTime).hasSize(2); // ALL_TIME 데이터 2건
@@ -84,15 +86,14 @@ public class PopularBookRepositoryImplTest {
   @DisplayName("ASC 정렬: rank=5, createdAt=1분 전 커서 기준 이후 데이터만 조회")
   void searchAscWithCursor() {
     // given
-    String cursor = "5";
     Instant after = Instant.now().minusSeconds(60); // 커서의 createdAt 보다 더 이전으로 가정
+    String cursor = CursorCodec.encode(5, after, new UUID(0L, 0L));
 
     // when
     List<PopularBook> results = popularBookRepository.searchByPeriodWithCursorPaging(
         PeriodType.WEEKLY,
         Direction.ASC,
         cursor,
-        after,
         10
     );
 
@@ -111,15 +112,14 @@ public class PopularBookRepositoryImplTest {
   @DisplayName("DESC 정렬: rank=5, createdAt=1분 전 커서 기준 이전 데이터만 조회")
   void searchDescWithCursor() {
     // given
-    String cursor = "5";
     Instant after = Instant.now().minusSeconds(60);
+    String cursor = CursorCodec.encode(5, after, new UUID(0L, 0L));
 
     // when
     List<PopularBook> results = popularBookRepository.searchByPeriodWithCursorPaging(
         PeriodType.WEEKLY,
         Direction.DESC,
         cursor,
-        after,
         10
     );
 
@@ -11,6 +11,7 @@ import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -104,7 +105,7 @@ public class BookServiceImplTest {
       BookDto expectedDto = new BookDto(
           UUID.randomUUID(), request.title(), request.author(), request.description(),
           request.publisher(), request.publishedDate(), request.isbn(),
-          thumbnailUrl, 0, 0.0, Instant.now(), Instant.now()
+          thumbnailUrl, 0, 0.0, Instant.now(), Instant.now(), Map.of()
       );
 
       given(bookRepository.existsByIsbn(request.isbn())).willReturn(false);
@@ -143,7 +144,7 @@ public class BookServiceImplTest {
       BookDto expectedDto = new BookDto(
           UUID.randomUUID(), request.title(), request.author(), request.description(),
           request.publisher(), request.publishedDate(), request.isbn(),
-          null, 0, 0.0, Instant.now(), Instant.now()
+          null, 0, 0.0, Instant.now(), Instant.now(), Map.of()
       );
 
       given(bookRepository.existsByIsbn(request.isbn())).willReturn(false);
@@ -225,10 +226,10 @@ public class BookServiceImplTest {
 
       BookDto bookDto = new BookDto(
           book.getId(), book.getTitle(), book.getAuthor(), null, null,
-          null, null, null, 10, 4.5, book.getCreatedAt(), book.getUpdatedAt()
+          null, null, null, 10, 4.5, book.getCreatedAt(), book.getUpdatedAt(), Map.of()
       );
 
-      given(bookRepository.searchBooks(any(), any(), any(), any(), any(), anyInt()))
+      given(bookRepository.searchBooks(any(), any(), any(), any(), anyInt()))
           .willReturn(List.of(book));
       given(bookMapper.toDto(any(Book.class), any())).willReturn(bookDto);
 
@@ -267,10 +268,9 @@ public class BookServiceImplTest {
       ReflectionTestUtils.setField(popularBook, "id", id);
       ReflectionTestUtils.setField(popularBook, "createdAt", Instant.now());
 
-      given(popularBookRepository.searchByPeriodWithCursorPaging(any(), any(), any(), any(),
-          anyInt()))
+      given(popularBookRepository.searchByPeriodWithCursorPaging(any(), any(), any(), anyInt()))
           .willReturn(List.of(popularBook));
-      given(popularBookRepository.countByPeriod(any())).willReturn(1);
+      given(popularBookRepository.countCurrentByPeriod(any())).willReturn(1);
       given(popularBookMapper.toDto(any(), any()))
           .willReturn(new com.codeit.duckhu.domain.book.dto.PopularBookDto(
               popularBook.getId(), book.getId(), book.getTitle(), book.getAuthor(), null,
@@ -319,7 +319,7 @@ public class BookServiceImplTest {
       BookDto expectedDto = new BookDto(
           book.getId(), book.getTitle(), book.getAuthor(), null, null,
           null, null, "https://s3.com/thumbnail.jpg", 20, 4.5,
-          book.getCreatedAt(), book.getCreatedAt()
+          book.getCreatedAt(), book.getCreatedAt(), Map.of()
       );
 
       given(bookRepository.findById(book.getId())).willReturn(Optional.of(book));
@@ -427,7 +427,7 @@ public class BookServiceImplTest {
       BookDto expectedDto = new BookDto(bookId, "New Title", "New Author", "New Desc",
           "New Publisher",
           LocalDate.now(), null, uploadedUrl, reviewCount, rating, Instant.now(),
-          Instant.now());
+          Instant.now(), Map.of());
 
       given(bookRepository.findById(bookId)).willReturn(Optional.of(originalBook));
       given(thumbnailImageStorage.upload(thumbnail)).willReturn(uploadedUrl);
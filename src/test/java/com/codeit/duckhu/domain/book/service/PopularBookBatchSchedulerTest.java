@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("PopularBookBatchScheduler 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -54,4 +55,18 @@ class PopularBookBatchSchedulerTest {
     verify(popularBookBatchService).savePopularBook(PeriodType.MONTHLY);
     verify(popularBookBatchService).savePopularBook(PeriodType.ALL_TIME);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("single-pass 모드에서는 전체 기간을 한 번에 갱신한다")
+  void schedule_singlePass_callsAllPeriodsOnce() {
+    // given
+    ReflectionTestUtils.setField(scheduler, "singlePass", true);
+
+    // when
+    scheduler.schedule();
+
+    // then
+    verify(popularBookBatchService).savePopularBooksForAllPeriods();
+    verify(popularBookBatchService, never()).savePopularBook(any());
+  }
+}
@@ -1,25 +1,33 @@
 package com.codeit.duckhu.domain.book.service;
 
+import com.codeit.duckhu.domain.book.dto.PopularBookStats;
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
 import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepository;
-import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import com.codeit.duckhu.global.type.PeriodType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DisplayName("PopularBookBatchService 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -28,38 +36,99 @@ public class PopularBookBatchServiceTest {
   @Mock
   private BookRepository bookRepository;
   @Mock
-  private ReviewRepository reviewRepository;
-  @Mock
   private PopularBookRepository popularBookRepository;
   @Mock
+  private RankingSnapshotWriter rankingSnapshotWriter;
+  @Mock
+  private RankingGenerationStore rankingGenerationStore;
+  @Mock
   private MeterRegistry meterRegistry;
   @Mock
   private Counter mockCounter;
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
   @InjectMocks
   private PopularBookBatchService popularBookBatchService;
 
+  private Book book() {
+    Book book = Book.builder().title("Test Book").build();
+    ReflectionTestUtils.setField(book, "id", UUID.randomUUID());
+    return book;
+  }
+
   @Test
   @DisplayName("savePopularBook(): 리뷰가 있는 도서를 기준으로 점수를 계산하고 인기 도서를 저장한다.")
   void savePopularBook_successfullyCalculatesAndSavesPopularBooks() {
-    // given: 리뷰가 있는 도서를 반환하고, 해당 도서의 리뷰 수와 평점을 설정
-    Book book = Book.builder().title("Test Book").build();
-    List<Book> books = List.of(book);
-    when(bookRepository.findBooksWithReviews()).thenReturn(books);
-    when(reviewRepository.countByBookIdAndCreatedAtBetween(any(), any(), any())).thenReturn(10);
-    when(reviewRepository.calculateAverageRatingByBookIdAndCreatedAtBetween(any(), any(), any()))
-        .thenReturn(4.5);
+    // given: 일간 리뷰 집계 결과와 해당 도서를 반환
+    Book book = book();
+    when(popularBookRepository.findPopularBookStats(eq(EnumSet.of(PeriodType.DAILY)), any()))
+        .thenReturn(List.of(new PopularBookStats(book.getId(), PeriodType.DAILY, 10, 4.5)));
+    when(bookRepository.findAllById(any())).thenReturn(List.of(book));
     when(meterRegistry.counter(any(), any(), any())).thenReturn(mockCounter);
+    when(rankingGenerationStore.nextGeneration()).thenReturn(7L);
 
     // when: 일간 인기 도서 계산 배치 실행
     popularBookBatchService.savePopularBook(PeriodType.DAILY);
 
     // then: 각종 의존성 호출 및 저장 동작 검증
-    verify(bookRepository).findBooksWithReviews();
-    verify(reviewRepository).countByBookIdAndCreatedAtBetween(eq(book.getId()), any(), any());
-    verify(reviewRepository).calculateAverageRatingByBookIdAndCreatedAtBetween(eq(book.getId()), any(), any());
-    verify(popularBookRepository).deleteByPeriod(PeriodType.DAILY);
-    verify(popularBookRepository).saveAll(anyList());
+    verify(rankingSnapshotWriter)
+        .insert(eq(RankingSnapshotTable.POPULAR_BOOK), eq(7L), anyList(), any());
+    verify(rankingGenerationStore).publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 7L);
     verify(mockCounter).increment();
   }
+
+  @Test
+  @DisplayName("savePopularBooksForAllPeriods(): 한 번의 집계로 모든 기간의 인기 도서를 저장한다.")
+  void savePopularBooksForAllPeriods_aggregatesOnce() {
+    // given: 같은 도서가 일간/역대 기간에 집계됨
+    Book book = book();
+    when(popularBookRepository.findPopularBookStats(eq(EnumSet.allOf(PeriodType.class)), any()))
+        .thenReturn(
+            List.of(
+                new PopularBookStats(book.getId(), PeriodType.DAILY, 1, 5.0),
+                new PopularBookStats(book.getId(), PeriodType.ALL_TIME, 3, 4.0)));
+    when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+    when(meterRegistry.counter(any(), any(), any())).thenReturn(mockCounter);
+
+    // when
+    popularBookBatchService.savePopularBooksForAllPeriods();
+
+    // then: 집계와 세대 발급은 한 번, 기간별 저장/공개는 기간 수만큼
+    verify(popularBookRepository, times(1)).findPopularBookStats(any(), any());
+    verify(rankingGenerationStore, times(1)).nextGeneration();
+    verify(rankingSnapshotWriter, times(PeriodType.values().length))
+        .insert(eq(RankingSnapshotTable.POPULAR_BOOK), anyLong(), anyList(), any());
+    for (PeriodType period : PeriodType.values()) {
+      verify(rankingGenerationStore)
+          .publish(eq(RankingSnapshotTable.POPULAR_BOOK), eq(period), anyLong());
+    }
+    verify(mockCounter, times(PeriodType.values().length)).increment();
+  }
+
+  @Test
+  @DisplayName("savePopularBooksForAllPeriods(): 한 기간의 저장이 실패하면 그 기간만 롤백하고 나머지 기간은 공개한다.")
+  void savePopularBooksForAllPeriods_failedPeriodRollsBackAlone() {
+    // given: 주간 공개만 실패
+    Book book = book();
+    when(popularBookRepository.findPopularBookStats(eq(EnumSet.allOf(PeriodType.class)), any()))
+        .thenReturn(
+            List.of(
+                new PopularBookStats(book.getId(), PeriodType.DAILY, 1, 5.0),
+                new PopularBookStats(book.getId(), PeriodType.WEEKLY, 2, 4.0)));
+    when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+    when(meterRegistry.counter(any(), any(), any())).thenReturn(mockCounter);
+    when(rankingGenerationStore.nextGeneration()).thenReturn(7L);
+    when(rankingGenerationStore.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.WEEKLY, 7L))
+        .thenThrow(new IllegalStateException("publish failed"));
+
+    // when
+    popularBookBatchService.savePopularBooksForAllPeriods();
+
+    // then: 주간 트랜잭션만 롤백되고 나머지 기간은 각자 커밋/공개
+    verify(rankingGenerationStore).publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 7L);
+    verify(transactionManager, times(1)).rollback(any());
+    verify(transactionManager, times(PeriodType.values().length - 1)).commit(any());
+    verify(meterRegistry).counter("batch.book.popularBook.failure", "period", "WEEKLY");
+  }
 }
@@ -0,0 +1,98 @@
+package com.codeit.duckhu.domain.book.storage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codeit.duckhu.domain.book.storage.ThumbnailImageStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingThumbnailImageStorageTest {
+
+  private static final long EXPIRATION_SECONDS = 3600L;
+
+  @Mock private ThumbnailImageStorage delegate;
+
+  private MeterRegistry meterRegistry;
+  private AtomicLong nanos; // 캐시 만료 시각을 제어하기 위한 가짜 시계
+  private CachingThumbnailImageStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    nanos = new AtomicLong();
+    storage =
+        new CachingThumbnailImageStorage(
+            delegate, meterRegistry, EXPIRATION_SECONDS, 100L, nanos::get);
+  }
+
+  @Test
+  @DisplayName("같은 key는 캐시된 Presigned URL을 재사용한다")
+  void get_shouldReuseCachedUrl() {
+    // given
+    given(delegate.get("image/a")).willReturn("https://signed/a");
+
+    // when
+    String first = storage.get("image/a");
+    String second = storage.get("image/a");
+
+    // then
+    assertThat(first).isEqualTo("https://signed/a");
+    assertThat(second).isEqualTo(first);
+    verify(delegate, times(1)).get("image/a");
+    assertThat(gets("hit")).isEqualTo(1.0);
+    assertThat(gets("miss")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("만료 시간의 절반이 지나면 URL을 다시 서명한다")
+  void get_shouldResignAfterTtl() {
+    // given
+    given(delegate.get("image/a")).willReturn("https://signed/a1", "https://signed/a2");
+    storage.get("image/a");
+
+    // when
+    nanos.addAndGet(Duration.ofSeconds(EXPIRATION_SECONDS / 2 + 1).toNanos());
+    String url = storage.get("image/a");
+
+    // then
+    assertThat(url).isEqualTo("https://signed/a2");
+    verify(delegate, times(2)).get("image/a");
+  }
+
+  @Test
+  @DisplayName("삭제 시 S3 삭제를 위임하고 캐시를 무효화한다")
+  void delete_shouldInvalidateCache() {
+    // given
+    given(delegate.get("image/a")).willReturn("https://signed/a");
+    storage.get("image/a");
+
+    // when
+    storage.delete("image/a");
+    storage.get("image/a");
+
+    // then
+    verify(delegate).delete("image/a");
+    verify(delegate, times(2)).get("image/a");
+  }
+
+  private double gets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", CachingThumbnailImageStorage.CACHE_NAME)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
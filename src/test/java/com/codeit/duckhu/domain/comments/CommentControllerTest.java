@@ -19,6 +19,7 @@ import com.codeit.duckhu.domain.comment.dto.request.CommentCreateRequest;
 import com.codeit.duckhu.domain.comment.dto.request.CommentUpdateRequest;
 import com.codeit.duckhu.domain.comment.service.CommentService;
 import com.codeit.duckhu.domain.user.UserAuthenticationFilter;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
@@ -117,22 +118,20 @@ public class CommentControllerTest {
   @Test
   void getCommentsList_shouldReturnComments() throws Exception {
     UUID reviewId = UUID.randomUUID();
-    UUID cursorId = UUID.randomUUID();
-    Instant createdAt = Instant.now();
+    String cursor = CursorCodec.encode(Instant.now(), UUID.randomUUID());
 
     CursorPageResponseCommentDto responseDto = new CursorPageResponseCommentDto();
-    when(commentService.getList(eq(reviewId), eq(Direction.DESC), eq(cursorId), eq(createdAt), eq(30)))
+    when(commentService.getList(eq(reviewId), eq(Direction.DESC), eq(cursor), eq(30)))
         .thenReturn(responseDto);
 
     mockMvc.perform(get("/api/comments")
             .param("reviewId", reviewId.toString())
             .param("direction", "DESC")
-            .param("cursorId", cursorId.toString())
-            .param("createdAt", createdAt.toString())
+            .param("cursor", cursor)
             .param("limit", "30"))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-    verify(commentService).getList(eq(reviewId), eq(Direction.DESC), eq(cursorId), eq(createdAt), eq(30));
+    verify(commentService).getList(eq(reviewId), eq(Direction.DESC), eq(cursor), eq(30));
   }
 }
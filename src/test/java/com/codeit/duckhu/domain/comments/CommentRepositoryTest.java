@@ -12,15 +12,19 @@ import com.codeit.duckhu.domain.review.repository.ReviewRepository;
 import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Slice;
@@ -39,6 +43,8 @@ class CommentRepositoryTest {
 
   @Autowired BookRepository bookRepository;
 
+  @Autowired TestEntityManager entityManager;
+
   private User savedUser;
   private Review savedReview;
   private Comment comment;
@@ -115,17 +121,20 @@ class CommentRepositoryTest {
 
     Slice<Comment> slice =
         commentRepository.searchAll(
-            savedReview.getId(), Direction.ASC.toString(), Instant.EPOCH, null, 10);
+            savedReview.getId(),
+            Direction.ASC.toString(),
+            CursorCodec.encode(Instant.EPOCH, new UUID(0, 0)),
+            10);
 
     assertThat(slice.getContent()).contains(saved);
   }
 
   @Test
-  void searchAll_afterAndCursorIdAreNull_returnsAll() {
+  void searchAll_cursorIsNull_returnsAll() {
     commentRepository.save(comment);
 
     Slice<Comment> slice = commentRepository.searchAll(
-        savedReview.getId(), "ASC", null, null, 10
+        savedReview.getId(), "ASC", null, 10
     );
 
     assertThat(slice.getContent()).hasSize(1);
@@ -136,7 +145,7 @@ class CommentRepositoryTest {
     commentRepository.save(comment);
 
     Slice<Comment> slice = commentRepository.searchAll(
-        savedReview.getId(), "DESC", Instant.EPOCH, UUID.randomUUID(), 10
+        savedReview.getId(), "DESC", CursorCodec.encode(Instant.EPOCH, UUID.randomUUID()), 10
     );
 
     assertThat(slice).isNotNull();
@@ -147,9 +156,68 @@ class CommentRepositoryTest {
     commentRepository.save(comment);
 
     Slice<Comment> slice = commentRepository.searchAll(
-        savedReview.getId(), "ASC", Instant.EPOCH, UUID.randomUUID(), 10
+        savedReview.getId(), "ASC", CursorCodec.encode(Instant.EPOCH, UUID.randomUUID()), 10
     );
 
     assertThat(slice).isNotNull();
   }
+
+  @Test
+  void searchAll_nextCursor_returnsFollowingComments() {
+    UUID first = commentRepository.save(comment).getId();
+    UUID second =
+        commentRepository
+            .save(Comment.builder().user(savedUser).review(savedReview).content("second").build())
+            .getId();
+    // 커서에는 DB에 저장된 createdAt 값이 담기도록 다시 읽음
+    entityManager.flush();
+    entityManager.clear();
+
+    Slice<Comment> firstPage = commentRepository.searchAll(savedReview.getId(), "ASC", null, 1);
+    Comment last = firstPage.getContent().get(0);
+    Slice<Comment> secondPage =
+        commentRepository.searchAll(
+            savedReview.getId(), "ASC", CursorCodec.encode(last.getCreatedAt(), last.getId()), 1);
+
+    assertThat(firstPage.hasNext()).isTrue();
+    assertThat(List.of(last.getId(), secondPage.getContent().get(0).getId()))
+        .containsExactlyInAnyOrder(first, second);
+    assertThat(secondPage.hasNext()).isFalse();
+  }
+
+  @Test
+  void searchAll_invalidCursor_throws() {
+    String legacyCursor = UUID.randomUUID().toString();
+
+    assertThrows(
+        DomainException.class,
+        () -> commentRepository.searchAll(savedReview.getId(), "ASC", legacyCursor, 10));
+  }
+
+  @Test
+  void countByReviewIdsAndIsDeletedFalse() {
+    commentRepository.save(comment);
+    commentRepository.save(
+        Comment.builder().user(savedUser).review(savedReview).content("second").build());
+    commentRepository.save(
+        Comment.builder()
+            .user(savedUser)
+            .review(savedReview)
+            .content("deleted")
+            .isDeleted(true)
+            .build());
+
+    UUID emptyReviewId = UUID.randomUUID();
+    Map<UUID, Integer> counts =
+        commentRepository.countByReviewIdsAndIsDeletedFalse(
+            List.of(savedReview.getId(), emptyReviewId));
+
+    assertThat(counts).containsEntry(savedReview.getId(), 2);
+    assertThat(counts).doesNotContainKey(emptyReviewId);
+  }
+
+  @Test
+  void countByReviewIdsAndIsDeletedFalse_emptyIds() {
+    assertThat(commentRepository.countByReviewIdsAndIsDeletedFalse(List.of())).isEmpty();
+  }
 }
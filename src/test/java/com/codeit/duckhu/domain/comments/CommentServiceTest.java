@@ -5,8 +5,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,14 +20,14 @@ import com.codeit.duckhu.domain.comment.exception.NoCommentException;
 import com.codeit.duckhu.domain.comment.repository.CommentRepository;
 import com.codeit.duckhu.domain.comment.service.CommentMapper;
 import com.codeit.duckhu.domain.comment.service.CommentService;
-import com.codeit.duckhu.domain.notification.exception.NotificationException;
-import com.codeit.duckhu.domain.notification.service.impl.NotificationServiceImpl;
+import com.codeit.duckhu.domain.notification.event.ReviewCommentedEvent;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
 import com.codeit.duckhu.domain.review.service.impl.ReviewServiceImpl;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.service.UserServiceImpl;
-import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.pagination.CursorKeys;
 import com.codeit.duckhu.global.type.Direction;
 import java.time.Instant;
 import java.util.List;
@@ -38,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -57,10 +58,10 @@ class CommentServiceTest {
 
   @Mock private ReviewServiceImpl reviewService;
 
-  @Mock private NotificationServiceImpl notificationService;
-
   @Mock private CommentMapper commentMapper;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @Mock private User mockUser;
 
   @Mock private Review review;
@@ -77,11 +78,14 @@ class CommentServiceTest {
 
     given(userService.findByIdEntityReturn(any(UUID.class))).willReturn(mockUser);
     given(reviewService.findByIdEntityReturn(any(UUID.class))).willReturn(review);
+    given(review.getUser()).willReturn(mockUser);
     given(commentMapper.toDto(any(Comment.class))).willReturn(dto);
 
     CommentDto commentDto = commentService.create(request);
 
     assertEquals("test comment", commentDto.getContent());
+    verify(reviewService).increaseCommentCount(request.getReviewId());
+    verify(review, never()).increaseCommentCount();
   }
 
   @Test
@@ -179,6 +183,7 @@ class CommentServiceTest {
     commentService.delete(commentId, userId);
 
     verify(commentRepository).deleteById(any(UUID.class));
+    verify(reviewService).decreaseCommentCount(any());
   }
 
   @Test
@@ -258,15 +263,19 @@ class CommentServiceTest {
     List<Comment> comments = List.of(comment);
     Slice<Comment> slice = new SliceImpl<>(comments, PageRequest.of(0, 10), false);
 
-    given(commentRepository.searchAll(eq(reviewId), eq("ASC"), any(), any(), eq(10)))
+    given(commentRepository.searchAll(eq(reviewId), eq("ASC"), any(), eq(10)))
         .willReturn(slice);
     given(commentMapper.toDto(comment)).willReturn(dto);
 
     CursorPageResponseCommentDto responseCommentDto =
-        commentService.getList(reviewId, Direction.ASC, null, Instant.now(), 10);
+        commentService.getList(reviewId, Direction.ASC, null, 10);
 
     assertThat(responseCommentDto.getContent()).hasSize(1);
     assertThat(responseCommentDto.getContent().get(0).getContent()).isEqualTo("test comment");
+    // 다음 커서는 (createdAt, id)를 담은 불투명한 토큰
+    CursorKeys keys = CursorCodec.decode(responseCommentDto.getNextCursor(), 2);
+    assertThat(keys.getInstant(0)).isEqualTo(dto.getCreatedAt());
+    assertThat(keys.getUuid(1)).isEqualTo(dto.getId());
   }
 
   @Test
@@ -279,36 +288,49 @@ class CommentServiceTest {
     List<Comment> comments = List.of(deletedComment);
     Slice<Comment> slice = new SliceImpl<>(comments, PageRequest.of(0, 10), false);
 
-    given(commentRepository.searchAll(eq(reviewId), eq("ASC"), any(), any(), eq(10)))
+    given(commentRepository.searchAll(eq(reviewId), eq("ASC"), any(), eq(10)))
         .willReturn(slice);
 
     CursorPageResponseCommentDto response = commentService.getList(
-        reviewId, Direction.ASC, null, Instant.now(), 10
+        reviewId, Direction.ASC, null, 10
     );
 
     assertThat(response.getContent()).isEmpty();
   }
 
   @Test
-  void create_notificationException() {
+  void create_publishesCommentNotificationEvent() {
     CommentCreateRequest request = new CommentCreateRequest();
     request.setUserId(UUID.randomUUID());
     request.setReviewId(UUID.randomUUID());
     request.setContent("test comment");
 
+    UUID reviewWriterId = UUID.randomUUID();
+    User reviewWriter = mock(User.class);
+
     CommentDto dto = new CommentDto();
     dto.setContent("test comment");
 
     given(userService.findByIdEntityReturn(any())).willReturn(mockUser);
+    given(mockUser.getNickname()).willReturn("commenter");
     given(reviewService.findByIdEntityReturn(any())).willReturn(review);
+    given(review.getUser()).willReturn(reviewWriter);
+    given(review.getContent()).willReturn("review content");
+    given(reviewWriter.getId()).willReturn(reviewWriterId);
     given(commentMapper.toDto(any(Comment.class))).willReturn(dto);
 
-    doThrow(new NotificationException(ErrorCode.INTERNAL_SERVER_ERROR)).when(notificationService)
-        .createNotifyByComment(any(), any(), any());
-
     CommentDto result = commentService.create(request);
 
+    // 알림은 동기로 만들지 않고 이미 조회한 값을 담은 이벤트로 넘긴다
     assertThat(result.getContent()).isEqualTo("test comment");
+    verify(eventPublisher)
+        .publishEvent(
+            new ReviewCommentedEvent(
+                request.getReviewId(),
+                reviewWriterId,
+                "review content",
+                "commenter",
+                "test comment"));
   }
 
   @Test
@@ -326,6 +348,7 @@ class CommentServiceTest {
     commentService.deleteSoft(commentId, userId);
 
     verify(comment).markAsDeleted(true);
+    verify(reviewService, never()).decreaseCommentCount(any());
   }
 
 
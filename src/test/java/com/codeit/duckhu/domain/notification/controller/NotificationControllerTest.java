@@ -1,6 +1,7 @@
 package com.codeit.duckhu.domain.notification.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -92,7 +93,7 @@ public class NotificationControllerTest {
       CursorPageResponseNotificationDto page =
           new CursorPageResponseNotificationDto(
               content, null, null, content.size(), content.size(), false);
-      given(notificationService.getNotifications(eq(userId), eq("DESC"), any(Instant.class), eq(2)))
+      given(notificationService.getNotifications(eq(userId), eq("DESC"), anyString(), eq(2)))
           .willReturn(page);
 
       // when, then
@@ -111,7 +112,7 @@ public class NotificationControllerTest {
 
       then(notificationService)
           .should()
-          .getNotifications(eq(userId), eq("DESC"), any(Instant.class), eq(2));
+          .getNotifications(eq(userId), eq("DESC"), anyString(), eq(2));
     }
 
     @Test
@@ -286,11 +286,14 @@ public class NotificationRepositoryTest {
       List<Notification> page1 =
           notificationRepository.findDescNoCursor(receiverId, page);
       Instant cursor = page1.get(1).getCreatedAt();
+      UUID cursorId = page1.get(1).getId();
 
       List<Notification> page2 =
-          notificationRepository.findDescWithCursor(receiverId, cursor, page);
+          notificationRepository.findDescWithCursor(receiverId, cursor, cursorId, page);
       assertThat(page2)
-          .allMatch(n -> n.getCreatedAt().isBefore(cursor));
+          .allMatch(n -> !n.getCreatedAt().isAfter(cursor))
+          .extracting(Notification::getId)
+          .doesNotContainAnyElementsOf(page1.stream().map(Notification::getId).toList());
     }
 
     @Test
@@ -315,11 +318,14 @@ public class NotificationRepositoryTest {
       List<Notification> page1 =
           notificationRepository.findAscNoCursor(receiverId, page);
       Instant cursor = page1.get(1).getCreatedAt();
+      UUID cursorId = page1.get(1).getId();
 
       List<Notification> page2 =
-          notificationRepository.findAscWithCursor(receiverId, cursor, page);
+          notificationRepository.findAscWithCursor(receiverId, cursor, cursorId, page);
       assertThat(page2)
-          .allMatch(n -> n.getCreatedAt().isAfter(cursor));
+          .allMatch(n -> !n.getCreatedAt().isBefore(cursor))
+          .extracting(Notification::getId)
+          .doesNotContainAnyElementsOf(page1.stream().map(Notification::getId).toList());
     }
   }
 }
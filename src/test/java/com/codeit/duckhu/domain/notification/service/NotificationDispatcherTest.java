@@ -0,0 +1,113 @@
+package com.codeit.duckhu.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.duckhu.domain.notification.entity.Notification;
+import com.codeit.duckhu.domain.notification.event.ReviewCommentedEvent;
+import com.codeit.duckhu.domain.notification.event.ReviewLikedEvent;
+import com.codeit.duckhu.domain.notification.repository.NotificationRepository;
+import com.codeit.duckhu.domain.notification.service.impl.NotificationDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationDispatcherTest {
+
+  private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private NotificationDispatcher dispatcher;
+
+  private NotificationDispatcher createDispatcher(int queueCapacity) {
+    dispatcher =
+        new NotificationDispatcher(
+            notificationRepository,
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            queueCapacity,
+            100);
+    return dispatcher;
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("좋아요/댓글 이벤트로 받은 값만으로 알림을 만들어 일괄 저장한다")
+  @SuppressWarnings("unchecked")
+  void dispatch_savesNotificationsFromEventPayload() {
+    // Given
+    createDispatcher(100);
+    UUID reviewId = UUID.randomUUID();
+    UUID receiverId = UUID.randomUUID();
+
+    // When
+    dispatcher.onReviewLiked(new ReviewLikedEvent(reviewId, receiverId, "리뷰 내용", "좋아요유저"));
+    dispatcher.onReviewCommented(
+        new ReviewCommentedEvent(reviewId, receiverId, "리뷰 내용", "댓글유저", "좋은 리뷰네요"));
+
+    // Then
+    ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+    verify(notificationRepository, timeout(2000).atLeastOnce()).saveAll(captor.capture());
+    List<Notification> saved = captor.getAllValues().stream().flatMap(List::stream).toList();
+    assertThat(saved).hasSize(2);
+    assertThat(saved)
+        .allSatisfy(
+            notification -> {
+              assertThat(notification.getReviewId()).isEqualTo(reviewId);
+              assertThat(notification.getReceiverId()).isEqualTo(receiverId);
+              assertThat(notification.getReviewTitle()).isEqualTo("리뷰 내용");
+            });
+    assertThat(saved)
+        .extracting(Notification::getContent)
+        .containsExactly(
+            "[좋아요유저]님이 나의 리뷰를 좋아합니다.", "[댓글유저]님이 나의 리뷰에 댓글을 남겼습니다.\n좋은 리뷰네요");
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차면 알림을 버리고 dropped 메트릭을 올린다")
+  void dispatch_dropsWhenQueueIsFull() throws InterruptedException {
+    // Given - 저장 스레드가 첫 배치에서 멈춰 있는 상태
+    CountDownLatch saving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(notificationRepository.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              saving.countDown();
+              release.await(2, TimeUnit.SECONDS);
+              return invocation.getArgument(0);
+            });
+    createDispatcher(1);
+    ReviewLikedEvent event =
+        new ReviewLikedEvent(UUID.randomUUID(), UUID.randomUUID(), "리뷰 내용", "좋아요유저");
+
+    dispatcher.onReviewLiked(event);
+    assertThat(saving.await(2, TimeUnit.SECONDS)).isTrue();
+
+    // When - 큐(크기 1)를 채운 뒤 하나 더 넣음
+    dispatcher.onReviewLiked(event);
+    dispatcher.onReviewLiked(event);
+
+    // Then
+    assertThat(meterRegistry.get("notification.dispatch.queue.depth").gauge().value())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("notification.dispatch.dropped").counter().count())
+        .isEqualTo(1.0);
+
+    release.countDown();
+    verify(notificationRepository, timeout(2000).times(2)).saveAll(anyList());
+  }
+}
@@ -17,6 +17,7 @@ import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.review.repository.ReviewRepository;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.PeriodType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -244,7 +245,7 @@ public class NotificationServiceTest {
               .mapToObj(i -> Notification.forLike(reviewId, rid, "u" + i, "c" + i))
               .collect(Collectors.toList());
       String direction = "DESC";
-      Instant cursor = null;
+      String cursor = null;
       int limit = 3;
 
       given(
@@ -284,7 +285,9 @@ public class NotificationServiceTest {
     void getNotificationsAscWithCursor() {
       // given
       Instant base = Instant.now();
-      Instant lastCursor = Instant.now().minusSeconds(10);
+      Instant lastCreatedAt = Instant.now().minusSeconds(10);
+      UUID lastId = UUID.randomUUID();
+      String lastCursor = CursorCodec.encode(lastCreatedAt, lastId);
       String direction = "ASC";
       int limit = 2;
       List<Notification> raw =
@@ -299,7 +302,8 @@ public class NotificationServiceTest {
               .collect(Collectors.toList());
 
       Pageable pageable = PageRequest.of(0, limit + 1, Sort.by(Sort.Direction.ASC, "createdAt"));
-      given(notificationRepository.findAscWithCursor(rid, lastCursor, pageable)).willReturn(raw);
+      given(notificationRepository.findAscWithCursor(rid, lastCreatedAt, lastId, pageable))
+          .willReturn(raw);
       given(notificationRepository.countByReceiverId(rid)).willReturn(5L);
 
       raw.subList(0, limit)
@@ -1,36 +1,43 @@
 package com.codeit.duckhu.domain.review.batch;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.codeit.duckhu.domain.review.dto.PopularReviewActivity;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
 import com.codeit.duckhu.global.type.PeriodType;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 class PopularReviewItemProcessorTest {
 
   private PopularReviewItemProcessor processor;
 
   @Test
-  @DisplayName("리뷰를 인기 리뷰로 변환 성공")
-  void process_shouldConvertReviewToPopularReview() throws Exception {
+  @DisplayName("기간 내 활동 집계를 인기 리뷰로 변환 성공")
+  void process_shouldConvertActivityToPopularReview() throws Exception {
     // Given
-    processor = new PopularReviewItemProcessor(); // 빈 생성자
-    ReflectionTestUtils.setField(processor, "periodParam", "DAILY"); // 필드 주입
+    ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    processor = new PopularReviewItemProcessor(reviewRepository);
 
-    Review review = Review.builder().rating(5).likeCount(10).commentCount(5).build();
+    UUID reviewId = UUID.randomUUID();
+    Review review = Review.builder().rating(5).build();
+    when(reviewRepository.getReferenceById(reviewId)).thenReturn(review);
+    double score = (10 * 0.3) + (5 * 0.7);
 
     // When
-    PopularReview result = processor.process(review);
+    PopularReview result =
+        processor.process(new PopularReviewActivity(reviewId, PeriodType.DAILY, 5.0, 10, 5, score, 3));
 
     // Then
     assertThat(result).isNotNull();
     assertThat(result.getPeriod()).isEqualTo(PeriodType.DAILY);
-    double expectedScore = (10 * 0.3) + (5 * 0.7);
-    assertThat(result.getScore()).isEqualTo(expectedScore);
-    assertThat(result.getRank()).isEqualTo(0);
+    assertThat(result.getScore()).isEqualTo(score);
+    assertThat(result.getRank()).isEqualTo(3);
     assertThat(result.getLikeCount()).isEqualTo(10);
     assertThat(result.getCommentCount()).isEqualTo(5);
     assertThat(result.getReviewRating()).isEqualTo(5.0);
@@ -0,0 +1,273 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.dto.PopularReviewActivity;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class PopularReviewItemReaderTest {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private final Instant now = Instant.now();
+  private User user;
+  private Review recentReview;
+  private Review lastWeekReview;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    // 초기 데이터(data.sql)의 좋아요/댓글은 제외하고 테스트에서 넣은 활동만 집계
+    jdbcTemplate.update("DELETE FROM review_likes");
+    jdbcTemplate.update("DELETE FROM comments");
+    user =
+        userRepository.save(
+            User.builder().email("popular@example.com").nickname("집계").password("pw").build());
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title("집계 도서")
+                .author("작가")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    recentReview = reviewRepository.save(review(book, "최근 활동", 5));
+    lastWeekReview = reviewRepository.save(review(book, "지난주 활동", 3));
+    // 좋아요/댓글 수 컬럼 값은 있지만 기간 내 활동 행이 없는 리뷰
+    reviewRepository.save(
+        Review.builder()
+            .content("활동 없음")
+            .rating(4)
+            .likeCount(100)
+            .commentCount(100)
+            .user(user)
+            .book(book)
+            .build());
+    entityManager.flush();
+
+    like(recentReview, now.minus(Duration.ofHours(1)));
+    comment(recentReview, now.minus(Duration.ofHours(2)));
+    comment(recentReview, now.minus(Duration.ofDays(10)));
+    like(lastWeekReview, now.minus(Duration.ofDays(3)));
+  }
+
+  private Review review(Book book, String content, int rating) {
+    return Review.builder().content(content).rating(rating).user(user).book(book).build();
+  }
+
+  private void like(Review review, Instant createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO review_likes (id, created_at, user_id, review_id) VALUES (?, ?, ?, ?)",
+        UUID.randomUUID(),
+        Timestamp.from(createdAt),
+        user.getId(),
+        review.getId());
+  }
+
+  private void comment(Review review, Instant createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO comments (id, created_at, updated_at, user_id, review_id, content, is_deleted)"
+            + " VALUES (?, ?, ?, ?, ?, ?, FALSE)",
+        UUID.randomUUID(),
+        Timestamp.from(createdAt),
+        Timestamp.from(createdAt),
+        user.getId(),
+        review.getId(),
+        "댓글");
+  }
+
+  private List<PopularReviewActivity> readAll(EnumSet<PeriodType> periods) throws Exception {
+    return readAll(periods, null, null);
+  }
+
+  private List<PopularReviewActivity> readAll(
+      EnumSet<PeriodType> periods, UUID fromReviewId, UUID toReviewId) throws Exception {
+    return readAll(reader(periods, fromReviewId, toReviewId));
+  }
+
+  private PopularReviewItemReader reader(
+      EnumSet<PeriodType> periods, UUID fromReviewId, UUID toReviewId) {
+    // 테스트 트랜잭션에서 넣은 행을 보도록 같은 커넥션을 사용
+    return new PopularReviewItemReader(
+        new TransactionAwareDataSourceProxy(dataSource), periods, now, fromReviewId, toReviewId);
+  }
+
+  private List<PopularReviewActivity> readAll(PopularReviewItemReader reader) throws Exception {
+    reader.afterPropertiesSet();
+    reader.open(new ExecutionContext());
+    try {
+      List<PopularReviewActivity> result = new ArrayList<>();
+      PopularReviewActivity activity;
+      while ((activity = reader.read()) != null) {
+        result.add(activity);
+      }
+      return result;
+    } finally {
+      reader.close();
+    }
+  }
+
+  @Test
+  @DisplayName("DAILY는 하루 안의 좋아요/댓글만 세어 점수를 계산한다")
+  void read_daily_countsOnlyActivityInWindow() throws Exception {
+    // When
+    List<PopularReviewActivity> result = readAll(EnumSet.of(PeriodType.DAILY));
+
+    // Then
+    assertThat(result)
+        .extracting(
+            PopularReviewActivity::reviewId,
+            PopularReviewActivity::likeCount,
+            PopularReviewActivity::commentCount,
+            PopularReviewActivity::reviewRating)
+        .containsExactly(tuple(recentReview.getId(), 1, 1, 5.0));
+    assertThat(result.get(0).score()).isCloseTo(1.0, offset(1e-9));
+  }
+
+  @Test
+  @DisplayName("기간이 길어지면 해당 기간의 활동이 있는 리뷰만 추가로 읽는다")
+  void read_periods_differByWindow() throws Exception {
+    // When
+    List<PopularReviewActivity> weekly = readAll(EnumSet.of(PeriodType.WEEKLY));
+    List<PopularReviewActivity> allTime = readAll(EnumSet.of(PeriodType.ALL_TIME));
+
+    // Then
+    assertThat(weekly)
+        .extracting(PopularReviewActivity::reviewId)
+        .containsExactlyInAnyOrder(recentReview.getId(), lastWeekReview.getId());
+    assertThat(allTime)
+        .filteredOn(activity -> activity.reviewId().equals(recentReview.getId()))
+        .singleElement()
+        .extracting(PopularReviewActivity::commentCount)
+        .isEqualTo(2);
+    assertThat(allTime).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("기간마다 점수 내림차순으로 1위부터 순위를 매겨 순위 순서로 읽는다")
+  void read_assignsRankPerPeriod() throws Exception {
+    // When
+    List<PopularReviewActivity> result =
+        readAll(EnumSet.of(PeriodType.DAILY, PeriodType.WEEKLY));
+
+    // Then
+    assertThat(result)
+        .extracting(
+            PopularReviewActivity::period,
+            PopularReviewActivity::reviewId,
+            PopularReviewActivity::rank)
+        .containsExactly(
+            tuple(PeriodType.DAILY, recentReview.getId(), 1),
+            tuple(PeriodType.WEEKLY, recentReview.getId(), 1),
+            tuple(PeriodType.WEEKLY, lastWeekReview.getId(), 2));
+  }
+
+  @Test
+  @DisplayName("여러 기간을 한 번에 읽으면 기간별로 따로 읽은 결과를 합친 것과 같다")
+  void read_allPeriods_matchesPerPeriodReads() throws Exception {
+    // Given
+    List<PopularReviewActivity> expected = new ArrayList<>();
+    for (PeriodType period : PeriodType.values()) {
+      expected.addAll(readAll(EnumSet.of(period)));
+    }
+
+    // When
+    List<PopularReviewActivity> result = readAll(EnumSet.allOf(PeriodType.class));
+
+    // Then
+    assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(result)
+        .extracting(PopularReviewActivity::period)
+        .containsExactlyInAnyOrder(
+            PeriodType.DAILY,
+            PeriodType.WEEKLY,
+            PeriodType.WEEKLY,
+            PeriodType.MONTHLY,
+            PeriodType.MONTHLY,
+            PeriodType.ALL_TIME,
+            PeriodType.ALL_TIME);
+  }
+
+  @Test
+  @DisplayName("리뷰 ID 범위를 나눠 읽으면 합친 결과가 전체와 같고, 순위는 0으로 읽는다")
+  void read_reviewIdRange_splitsWithoutOverlap() throws Exception {
+    // Given
+    EnumSet<PeriodType> periods = EnumSet.of(PeriodType.WEEKLY);
+    // UUID 정렬 순서는 DB 기준을 따르므로 경계도 DB에서 구함
+    UUID boundary =
+        jdbcTemplate.queryForObject(
+            "SELECT MAX(id) FROM reviews WHERE id IN (?, ?)",
+            UUID.class,
+            recentReview.getId(),
+            lastWeekReview.getId());
+
+    // When
+    List<PopularReviewActivity> lower = readAll(periods, null, boundary);
+    List<PopularReviewActivity> upper = readAll(periods, boundary, null);
+
+    // Then
+    assertThat(lower).hasSize(1);
+    assertThat(upper).hasSize(1);
+    assertThat(List.of(lower.get(0).reviewId(), upper.get(0).reviewId()))
+        .containsExactlyInAnyOrder(recentReview.getId(), lastWeekReview.getId());
+    assertThat(lower.get(0).rank()).isZero();
+    assertThat(upper.get(0).rank()).isZero();
+  }
+
+  @Test
+  @DisplayName("fetch size보다 결과가 많아도 커서를 이어 읽어 같은 결과를 반환한다")
+  void read_smallFetchSize_streamsAllRows() throws Exception {
+    // Given
+    EnumSet<PeriodType> periods = EnumSet.allOf(PeriodType.class);
+    PopularReviewItemReader streaming = reader(periods, null, null);
+    streaming.setFetchSize(1);
+
+    // When
+    List<PopularReviewActivity> result = readAll(streaming);
+
+    // Then
+    assertThat(result).hasSizeGreaterThan(1).isEqualTo(readAll(periods));
+  }
+}
@@ -1,9 +1,12 @@
 package com.codeit.duckhu.domain.review.batch;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.codeit.duckhu.domain.review.entity.PopularReview;
-import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,7 +17,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.batch.item.Chunk;
 
 class PopularReviewItemWriterTest {
-  @Mock private PopularReviewRepository popularReviewRepository;
+  @Mock private RankingSnapshotWriter rankingSnapshotWriter;
 
   @InjectMocks private PopularReviewItemWriter writer;
 
@@ -30,11 +33,13 @@ class PopularReviewItemWriterTest {
     PopularReview popularReview = PopularReview.builder().build();
     List<PopularReview> itemList = List.of(popularReview);
     Chunk<PopularReview> items = new Chunk<>(itemList);
+    writer.setGeneration(11L);
 
     // when
     writer.write(items);
 
     // then
-    verify(popularReviewRepository).saveAll(itemList);
+    verify(rankingSnapshotWriter)
+        .insert(eq(RankingSnapshotTable.POPULAR_REVIEW), eq(11L), eq(itemList), any());
   }
 }
@@ -0,0 +1,163 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class PopularReviewNotifyTaskletTest {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private RankingSnapshotWriter snapshotWriter;
+  private PopularReviewNotifyTasklet tasklet;
+  private User author;
+  private List<Review> reviews;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    snapshotWriter = new RankingSnapshotWriter(jdbcTemplate, 100);
+    tasklet = new PopularReviewNotifyTasklet(jdbcTemplate);
+    tasklet.setPeriodParam(PopularReviewPeriods.ALL);
+    tasklet.setGeneration(2L);
+    tasklet.setPublishedPeriods("DAILY,WEEKLY,MONTHLY,ALL_TIME");
+    tasklet.setNotifyTop(2);
+
+    author =
+        userRepository.save(
+            User.builder().email("notify@example.com").nickname("알림").password("pw").build());
+    reviews =
+        List.of(
+            reviewRepository.save(review("첫째")),
+            reviewRepository.save(review("둘째")),
+            reviewRepository.save(review("셋째")));
+    entityManager.flush();
+  }
+
+  private Review review(String title) {
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title(title)
+                .author("작가")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    return Review.builder().content(title).rating(4).user(author).book(book).build();
+  }
+
+  private void savePopularReview(Review review, String period, int rank, long generation) {
+    snapshotWriter.insert(
+        RankingSnapshotTable.POPULAR_REVIEW,
+        generation,
+        List.of(review),
+        r -> new Object[] {r.getId(), period, 4.0, 1, 1, 1.0, rank});
+  }
+
+  private List<String> notificationContents() {
+    return jdbcTemplate.queryForList(
+        "SELECT content FROM notifications WHERE user_id = ? ORDER BY content",
+        String.class,
+        author.getId());
+  }
+
+  @Test
+  @DisplayName("이번 실행 세대의 기간별 상위 N위 작성자에게만 알림을 저장한다")
+  void execute_notifiesTopReviewsOfGeneration() {
+    // Given - 세대 2의 일간 1~3위, 주간 1위와 이전 세대(1)의 월간 1위
+    savePopularReview(reviews.get(0), "DAILY", 1, 2L);
+    savePopularReview(reviews.get(1), "DAILY", 2, 2L);
+    savePopularReview(reviews.get(2), "DAILY", 3, 2L);
+    savePopularReview(reviews.get(2), "WEEKLY", 1, 2L);
+    savePopularReview(reviews.get(0), "MONTHLY", 1, 1L);
+    StepContribution contribution = mock(StepContribution.class);
+
+    // When
+    tasklet.execute(contribution, null);
+
+    // Then
+    assertThat(notificationContents())
+        .containsExactly(
+            "나의 리뷰가 일간 인기 리뷰 1위에 선정되었습니다.",
+            "나의 리뷰가 일간 인기 리뷰 2위에 선정되었습니다.",
+            "나의 리뷰가 주간 인기 리뷰 1위에 선정되었습니다.");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT review_title FROM notifications WHERE review_id = ? AND content LIKE '%주간%'",
+                String.class,
+                reviews.get(2).getId()))
+        .isEqualTo("셋째");
+    verify(contribution).incrementWriteCount(3);
+  }
+
+  @Test
+  @DisplayName("같은 세대로 다시 실행하면 이미 보낸 알림은 건너뛴다")
+  void execute_rerun_skipsDuplicates() {
+    // Given
+    savePopularReview(reviews.get(0), "DAILY", 1, 2L);
+    savePopularReview(reviews.get(1), "DAILY", 2, 2L);
+    tasklet.execute(mock(StepContribution.class), null);
+    StepContribution rerun = mock(StepContribution.class);
+
+    // When
+    tasklet.execute(rerun, null);
+
+    // Then
+    assertThat(notificationContents()).hasSize(2);
+    verify(rerun).incrementWriteCount(0);
+    verify(rerun).incrementFilterCount(2);
+  }
+
+  @Test
+  @DisplayName("이번 세대가 공개되지 않은 기간에는 알림을 보내지 않는다")
+  void execute_skipsPeriodsNotPublished() {
+    // Given - 주간은 더 새로운 세대가 이미 공개돼 이번 세대로 바뀌지 않음
+    savePopularReview(reviews.get(0), "DAILY", 1, 2L);
+    savePopularReview(reviews.get(1), "WEEKLY", 1, 2L);
+    tasklet.setPublishedPeriods("DAILY");
+    StepContribution contribution = mock(StepContribution.class);
+
+    // When
+    tasklet.execute(contribution, null);
+
+    // Then
+    assertThat(notificationContents()).containsExactly("나의 리뷰가 일간 인기 리뷰 1위에 선정되었습니다.");
+    verify(contribution).incrementWriteCount(1);
+  }
+}
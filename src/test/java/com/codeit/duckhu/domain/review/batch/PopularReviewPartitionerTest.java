@@ -0,0 +1,128 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class PopularReviewPartitionerTest {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private PopularReviewPartitioner partitioner;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    partitioner = new PopularReviewPartitioner(jdbcTemplate);
+    // 초기 데이터(data.sql)의 리뷰는 제외하고 테스트에서 만든 리뷰만으로 구간을 나눔
+    jdbcTemplate.update("DELETE FROM review_likes");
+    jdbcTemplate.update("DELETE FROM comments");
+    jdbcTemplate.update("DELETE FROM reviews");
+  }
+
+  private void saveReviews(int count) {
+    User user =
+        userRepository.save(
+            User.builder().email("partition@example.com").nickname("분할").password("pw").build());
+    for (int i = 0; i < count; i++) {
+      Book book =
+          bookRepository.save(
+              Book.builder()
+                  .title("도서 " + i)
+                  .author("작가")
+                  .publisher("출판사")
+                  .publishedDate(LocalDate.of(2024, 1, 1))
+                  .isDeleted(false)
+                  .build());
+      reviewRepository.save(
+          Review.builder().content("리뷰 " + i).rating(4).user(user).book(book).build());
+    }
+    entityManager.flush();
+  }
+
+  private int countInRange(ExecutionContext context) {
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM reviews WHERE 1 = 1");
+    List<Object> args = new ArrayList<>();
+    if (context.containsKey(PopularReviewPartitioner.FROM_REVIEW_ID)) {
+      sql.append(" AND id >= ?");
+      args.add(UUID.fromString(context.getString(PopularReviewPartitioner.FROM_REVIEW_ID)));
+    }
+    if (context.containsKey(PopularReviewPartitioner.TO_REVIEW_ID)) {
+      sql.append(" AND id < ?");
+      args.add(UUID.fromString(context.getString(PopularReviewPartitioner.TO_REVIEW_ID)));
+    }
+    return jdbcTemplate.queryForObject(sql.toString(), Integer.class, args.toArray());
+  }
+
+  @Test
+  @DisplayName("리뷰 수가 비슷한 구간으로 나누고, 구간을 합치면 모든 리뷰를 한 번씩 덮는다")
+  void partition_coversAllReviewsWithoutOverlap() {
+    // Given
+    saveReviews(7);
+
+    // When
+    Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+    // Then
+    assertThat(partitions).hasSize(3);
+    assertThat(partitions.get("partition0").containsKey(PopularReviewPartitioner.FROM_REVIEW_ID))
+        .isFalse();
+    assertThat(partitions.get("partition2").containsKey(PopularReviewPartitioner.TO_REVIEW_ID))
+        .isFalse();
+    assertThat(partitions.get("partition1").getString(PopularReviewPartitioner.FROM_REVIEW_ID))
+        .isEqualTo(partitions.get("partition0").getString(PopularReviewPartitioner.TO_REVIEW_ID));
+    assertThat(partitions.values().stream().mapToInt(this::countInRange))
+        .containsExactlyInAnyOrder(3, 2, 2);
+    assertThat(partitions.values())
+        .extracting(context -> context.getLong(PopularReviewPartitioner.NOW))
+        .containsOnly(partitions.get("partition0").getLong(PopularReviewPartitioner.NOW));
+  }
+
+  @Test
+  @DisplayName("리뷰가 없으면 범위 없는 파티션 하나만 만든다")
+  void partition_withoutReviews_returnsSinglePartition() {
+    // When
+    Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+    // Then
+    assertThat(partitions).containsOnlyKeys("partition0");
+    assertThat(partitions.get("partition0").containsKey(PopularReviewPartitioner.FROM_REVIEW_ID))
+        .isFalse();
+    assertThat(partitions.get("partition0").containsKey(PopularReviewPartitioner.TO_REVIEW_ID))
+        .isFalse();
+  }
+}
@@ -0,0 +1,81 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.type.PeriodType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+class PopularReviewPublishTaskletTest {
+
+  private final RankingGenerationStore rankingGenerationStore = mock(RankingGenerationStore.class);
+  private PopularReviewPublishTasklet tasklet;
+  private StepExecution stepExecution;
+  private ChunkContext chunkContext;
+
+  @BeforeEach
+  void setUp() {
+    tasklet = new PopularReviewPublishTasklet(rankingGenerationStore);
+    tasklet.setPeriodParam(PopularReviewPeriods.ALL);
+    tasklet.setGeneration(5L);
+    stepExecution = MetaDataInstanceFactory.createStepExecution();
+    chunkContext = new ChunkContext(new StepContext(stepExecution));
+  }
+
+  private String publishedPeriods() {
+    return stepExecution
+        .getJobExecution()
+        .getExecutionContext()
+        .getString(PopularReviewPublishTasklet.PUBLISHED_PERIODS);
+  }
+
+  @Test
+  @DisplayName("포인터를 바꾼 기간과 이미 이번 세대인 기간만 공개된 기간으로 남긴다")
+  void execute_recordsPublishedPeriods() {
+    // Given - 일간은 새로 공개, 주간은 이전 실행에서 이미 공개, 월간/역대는 더 새로운 세대가 공개돼 있음
+    when(rankingGenerationStore.publish(any(), any(), anyLong())).thenReturn(false);
+    when(rankingGenerationStore.publish(RankingSnapshotTable.POPULAR_REVIEW, PeriodType.DAILY, 5L))
+        .thenReturn(true);
+    when(rankingGenerationStore.isCurrent(
+            RankingSnapshotTable.POPULAR_REVIEW, PeriodType.WEEKLY, 5L))
+        .thenReturn(true);
+
+    // When
+    tasklet.execute(mock(StepContribution.class), chunkContext);
+
+    // Then
+    assertThat(publishedPeriods()).isEqualTo("DAILY,WEEKLY");
+    assertThat(PopularReviewPeriods.split(publishedPeriods()))
+        .containsExactly(PeriodType.DAILY, PeriodType.WEEKLY);
+  }
+
+  @Test
+  @DisplayName("공개된 기간이 하나도 없으면 Step을 실패시킨다")
+  void execute_nothingPublished_fails() {
+    // Given
+    when(rankingGenerationStore.publish(any(), any(), anyLong())).thenReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> tasklet.execute(mock(StepContribution.class), chunkContext))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(
+            stepExecution
+                .getJobExecution()
+                .getExecutionContext()
+                .containsKey(PopularReviewPublishTasklet.PUBLISHED_PERIODS))
+        .isFalse();
+  }
+}
@@ -0,0 +1,123 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class PopularReviewRankTaskletTest {
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private RankingSnapshotWriter snapshotWriter;
+  private PopularReviewRankTasklet tasklet;
+  private List<Review> reviews;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    snapshotWriter = new RankingSnapshotWriter(jdbcTemplate, 100);
+    tasklet = new PopularReviewRankTasklet(jdbcTemplate);
+
+    User user =
+        userRepository.save(
+            User.builder().email("rank@example.com").nickname("순위").password("pw").build());
+    reviews =
+        List.of(
+            reviewRepository.save(review(user, "첫째")),
+            reviewRepository.save(review(user, "둘째")),
+            reviewRepository.save(review(user, "셋째")));
+    entityManager.flush();
+  }
+
+  private Review review(User user, String title) {
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title(title)
+                .author("작가")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    return Review.builder().content(title).rating(4).user(user).book(book).build();
+  }
+
+  private void savePopularReview(
+      Review review, String period, double score, int rank, long generation) {
+    snapshotWriter.insert(
+        RankingSnapshotTable.POPULAR_REVIEW,
+        generation,
+        List.of(review),
+        r -> new Object[] {r.getId(), period, 4.0, 1, 1, score, rank});
+  }
+
+  private Integer rankOf(Review review, String period) {
+    return jdbcTemplate.queryForObject(
+        "SELECT rank FROM popular_reviews WHERE review_id = ? AND period = ?",
+        Integer.class,
+        review.getId(),
+        period);
+  }
+
+  @Test
+  @DisplayName("이번 실행 세대의 행만 기간별 점수 내림차순으로 순위를 매긴다")
+  void execute_ranksCurrentGenerationPerPeriod() {
+    // Given - 이번 실행(세대 2)에서 파티션들이 저장한 행과 이전 실행(세대 1)의 행
+    savePopularReview(reviews.get(0), "DAILY", 1.0, 0, 2L);
+    savePopularReview(reviews.get(1), "DAILY", 3.0, 0, 2L);
+    savePopularReview(reviews.get(2), "DAILY", 2.0, 0, 2L);
+    savePopularReview(reviews.get(0), "WEEKLY", 5.0, 0, 2L);
+    savePopularReview(reviews.get(1), "MONTHLY", 9.0, 7, 1L);
+    tasklet.setPeriodParam(PopularReviewPeriods.ALL);
+    tasklet.setGeneration(2L);
+    StepContribution contribution = mock(StepContribution.class);
+
+    // When
+    RepeatStatus status = tasklet.execute(contribution, null);
+
+    // Then
+    assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    assertThat(rankOf(reviews.get(1), "DAILY")).isEqualTo(1);
+    assertThat(rankOf(reviews.get(2), "DAILY")).isEqualTo(2);
+    assertThat(rankOf(reviews.get(0), "DAILY")).isEqualTo(3);
+    assertThat(rankOf(reviews.get(0), "WEEKLY")).isEqualTo(1);
+    assertThat(rankOf(reviews.get(1), "MONTHLY")).isEqualTo(7);
+    verify(contribution).incrementWriteCount(4);
+  }
+}
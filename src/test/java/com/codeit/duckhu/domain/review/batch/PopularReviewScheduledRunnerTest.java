@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class PopularReviewScheduledRunnerTest {
@@ -54,4 +55,20 @@ class PopularReviewScheduledRunnerTest {
     verify(jobLauncher, times(PeriodType.values().length))
         .run(eq(popularReviewJob), any(JobParameters.class));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("단일 패스 모드에서는 모든 기간을 한 번의 배치 작업으로 실행한다")
+  void runPopularReviewJobForAllPeriods_singlePass_runsOnce() throws Exception {
+    // Given
+    ReflectionTestUtils.setField(scheduledRunner, "singlePass", true);
+
+    // When
+    scheduledRunner.runPopularReviewJobForAllPeriods();
+
+    // Then
+    verify(jobLauncher, times(1))
+        .run(
+            eq(popularReviewJob),
+            argThat(params -> PopularReviewPeriods.ALL.equals(params.getString("period"))));
+  }
+}
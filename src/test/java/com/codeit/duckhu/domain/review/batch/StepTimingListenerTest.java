@@ -0,0 +1,136 @@
+package com.codeit.duckhu.domain.review.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+class StepTimingListenerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private StepTimingListener listener;
+  private StepExecution stepExecution;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new StepTimingListener(meterRegistry);
+    JobExecution jobExecution =
+        MetaDataInstanceFactory.createJobExecution(
+            "popularReviewJob",
+            1L,
+            1L,
+            new JobParametersBuilder().addString("period", "ALL").toJobParameters());
+    stepExecution = new StepExecution("popularReviewStep:partition3", jobExecution, 2L);
+  }
+
+  @Test
+  @DisplayName("Step이 끝나면 step, partition 태그로 소요 시간, 처리 건수, 처리량을 기록한다")
+  void afterStep_recordsStepMetrics() {
+    // Given
+    stepExecution.setStartTime(LocalDateTime.now().minusSeconds(2));
+    stepExecution.setReadCount(100);
+    stepExecution.setWriteCount(90);
+    stepExecution.setFilterCount(10);
+    stepExecution.setExitStatus(ExitStatus.COMPLETED);
+
+    // When
+    ExitStatus exitStatus = listener.afterStep(stepExecution);
+
+    // Then
+    assertThat(exitStatus).isEqualTo(ExitStatus.COMPLETED);
+    assertThat(
+            meterRegistry
+                .get(StepTimingListener.STEP_DURATION)
+                .tags("job", "popularReviewJob", "step", "popularReviewStep", "period", "ALL")
+                .tag("partition", "partition3")
+                .tag("status", "COMPLETED")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry.get(StepTimingListener.STEP_ITEMS).tag("type", "read").counter().count())
+        .isEqualTo(100);
+    assertThat(
+            meterRegistry
+                .get(StepTimingListener.STEP_ITEMS)
+                .tag("type", "filter")
+                .counter()
+                .count())
+        .isEqualTo(10);
+    assertThat(meterRegistry.get(StepTimingListener.STEP_THROUGHPUT).summary().max())
+        .isGreaterThan(0);
+  }
+
+  @Test
+  @DisplayName("파티션이 없는 Step은 partition 태그를 NONE으로 기록한다")
+  void afterStep_withoutPartition_tagsNone() {
+    // Given
+    StepExecution single =
+        new StepExecution("popularReviewStep", stepExecution.getJobExecution(), 3L);
+    single.setStartTime(LocalDateTime.now().minusSeconds(1));
+    single.setExitStatus(ExitStatus.COMPLETED);
+
+    // When
+    listener.afterStep(single);
+
+    // Then
+    assertThat(
+            meterRegistry
+                .get(StepTimingListener.STEP_DURATION)
+                .tags("step", "popularReviewStep", "partition", "NONE")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("실패한 Step의 종료 상태를 덮어쓰지 않는다")
+  void afterStep_keepsFailedExitStatus() {
+    // Given
+    stepExecution.setExitStatus(ExitStatus.FAILED);
+
+    // When & Then
+    assertThat(listener.afterStep(stepExecution)).isEqualTo(ExitStatus.FAILED);
+  }
+
+  @Test
+  @DisplayName("chunk마다 처리 시간을 상태별로 기록한다")
+  void chunk_recordsLatency() {
+    // Given
+    ChunkContext completed = new ChunkContext(new StepContext(stepExecution));
+    ChunkContext failed = new ChunkContext(new StepContext(stepExecution));
+
+    // When
+    listener.beforeChunk(completed);
+    listener.afterChunk(completed);
+    listener.beforeChunk(failed);
+    listener.afterChunkError(failed);
+
+    // Then
+    assertThat(
+            meterRegistry
+                .get(StepTimingListener.CHUNK_DURATION)
+                .tags("partition", "partition3", "status", "COMPLETED")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(StepTimingListener.CHUNK_DURATION)
+                .tag("status", "FAILED")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+}
@@ -13,12 +13,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.codeit.duckhu.domain.review.dto.CursorPageResponsePopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponseReviewDto;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse;
 import com.codeit.duckhu.domain.review.dto.PopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewLikeDto;
 import com.codeit.duckhu.domain.review.dto.ReviewUpdateRequest;
 import com.codeit.duckhu.domain.review.service.ReviewService;
+import com.codeit.duckhu.domain.review.service.impl.ReviewBulkImportService;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.global.exception.DomainException;
 import com.codeit.duckhu.global.exception.ErrorCode;
@@ -55,6 +57,8 @@ class ReviewControllerTest {
 
   @Mock private ReviewService reviewService;
 
+  @Mock private ReviewBulkImportService reviewBulkImportService;
+
   @Mock private User mockUser;
 
   private ReviewController reviewController;
@@ -70,7 +74,7 @@ class ReviewControllerTest {
   @BeforeEach
   void setUp() {
     // 실제 컨트롤러 생성
-    reviewController = new ReviewController(reviewService);
+    reviewController = new ReviewController(reviewService, reviewBulkImportService);
 
     // MockMvc 설정 - GlobalExceptionHandler 추가
     mockMvc =
@@ -131,6 +135,35 @@ class ReviewControllerTest {
     };
   }
 
+  @Test
+  @DisplayName("리뷰 일괄 등록 - NDJSON 본문을 서비스에 스트림으로 전달")
+  void importReviews_Success() throws Exception {
+    // Given
+    ReviewBulkImportResponse response =
+        ReviewBulkImportResponse.builder()
+            .total(2)
+            .succeeded(2)
+            .failed(0)
+            .errors(List.of())
+            .build();
+    when(reviewBulkImportService.importReviews(any())).thenReturn(response);
+    String body =
+        objectMapper.writeValueAsString(createRequest)
+            + "\n"
+            + objectMapper.writeValueAsString(createRequest);
+
+    // When & Then
+    mockMvc
+        .perform(
+            post("/api/reviews/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.succeeded").value(2))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(0));
+  }
+
   @Test
   @DisplayName("리뷰 목록 조회 - 커서 페이지네이션")
   void findReviews_Success() throws Exception {
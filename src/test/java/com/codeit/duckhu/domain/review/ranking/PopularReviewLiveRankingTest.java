@@ -0,0 +1,132 @@
+package com.codeit.duckhu.domain.review.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeit.duckhu.domain.review.event.ReviewActivityEvent;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows.Ranked;
+import com.codeit.duckhu.global.type.Direction;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class PopularReviewLiveRankingTest {
+
+  private final UUID stored = new UUID(0, 1);
+  private final UUID arrived = new UUID(0, 2);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private PopularReviewLiveRanking ranking;
+
+  @BeforeEach
+  void setUp() {
+    ranking = new PopularReviewLiveRanking(jdbcTemplate, true, 10);
+  }
+
+  private List<Ranked> ranked(PeriodType period) {
+    return ranking.page(period, Direction.ASC, null, 10).content();
+  }
+
+  private List<UUID> daily() {
+    return ranking.page(PeriodType.DAILY, Direction.ASC, null, 10).content().stream()
+        .map(Ranked::reviewId)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("재구성 중에는 기존 랭킹으로 조회하고, 그 사이 들어온 이벤트는 새 랭킹에 다시 반영한다")
+  void rebuild_replaysEventsArrivedDuringScan() throws Exception {
+    // Given - 재구성 전에 반영된 좋아요, DB에는 stored의 좋아요 한 건
+    ranking.rebuild();
+    ranking.onReviewActivity(ReviewActivityEvent.liked(stored, Instant.now()));
+
+    ResultSet row = mock(ResultSet.class);
+    when(row.getObject("review_id", UUID.class)).thenReturn(stored);
+    when(row.getInt("likes")).thenReturn(1);
+    when(row.getTimestamp("created_at")).thenReturn(Timestamp.from(Instant.now()));
+
+    List<List<UUID>> duringScan = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              // 스캔 도중 조회와 이벤트 반영이 기존 랭킹으로 처리됨
+              duringScan.add(daily());
+              ranking.onReviewActivity(ReviewActivityEvent.commented(arrived, Instant.now()));
+              duringScan.add(daily());
+              invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(
+            eq(PopularReviewLiveRanking.WINDOW_SQL),
+            any(RowCallbackHandler.class),
+            any(),
+            any(),
+            any(),
+            any());
+
+    // When
+    ranking.rebuild();
+
+    // Then - 스캔 중 이벤트는 바로 보였고, 새 랭킹에도 남음
+    assertThat(duringScan.get(0)).containsExactly(stored);
+    assertThat(duringScan.get(1)).containsExactly(arrived, stored);
+    assertThat(daily()).containsExactly(arrived, stored);
+    assertThat(ranking.isServing()).isTrue();
+  }
+
+  @Test
+  @DisplayName("재구성 쿼리가 읽은 활동의 이벤트가 재구성 중에 도착해도 새 랭킹에는 한 번만 센다")
+  void rebuild_countsActivityReadByQueryOnce() throws Exception {
+    // Given - 재구성 전에 일어난 좋아요(stored)는 쿼리로 읽히고 그 이벤트는 스캔 도중 도착, arrived는 재구성 시작 후 좋아요
+    ranking.rebuild();
+    Instant likedAt = Instant.now().minusSeconds(1);
+
+    ResultSet row = mock(ResultSet.class);
+    when(row.getObject("review_id", UUID.class)).thenReturn(stored);
+    when(row.getInt("likes")).thenReturn(1);
+    when(row.getTimestamp("created_at")).thenReturn(Timestamp.from(likedAt));
+
+    List<Timestamp> cutoffs = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              cutoffs.add(invocation.getArgument(3));
+              ranking.onReviewActivity(ReviewActivityEvent.liked(stored, likedAt));
+              ranking.onReviewActivity(ReviewActivityEvent.liked(arrived, Instant.now()));
+              invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(
+            eq(PopularReviewLiveRanking.WINDOW_SQL),
+            any(RowCallbackHandler.class),
+            any(),
+            any(),
+            any(),
+            any());
+
+    // When
+    ranking.rebuild();
+
+    // Then - 쿼리는 기준 시각 전 활동만 읽고, 기준 시각 전 이벤트는 다시 반영하지 않음
+    assertThat(cutoffs.get(0).toInstant()).isAfter(likedAt);
+    for (PeriodType period : List.of(PeriodType.DAILY, PeriodType.ALL_TIME)) {
+      assertThat(ranked(period))
+          .extracting(Ranked::reviewId, Ranked::likeCount)
+          .containsExactlyInAnyOrder(tuple(stored, 1), tuple(arrived, 1));
+    }
+  }
+}
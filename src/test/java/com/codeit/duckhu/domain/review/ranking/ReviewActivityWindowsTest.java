@@ -0,0 +1,150 @@
+package com.codeit.duckhu.domain.review.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows.Page;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows.Ranked;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReviewActivityWindowsTest {
+
+  private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+  private final UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private final UUID third = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+  private ReviewActivityWindows windows;
+
+  @BeforeEach
+  void setUp() {
+    windows = new ReviewActivityWindows(Duration.ofHours(1));
+  }
+
+  private List<UUID> ranking(PeriodType period, Instant now) {
+    return windows.page(period, null, false, 100, now).content().stream()
+        .map(Ranked::reviewId)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("점수 내림차순, 같으면 리뷰 ID 오름차순으로 순위를 매긴다")
+  void page_ordersByScoreThenReviewId() {
+    // Given - 댓글(0.7)이 좋아요(0.3)보다 무겁고, second와 third는 동점
+    windows.record(first, 1, 0, NOW, NOW);
+    windows.record(third, 0, 1, NOW, NOW);
+    windows.record(second, 0, 1, NOW, NOW);
+
+    // When
+    Page page = windows.page(PeriodType.DAILY, null, false, 10, NOW);
+
+    // Then
+    assertThat(page.content()).extracting(Ranked::reviewId).containsExactly(second, third, first);
+    assertThat(page.content()).extracting(Ranked::rank).containsExactly(1, 2, 3);
+    assertThat(page.content().get(0).score()).isEqualTo(0.7);
+    assertThat(page.totalElements()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("기간 밖으로 밀려난 버킷의 활동은 해당 기간에서만 빠진다")
+  void record_expiresBucketsPerPeriod() {
+    // Given
+    windows.record(first, 1, 0, NOW, NOW);
+
+    // When - 이틀 뒤
+    Instant later = NOW.plus(Duration.ofDays(2));
+
+    // Then
+    assertThat(ranking(PeriodType.DAILY, later)).isEmpty();
+    assertThat(ranking(PeriodType.WEEKLY, later)).containsExactly(first);
+    assertThat(ranking(PeriodType.ALL_TIME, later)).containsExactly(first);
+    assertThat(ranking(PeriodType.MONTHLY, NOW.plus(Duration.ofDays(31)))).isEmpty();
+    assertThat(ranking(PeriodType.ALL_TIME, NOW.plus(Duration.ofDays(400))))
+        .containsExactly(first);
+  }
+
+  @Test
+  @DisplayName("좋아요 취소는 좋아요를 누른 시각이 아직 포함된 기간에서만 빠진다")
+  void record_unlikeUsesOriginalTime() {
+    // Given - 사흘 전 좋아요 두 개
+    Instant likedAt = NOW.minus(Duration.ofDays(3));
+    windows.record(first, 1, 0, likedAt, NOW);
+    windows.record(first, 1, 0, likedAt, NOW);
+
+    // When
+    windows.record(first, -1, 0, likedAt, NOW);
+
+    // Then
+    assertThat(ranking(PeriodType.DAILY, NOW)).isEmpty();
+    assertThat(windows.page(PeriodType.WEEKLY, null, false, 10, NOW).content())
+        .extracting(Ranked::likeCount)
+        .containsExactly(1);
+
+    // 남은 좋아요도 한 주가 지나면 빠지고, 취소한 만큼 두 번 빠지지 않음
+    assertThat(ranking(PeriodType.WEEKLY, NOW.plus(Duration.ofDays(5)))).isEmpty();
+    assertThat(windows.page(PeriodType.ALL_TIME, null, false, 10, NOW).content())
+        .extracting(Ranked::likeCount)
+        .containsExactly(1);
+  }
+
+  @Test
+  @DisplayName("월간 기간보다 오래된 활동은 역대 랭킹에만 반영된다")
+  void record_olderThanRing_appliesAllTimeOnly() {
+    // When
+    windows.record(first, 0, 1, NOW.minus(Duration.ofDays(60)), NOW);
+    windows.recordAllTime(second, 3, 0);
+
+    // Then
+    assertThat(ranking(PeriodType.MONTHLY, NOW)).isEmpty();
+    assertThat(ranking(PeriodType.ALL_TIME, NOW)).containsExactly(second, first);
+  }
+
+  @Test
+  @DisplayName("삭제된 리뷰는 모든 기간에서 빠지고 이후 만료에도 다시 나타나지 않는다")
+  void remove_dropsReviewFromAllPeriods() {
+    // Given
+    windows.record(first, 1, 1, NOW, NOW);
+    windows.record(second, 1, 0, NOW, NOW);
+
+    // When
+    windows.remove(first);
+
+    // Then
+    assertThat(ranking(PeriodType.DAILY, NOW)).containsExactly(second);
+    assertThat(ranking(PeriodType.ALL_TIME, NOW)).containsExactly(second);
+    assertThat(ranking(PeriodType.DAILY, NOW.plus(Duration.ofDays(2)))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("이전 페이지 마지막 항목 다음부터 순위를 이어서 반환한다")
+  void page_continuesFromCursor() {
+    // Given
+    windows.record(first, 3, 0, NOW, NOW);
+    windows.record(second, 2, 0, NOW, NOW);
+    windows.record(third, 1, 0, NOW, NOW);
+    Ranked last = windows.page(PeriodType.DAILY, null, false, 1, NOW).content().get(0);
+
+    // When
+    Page ascending =
+        windows.page(
+            PeriodType.DAILY,
+            Ranked.cursor(last.rank(), last.score(), last.reviewId()),
+            false,
+            10,
+            NOW);
+    Page descending = windows.page(PeriodType.DAILY, null, true, 2, NOW);
+
+    // Then
+    assertThat(ascending.content()).extracting(Ranked::reviewId).containsExactly(second, third);
+    assertThat(ascending.content()).extracting(Ranked::rank).containsExactly(2, 3);
+    assertThat(descending.content()).extracting(Ranked::reviewId).containsExactly(third, second);
+    assertThat(descending.content()).extracting(Ranked::rank).containsExactly(3, 2);
+  }
+}
@@ -0,0 +1,128 @@
+package com.codeit.duckhu.domain.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/** 좋아요 토글 쿼리 테스트 - ON CONFLICT DO NOTHING을 쓰므로 H2를 PostgreSQL 호환 모드로 실행 */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(
+    properties = "spring.datasource.url=jdbc:h2:mem:review-likes;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+class LikedUserIdRepositoryTest {
+
+  @Autowired private LikedUserIdRepository likedUserIdRepository;
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private Review review;
+  private UUID likerId;
+
+  @BeforeEach
+  void setUp() {
+    User writer =
+        userRepository.save(
+            User.builder().email("likes-writer@example.com").nickname("작성자").password("pw").build());
+    User liker =
+        userRepository.save(
+            User.builder().email("likes-liker@example.com").nickname("좋아요").password("pw").build());
+    Book book =
+        bookRepository.save(
+            Book.builder()
+                .title("좋아요 테스트 도서")
+                .author("테스트 작가")
+                .publisher("테스트 출판사")
+                .isbn("9788956609994")
+                .publishedDate(LocalDate.now())
+                .isDeleted(false)
+                .build());
+    review =
+        reviewRepository.save(
+            Review.builder().content("좋아요 테스트 리뷰").rating(5).user(writer).book(book).build());
+    likerId = liker.getId();
+    entityManager.flush();
+  }
+
+  private int likeCountOf(UUID reviewId) {
+    entityManager.clear();
+    return reviewRepository.findById(reviewId).orElseThrow().getLikeCount();
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 좋아요를 두 번 추가해도 한 행만 생기고 두 번째는 0을 반환")
+  void insertIfAbsent_isIdempotent() {
+    // When
+    int first =
+        likedUserIdRepository.insertIfAbsent(
+            UUID.randomUUID(), Instant.now(), review.getId(), likerId);
+    int second =
+        likedUserIdRepository.insertIfAbsent(
+            UUID.randomUUID(), Instant.now(), review.getId(), likerId);
+
+    // Then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(likedUserIdRepository.findLikedReviewIds(likerId, List.of(review.getId())))
+        .containsExactly(review.getId());
+  }
+
+  @Test
+  @DisplayName("좋아요 삭제는 실제로 지운 행 수를 반환")
+  void deleteByReviewIdAndUserId_returnsAffectedRows() {
+    // Given
+    likedUserIdRepository.insertIfAbsent(
+        UUID.randomUUID(), Instant.now(), review.getId(), likerId);
+
+    // When
+    int first = likedUserIdRepository.deleteByReviewIdAndUserId(review.getId(), likerId);
+    int second = likedUserIdRepository.deleteByReviewIdAndUserId(review.getId(), likerId);
+
+    // Then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(likedUserIdRepository.findLikedReviewIds(likerId, List.of(review.getId())))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("like_count는 UPDATE로 조정되고 0 미만으로 내려가지 않음")
+  void likeCount_isAdjustedAtomically() {
+    // When
+    reviewRepository.incrementLikeCount(review.getId());
+    reviewRepository.incrementLikeCount(review.getId());
+    reviewRepository.decrementLikeCount(review.getId());
+
+    // Then
+    assertThat(likeCountOf(review.getId())).isEqualTo(1);
+
+    reviewRepository.decrementLikeCount(review.getId());
+    assertThat(reviewRepository.decrementLikeCount(review.getId())).isZero();
+    assertThat(likeCountOf(review.getId())).isZero();
+  }
+}
@@ -1,6 +1,7 @@
 package com.codeit.duckhu.domain.review.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
@@ -9,13 +10,16 @@ import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.domain.review.entity.Review;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +42,7 @@ public class PopularReviewRepositoryTest {
   @Autowired private ReviewRepository reviewRepository;
   @Autowired private BookRepository bookRepository;
   @Autowired private UserRepository userRepository;
+  @Autowired private DataSource dataSource;
   
   private User testUser;
   private Book testBook;
@@ -153,7 +159,7 @@ public class PopularReviewRepositoryTest {
 
       // When
       List<PopularReview> result = popularReviewRepository.findReviewsWithCursor(
-          PeriodType.DAILY, Direction.ASC, null, null, 10);
+          PeriodType.DAILY, Direction.ASC, null, 10);
 
       // Then
       assertThat(result).hasSize(2);
@@ -164,11 +170,7 @@ public class PopularReviewRepositoryTest {
     @Test
     @DisplayName("기간별 인기 리뷰 수 확인")
     void countByPeriod_success() {
-      // Given
-      Instant now = Instant.now();
-      Instant from = now.minusSeconds(86400); // 하루 전
-      
-      // 영속화된 리뷰를 다시 조회
+      // Given - 영속화된 리뷰를 다시 조회
       Review persistedReview1 = reviewRepository.findById(testReview1.getId()).orElseThrow();
       
       // WEEKLY 기간 설정
@@ -186,7 +188,7 @@ public class PopularReviewRepositoryTest {
       popularReviewRepository.flush();
 
       // When
-      long count = popularReviewRepository.countByPeriodSince(PeriodType.WEEKLY, from);
+      long count = popularReviewRepository.countCurrentByPeriod(PeriodType.WEEKLY);
 
       // Then
       assertThat(count).isEqualTo(1);
@@ -228,7 +230,6 @@ public class PopularReviewRepositoryTest {
           PeriodType.DAILY,
           Direction.DESC,
           null,
-          null,
           10
       );
 
@@ -241,8 +242,8 @@ public class PopularReviewRepositoryTest {
     }
 
     @Test
-    @DisplayName("cursor만 있고 after는 null인 경우")
-    void findPopularReviewWithCursorOnly() {
+    @DisplayName("순위만 담긴 이전 형식의 커서는 거부된다")
+    void findPopularReviewWithLegacyCursor() {
       // Given
       // 영속화된 리뷰를 다시 조회
       Review persistedReview1 = reviewRepository.findById(testReview1.getId()).orElseThrow();
@@ -271,23 +272,14 @@ public class PopularReviewRepositoryTest {
       popularReviewRepository.saveAll(List.of(popularReview1, popularReview2));
       popularReviewRepository.flush();
       
-      // When - cursor "1" only, no after
-      List<PopularReview> result =
-          popularReviewRepository.findReviewsWithCursor(
-              PeriodType.DAILY,
-              Direction.ASC,
-              "1",     // cursor만 존재
-              null,    // after 없음
-              10
-          );
-      
-      // Then
-      assertThat(result).isNotNull();
-      // 실제 구현에서는 cursor보다 큰 모든 항목을 반환하고 있음
-      assertThat(result).hasSize(2);
-      // 정렬 순서 확인
-      assertThat(result.get(0).getRank()).isEqualTo(1);
-      assertThat(result.get(1).getRank()).isEqualTo(2);
+      // When & Then - (rank, createdAt, id) 세 값이 아닌 커서는 INVALID_CURSOR
+      assertThatThrownBy(
+              () ->
+                  popularReviewRepository.findReviewsWithCursor(
+                      PeriodType.DAILY, Direction.ASC, "1", 10))
+          .isInstanceOf(DomainException.class)
+          .extracting("errorCode")
+          .isEqualTo(ErrorCode.INVALID_CURSOR);
     }
 
     @Test
@@ -316,7 +308,6 @@ public class PopularReviewRepositoryTest {
               null,  // period
               Direction.ASC,
               null,
-              null,
               10
           );
       
@@ -373,22 +364,22 @@ public class PopularReviewRepositoryTest {
           popularReviewRepository.findReviewsWithCursor(
               PeriodType.DAILY, 
               Direction.ASC, 
-              "1", // 1등 이후 순위
-              null,
+              CursorCodec.encode(
+                  popularReview1.getRank(),
+                  popularReview1.getCreatedAt(),
+                  popularReview1.getId()), // 1등 이후 순위
               10);
 
       // Then
       assertThat(result).isNotNull();
-      // 실제 구현에서는 cursor 값에 관계없이 모든 항목을 반환하고 있음
-      assertThat(result).hasSize(3);
-      // 정렬 순서 확인 (ASC 순서로 1, 2, 3)
-      assertThat(result.get(0).getRank()).isEqualTo(1);
-      assertThat(result.get(1).getRank()).isEqualTo(2);
-      assertThat(result.get(2).getRank()).isEqualTo(3);
+      assertThat(result).hasSize(2);
+      // 정렬 순서 확인 (ASC 순서로 2, 3)
+      assertThat(result.get(0).getRank()).isEqualTo(2);
+      assertThat(result.get(1).getRank()).isEqualTo(3);
     }
 
     @Test
-    @DisplayName("cursor와 after 모두 있고 정렬 방향이 ASC인 경우")
+    @DisplayName("같은 순위가 있어도 (rank, createdAt, id) 커서 이후만 조회 - ASC")
     void findPopularReviewWithCursorAndAfter_ASC() throws InterruptedException {
       // Given
       // 영속화된 리뷰를 다시 조회
@@ -447,13 +438,15 @@ public class PopularReviewRepositoryTest {
       // 필요한 테스트 데이터 다시 조회
       PopularReview firstPopularReview = popularReviewRepository.findById(popularReview1.getId()).orElseThrow();
       
-      // When - cursor와 after 모두 설정하여 호출
+      // When - 첫 번째 리뷰의 (rank, createdAt, id)를 커서로 호출
       List<PopularReview> result =
           popularReviewRepository.findReviewsWithCursor(
               PeriodType.DAILY, 
               Direction.ASC, 
-              "1", // rank = 1
-              firstPopularReview.getCreatedAt(), // 첫 번째 리뷰의 생성 시간
+              CursorCodec.encode(
+                  firstPopularReview.getRank(),
+                  firstPopularReview.getCreatedAt(),
+                  firstPopularReview.getId()),
               10);
 
       // Then
@@ -466,7 +459,7 @@ public class PopularReviewRepositoryTest {
     }
     
     @Test
-    @DisplayName("cursor와 after 모두 있고 정렬 방향이 DESC인 경우")
+    @DisplayName("같은 순위가 있어도 (rank, createdAt, id) 커서 이후만 조회 - DESC")
     void findPopularReviewWithCursorAndAfter_DESC() throws InterruptedException {
       // Given
       Review persistedReview1 = reviewRepository.findById(testReview1.getId()).orElseThrow();
@@ -518,13 +511,15 @@ public class PopularReviewRepositoryTest {
       
       PopularReview latestPopularReview = popularReviewRepository.findById(popularReview3.getId()).orElseThrow();
 
-      // When - DESC 정렬로 cursor와 after 모두 설정하여 호출
+      // When - DESC 정렬로 마지막에 생성된 리뷰의 (rank, createdAt, id)를 커서로 호출
       List<PopularReview> result =
           popularReviewRepository.findReviewsWithCursor(
               PeriodType.DAILY, 
               Direction.DESC, 
-              "2", // rank = 2
-              latestPopularReview.getCreatedAt(), // 마지막에 생성된 리뷰의 생성 시간
+              CursorCodec.encode(
+                  latestPopularReview.getRank(),
+                  latestPopularReview.getCreatedAt(),
+                  latestPopularReview.getId()),
               10);
 
       // Then
@@ -538,67 +533,57 @@ public class PopularReviewRepositoryTest {
   }
   
   @Nested
-  @DisplayName("인기 리뷰 삭제 테스트")
-  class PopularReviewDeleteTest {
-    
+  @DisplayName("스냅샷 세대 조회 테스트")
+  class PopularReviewGenerationTest {
+
+    private PopularReview saveDailyReview() {
+      Review persistedReview = reviewRepository.findById(testReview1.getId()).orElseThrow();
+      return popularReviewRepository.save(
+          PopularReview.builder()
+              .review(persistedReview)
+              .rank(1)
+              .commentCount(5)
+              .reviewRating(5.0)
+              .likeCount(10)
+              .period(PeriodType.DAILY)
+              .score(50.0)
+              .build());
+    }
+
     @Test
-    @DisplayName("기간별 인기 리뷰 삭제 성공")
-    void deleteByPeriod_success() {
+    @DisplayName("초기 포인터(세대 0)는 세대 도입 전에 저장된 행을 조회")
+    void findReviewsWithCursor_initialPointer_readsLegacyRows() {
       // Given
-      Review persistedReview1 = reviewRepository.findById(testReview1.getId()).orElseThrow();
-      
-      PopularReview dailyReview = PopularReview.builder()
-          .review(persistedReview1)
-          .rank(1)
-          .commentCount(5)
-          .reviewRating(5.0)
-          .likeCount(10)
-          .period(PeriodType.DAILY)
-          .score(50.0)
-          .build();
-      
-      popularReviewRepository.save(dailyReview);
-      
-      // When - 바로 삭제 메서드 호출
-      popularReviewRepository.deleteByPeriod(PeriodType.DAILY);
-      
-      // Then - 삭제 후 데이터가 없는지 확인
-      List<PopularReview> dailyResults = popularReviewRepository.findReviewsWithCursor(
-          PeriodType.DAILY, Direction.ASC, null, null, 10);
-      
-      assertThat(dailyResults).isEmpty();
+      saveDailyReview();
+
+      // When
+      List<PopularReview> result =
+          popularReviewRepository.findReviewsWithCursor(PeriodType.DAILY, Direction.ASC, null, 10);
+
+      // Then
+      assertThat(result).hasSize(1);
+      assertThat(popularReviewRepository.countCurrentByPeriod(PeriodType.DAILY)).isEqualTo(1);
     }
-    
+
     @Test
-    @DisplayName("null 기간 전달 시 삭제하지 않음")
-    void deleteByPeriod_withNullPeriod() {
-      // Given
-      Review persistedReview = reviewRepository.findById(testReview1.getId()).orElseThrow();
-      
-      PopularReview popularReview = PopularReview.builder()
-          .review(persistedReview)
-          .rank(1)
-          .commentCount(5)
-          .reviewRating(5.0)
-          .likeCount(10)
-          .period(PeriodType.DAILY)
-          .score(50.0)
-          .build();
-      
-      popularReviewRepository.save(popularReview);
-      
-      // 저장 확인 - 특정 기간으로 조회
-      List<PopularReview> beforeResults = popularReviewRepository.findReviewsWithCursor(
-          PeriodType.DAILY, Direction.ASC, null, null, 10);
-      assertThat(beforeResults).hasSize(1);
-      
+    @DisplayName("포인터가 새 세대로 바뀌면 해당 기간은 포인터가 가리키는 세대만 조회")
+    void findReviewsWithCursor_withPointer_readsPublishedGenerationOnly() {
+      // Given - DAILY 포인터가 아직 행이 없는 세대 5를 가리킴
+      saveDailyReview();
+      new JdbcTemplate(dataSource).update(
+          "UPDATE ranking_generations SET generation = 5"
+              + " WHERE ranking = 'POPULAR_REVIEW' AND period = 'DAILY'");
+
       // When
-      popularReviewRepository.deleteByPeriod(null);
-      
-      // Then - 특정 기간으로 조회하여 데이터가 여전히 존재하는지 확인
-      List<PopularReview> afterResults = popularReviewRepository.findReviewsWithCursor(
-          PeriodType.DAILY, Direction.ASC, null, null, 10);
-      assertThat(afterResults).hasSize(1);
+      List<PopularReview> daily =
+          popularReviewRepository.findReviewsWithCursor(PeriodType.DAILY, Direction.ASC, null, 10);
+      List<PopularReview> all =
+          popularReviewRepository.findReviewsWithCursor(null, Direction.ASC, null, 10);
+
+      // Then
+      assertThat(daily).isEmpty();
+      assertThat(all).isEmpty();
+      assertThat(popularReviewRepository.countCurrentByPeriod(PeriodType.DAILY)).isZero();
     }
   }
 }
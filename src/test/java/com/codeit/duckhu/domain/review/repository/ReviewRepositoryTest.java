@@ -4,14 +4,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.comment.domain.Comment;
+import com.codeit.duckhu.domain.comment.repository.CommentRepository;
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
 import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.service.impl.ReviewLikeCountBuffer;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
-import java.time.Instant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +27,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -36,6 +50,21 @@ public class ReviewRepositoryTest {
   @Autowired
   private BookRepository bookRepository;
 
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private LikedUserIdRepository likedUserIdRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   @BeforeEach
   void setUp() {
     // 테스트 전 데이터 초기화
@@ -169,6 +198,42 @@ public class ReviewRepositoryTest {
     assertThat(foundReview).isEmpty();
   }
 
+  @Test
+  @DisplayName("사용자가 좋아요한 리뷰 ID만 조회")
+  void findLikedReviewIds_success() {
+    // Given
+    User user =
+        User.builder().email("test-liked@example.com").nickname("좋아요테스터").password("pw").build();
+    User savedUser = userRepository.save(user);
+
+    Book book =
+        Book.builder()
+            .title("좋아요 테스트 도서")
+            .author("테스트 작가")
+            .publisher("테스트 출판사")
+            .isbn("9788956609993")
+            .publishedDate(LocalDate.now())
+            .build();
+    Book savedBook = bookRepository.save(book);
+
+    Review liked =
+        Review.builder().content("좋아요 누른 리뷰").rating(5).user(savedUser).book(savedBook).build();
+    liked.increaseLikeCount(savedUser.getId());
+    Review savedLiked = reviewRepository.save(liked);
+
+    Review notLiked =
+        Review.builder().content("좋아요 안 누른 리뷰").rating(3).user(savedUser).book(savedBook).build();
+    Review savedNotLiked = reviewRepository.save(notLiked);
+
+    // When
+    Set<UUID> result =
+        likedUserIdRepository.findLikedReviewIds(
+            savedUser.getId(), List.of(savedLiked.getId(), savedNotLiked.getId()));
+
+    // Then
+    assertThat(result).containsExactly(savedLiked.getId());
+  }
+
   @Nested
   @DisplayName("커서 페이지네이션")
   class CursorPaginationTests {
@@ -222,7 +287,6 @@ public class ReviewRepositoryTest {
               null,
               null,
               null,
-              null,
               3
           );
 
@@ -242,8 +306,8 @@ public class ReviewRepositoryTest {
               Direction.DESC,
               null,
               null,
-              lastReviewOfFirstPage.getId().toString(),
-              lastReviewOfFirstPage.getCreatedAt(),
+              CursorCodec.encode(
+                  lastReviewOfFirstPage.getCreatedAt(), lastReviewOfFirstPage.getId()),
               3
           );
 
@@ -302,7 +366,6 @@ public class ReviewRepositoryTest {
               null, // 사용자 ID 필터 없음
               null, // 책 ID 필터 없음
               null, // 첫 페이지니까 커서 없음
-              null, // 첫 페이지니까 after 없음
               3 // 페이지 크기 3
           );
 
@@ -321,8 +384,10 @@ public class ReviewRepositoryTest {
               Direction.DESC, // 내림차순
               null, // 사용자 ID 필터 없음
               null, // 책 ID 필터 없음
-              String.valueOf(lastReviewOfFirstPage.getRating()), // 마지막 리뷰 평점을 커서로 사용
-              lastReviewOfFirstPage.getCreatedAt(), // 마지막 리뷰 생성 시간을 after로 사용
+              CursorCodec.encode(
+                  lastReviewOfFirstPage.getRating(),
+                  lastReviewOfFirstPage.getCreatedAt(),
+                  lastReviewOfFirstPage.getId()), // 마지막 리뷰의 (평점, 생성 시간, ID)를 커서로 사용
               3 // 페이지 크기 3
           );
 
@@ -394,7 +459,6 @@ public class ReviewRepositoryTest {
               null, // 사용자 ID 필터 없음
               null, // 책 ID 필터 없음
               null, // 첫 페이지니까 커서 없음
-              null, // 첫 페이지니까 after 없음
               10 // 페이지 크기 10
           );
 
@@ -475,7 +539,6 @@ public class ReviewRepositoryTest {
               savedUser1.getId(), // 사용자1의 ID로 필터링
               null, // 책 ID 필터 없음
               null, // 첫 페이지니까 커서 없음
-              null, // 첫 페이지니까 after 없음
               10 // 페이지 크기 10
           );
 
@@ -560,7 +623,6 @@ public class ReviewRepositoryTest {
               null, // 사용자 ID 필터 없음
               savedBook1.getId(), // 도서1의 ID로 필터링
               null, // 첫 페이지니까 커서 없음
-              null, // 첫 페이지니까 after 없음
               10 // 페이지 크기 10
           );
 
@@ -573,8 +635,8 @@ public class ReviewRepositoryTest {
     }
 
     @Test
-    @DisplayName("평점 정렬인데 커서 없음, after만 있는 경우")
-    void findReview_ratingSort_afterOnly() {
+    @DisplayName("평점 정렬인데 커서 없음 - 첫 페이지부터 조회")
+    void findReview_ratingSort_withoutCursor() {
       // Given
       User user = User.builder()
           .email("test-after@example.com")
@@ -607,9 +669,8 @@ public class ReviewRepositoryTest {
       }
 
       // When
-      Instant afterTime = Instant.now().minusSeconds(60); // 현재시간보다 1분 전
       List<Review> result = reviewRepository.findReviewsWithCursor(
-          null, "rating", Direction.DESC, null, null, null, afterTime, 5
+          null, "rating", Direction.DESC, null, null, null, 5
       );
 
       // Then
@@ -652,7 +713,7 @@ public class ReviewRepositoryTest {
 
       // When
       List<Review> result = reviewRepository.findReviewsWithCursor(
-          null, "invalidField", Direction.DESC, null, null, null, null, 5
+          null, "invalidField", Direction.DESC, null, null, null, 5
       );
 
       // Then
@@ -661,6 +722,83 @@ public class ReviewRepositoryTest {
       assertThat(result).contains(savedReview);
     }
 
+    @Test
+    @DisplayName("프로젝션 조회 - 작성자/도서/댓글 수/좋아요 여부를 한 번에 조회")
+    void findReviewProjectionsWithCursor_success() {
+      // Given
+      User writer =
+          User.builder()
+              .email("test-projection@example.com")
+              .nickname("프로젝션테스터")
+              .password("password")
+              .build();
+      User savedWriter = userRepository.save(writer);
+
+      User viewer =
+          User.builder()
+              .email("test-projection-viewer@example.com")
+              .nickname("조회자")
+              .password("password")
+              .build();
+      User savedViewer = userRepository.save(viewer);
+
+      Book book =
+          Book.builder()
+              .title("프로젝션 테스트 도서")
+              .author("테스트 작가")
+              .publisher("테스트 출판사")
+              .isbn("9788956609992")
+              .publishedDate(LocalDate.now())
+              .thumbnailUrl("image/projection")
+              .isDeleted(false)
+              .build();
+      Book savedBook = bookRepository.save(book);
+
+      Review review =
+          Review.builder()
+              .content("프로젝션 테스트 리뷰")
+              .rating(4)
+              .user(savedWriter)
+              .book(savedBook)
+              .build();
+      review.increaseLikeCount(savedViewer.getId());
+      Review savedReview = reviewRepository.save(review);
+
+      commentRepository.save(
+          Comment.builder().user(savedViewer).review(savedReview).content("댓글").build());
+      reviewRepository.incrementCommentCount(savedReview.getId());
+      commentRepository.save(
+          Comment.builder()
+              .user(savedViewer)
+              .review(savedReview)
+              .content("삭제된 댓글")
+              .isDeleted(true)
+              .build());
+
+      // When
+      List<ReviewProjection> byViewer =
+          reviewRepository.findReviewProjectionsWithCursor(
+              null, "createdAt", Direction.DESC, null, savedBook.getId(), null, 10,
+              savedViewer.getId());
+      List<ReviewProjection> anonymous =
+          reviewRepository.findReviewProjectionsWithCursor(
+              null, "createdAt", Direction.DESC, null, savedBook.getId(), null, 10, null);
+
+      // Then
+      assertThat(byViewer).hasSize(1);
+      ReviewProjection projection = byViewer.get(0);
+      assertThat(projection.id()).isEqualTo(savedReview.getId());
+      assertThat(projection.userNickname()).isEqualTo("프로젝션테스터");
+      assertThat(projection.bookTitle()).isEqualTo("프로젝션 테스트 도서");
+      assertThat(projection.bookThumbnailKey()).isEqualTo("image/projection");
+      assertThat(projection.likeCount()).isEqualTo(1);
+      assertThat(projection.commentCount()).isEqualTo(1);
+      assertThat(projection.likedByMe()).isTrue();
+
+      assertThat(anonymous).hasSize(1);
+      assertThat(anonymous.get(0).likedByMe()).isFalse();
+    }
+
     @Test
     @DisplayName("생성시간 오름차순(ASC) 정렬 및 커서 페이지네이션")
     void findReviewsWithCursor_byCreatedAtAsc_success() {
@@ -709,7 +847,6 @@ public class ReviewRepositoryTest {
               null,
               null,
               null,
-              null,
               3
           );
 
@@ -728,8 +865,8 @@ public class ReviewRepositoryTest {
               Direction.ASC,
               null,
               null,
-              lastReviewOfFirstPage.getId().toString(),
-              lastReviewOfFirstPage.getCreatedAt(),
+              CursorCodec.encode(
+                  lastReviewOfFirstPage.getCreatedAt(), lastReviewOfFirstPage.getId()),
               3
           );
 
@@ -788,7 +925,6 @@ public class ReviewRepositoryTest {
               null,
               null,
               null,
-              null,
               3
           );
 
@@ -807,8 +943,10 @@ public class ReviewRepositoryTest {
               Direction.ASC,
               null,
               null,
-              String.valueOf(lastReviewOfFirstPage.getRating()),
-              lastReviewOfFirstPage.getCreatedAt(),
+              CursorCodec.encode(
+                  lastReviewOfFirstPage.getRating(),
+                  lastReviewOfFirstPage.getCreatedAt(),
+                  lastReviewOfFirstPage.getId()),
               3
           );
 
@@ -867,7 +1005,6 @@ public class ReviewRepositoryTest {
               null,
               null,
               null,
-              null,
               3
           );
 
@@ -886,8 +1023,10 @@ public class ReviewRepositoryTest {
               Direction.DESC,
               null,
               null,
-              String.valueOf(lastReviewOfFirstPage.getRating()),
-              lastReviewOfFirstPage.getCreatedAt(),
+              CursorCodec.encode(
+                  lastReviewOfFirstPage.getRating(),
+                  lastReviewOfFirstPage.getCreatedAt(),
+                  lastReviewOfFirstPage.getId()),
               3
           );
 
@@ -945,7 +1084,6 @@ public class ReviewRepositoryTest {
               null,
               null,
               null,
-              null,
               3
           );
 
@@ -956,4 +1094,208 @@ public class ReviewRepositoryTest {
       assertThat(ascResults.get(2).getContent()).contains("평점 동일 테스트 리뷰 3");
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("댓글 수 카운터")
+  class CommentCountTests {
+
+    private Review saveReview() {
+      User user =
+          userRepository.save(
+              User.builder()
+                  .email("test-comment-count@example.com")
+                  .nickname("댓글수테스터")
+                  .password("password")
+                  .build());
+      Book book =
+          bookRepository.save(
+              Book.builder()
+                  .title("댓글 수 테스트 도서")
+                  .author("테스트 작가")
+                  .publisher("테스트 출판사")
+                  .isbn("9788956609993")
+                  .publishedDate(LocalDate.now())
+                  .isDeleted(false)
+                  .build());
+      return reviewRepository.save(
+          Review.builder().content("댓글 수 테스트 리뷰").rating(3).user(user).book(book).build());
+    }
+
+    private int commentCountOf(UUID reviewId) {
+      entityManager.clear();
+      return reviewRepository.findById(reviewId).orElseThrow().getCommentCount();
+    }
+
+    @Test
+    @DisplayName("증가/감소는 UPDATE로 반영되고 0 미만으로 내려가지 않는다")
+    void incrementAndDecrement() {
+      // Given
+      Review review = saveReview();
+
+      // When
+      reviewRepository.incrementCommentCount(review.getId());
+      reviewRepository.incrementCommentCount(review.getId());
+      reviewRepository.decrementCommentCount(review.getId());
+
+      // Then
+      assertThat(commentCountOf(review.getId())).isEqualTo(1);
+
+      reviewRepository.decrementCommentCount(review.getId());
+      int updated = reviewRepository.decrementCommentCount(review.getId());
+      assertThat(updated).isZero();
+      assertThat(commentCountOf(review.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 작업은 삭제되지 않은 댓글 수와 어긋난 리뷰만 맞춘다")
+    void reconcileCommentCounts() {
+      // Given - 실제 댓글 1개(삭제 1개 제외)인데 카운터는 3으로 어긋난 상태
+      Review review = saveReview();
+      User commenter = review.getUser();
+      commentRepository.save(
+          Comment.builder().user(commenter).review(review).content("댓글").build());
+      commentRepository.save(
+          Comment.builder()
+              .user(commenter)
+              .review(review)
+              .content("삭제된 댓글")
+              .isDeleted(true)
+              .build());
+      reviewRepository.incrementCommentCount(review.getId());
+      reviewRepository.incrementCommentCount(review.getId());
+      reviewRepository.incrementCommentCount(review.getId());
+
+      // When
+      int fixed = reviewRepository.reconcileCommentCounts();
+
+      // Then
+      assertThat(fixed).isEqualTo(1);
+      assertThat(commentCountOf(review.getId())).isEqualTo(1);
+      assertThat(reviewRepository.reconcileCommentCounts()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("리뷰 수정 시 카운터 보존")
+  class CounterPreservationTests {
+
+    private UUID saveReview() {
+      User user =
+          userRepository.save(
+              User.builder()
+                  .email("test-counter@example.com")
+                  .nickname("카운터테스터")
+                  .password("password")
+                  .build());
+      Book book =
+          bookRepository.save(
+              Book.builder()
+                  .title("카운터 테스트 도서")
+                  .author("테스트 작가")
+                  .publisher("테스트 출판사")
+                  .isbn("9788956609994")
+                  .publishedDate(LocalDate.now())
+                  .isDeleted(false)
+                  .build());
+      UUID reviewId =
+          reviewRepository
+              .save(
+                  Review.builder().content("카운터 테스트 리뷰").rating(3).user(user).book(book).build())
+              .getId();
+      entityManager.flush();
+      entityManager.clear();
+      return reviewId;
+    }
+
+    private Review reload(UUID reviewId) {
+      entityManager.clear();
+      return reviewRepository.findById(reviewId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("리뷰를 읽은 뒤 반영된 좋아요는 내용 수정 저장에 덮어써지지 않는다")
+    void updateContent_keepsLikeCountIncrementedAfterLoad() {
+      // Given - 리뷰를 읽어 둔 뒤 다른 요청의 좋아요가 UPDATE로 반영됨
+      UUID reviewId = saveReview();
+      Review review = reviewRepository.findById(reviewId).orElseThrow();
+      reviewRepository.incrementLikeCount(reviewId);
+
+      // When
+      review.updateContent("수정된 리뷰");
+      reviewRepository.saveAndFlush(review);
+
+      // Then
+      Review reloaded = reload(reviewId);
+      assertThat(reloaded.getContent()).isEqualTo("수정된 리뷰");
+      assertThat(reloaded.getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리뷰를 읽은 뒤 달린 댓글 수는 수정/논리 삭제 저장에 덮어써지지 않는다")
+    void updateAndSoftDelete_keepCommentCountIncrementedAfterLoad() {
+      // Given - 리뷰를 읽어 둔 뒤 다른 요청의 댓글 작성이 UPDATE로 반영됨
+      UUID reviewId = saveReview();
+      Review review = reviewRepository.findById(reviewId).orElseThrow();
+      reviewRepository.incrementCommentCount(reviewId);
+
+      // When - 수정 저장
+      review.updateRating(5);
+      reviewRepository.saveAndFlush(review);
+
+      // Then
+      assertThat(reload(reviewId).getCommentCount()).isEqualTo(1);
+
+      // Given - 다시 읽어 둔 뒤 댓글이 하나 더 달림
+      Review toDelete = reload(reviewId);
+      reviewRepository.incrementCommentCount(reviewId);
+
+      // When - 논리 삭제 저장
+      toDelete.softDelete();
+      reviewRepository.saveAndFlush(toDelete);
+
+      // Then
+      Review reloaded = reload(reviewId);
+      assertThat(reloaded.isDeleted()).isTrue();
+      assertThat(reloaded.getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("리뷰 수정 트랜잭션 도중 반영된 좋아요 버퍼 증감분은 수정 커밋에 덮어써지지 않는다")
+    void updateContent_keepsLikeDeltaFlushedDuringTransaction() {
+      // Given - 좋아요 증감분 +1이 버퍼에 쌓여 있음 (주기 반영은 끄고 직접 flush)
+      TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+      UUID reviewId = transaction.execute(status -> saveReview());
+      ReviewLikeCountBuffer buffer =
+          new ReviewLikeCountBuffer(
+              jdbcTemplate,
+              transactionManager,
+              event -> {},
+              new SimpleMeterRegistry(),
+              false,
+              60_000,
+              10_000);
+      buffer.add(reviewId, 1);
+
+      try {
+        // When - 리뷰를 읽은 뒤 다른 스레드의 flush가 커밋되고, 그다음 수정이 커밋됨
+        transaction.executeWithoutResult(
+            status -> {
+              Review review = reviewRepository.findById(reviewId).orElseThrow();
+              CompletableFuture.runAsync(buffer::flush).join();
+              review.updateContent("수정된 리뷰");
+            });
+
+        // Then
+        Review reloaded = transaction.execute(status -> reload(reviewId));
+        assertThat(reloaded.getContent()).isEqualTo("수정된 리뷰");
+        assertThat(reloaded.getLikeCount()).isEqualTo(1);
+      } finally {
+        // 트랜잭션 없이 커밋된 데이터 정리
+        reviewRepository.deleteAll();
+        userRepository.deleteAll();
+        bookRepository.deleteAll();
+      }
+    }
+  }
+}
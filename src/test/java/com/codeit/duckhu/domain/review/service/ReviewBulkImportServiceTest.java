@@ -0,0 +1,227 @@
+package com.codeit.duckhu.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse;
+import com.codeit.duckhu.domain.review.dto.ReviewBulkImportResponse.ItemError;
+import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.review.service.impl.ReviewBulkImportService;
+import com.codeit.duckhu.domain.user.entity.User;
+import com.codeit.duckhu.domain.user.repository.UserRepository;
+import com.codeit.duckhu.global.exception.DomainException;
+import com.codeit.duckhu.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class ReviewBulkImportServiceTest {
+
+  @Autowired private ReviewRepository reviewRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private ReviewBulkImportService bulkImportService;
+  private User user;
+  private Book firstBook;
+  private Book secondBook;
+
+  @BeforeEach
+  void setUp() {
+    // chunk 크기를 2로 잡아 chunk 경계에서의 동작도 함께 확인
+    bulkImportService =
+        new ReviewBulkImportService(
+            reviewRepository,
+            userRepository,
+            bookRepository,
+            new JdbcTemplate(dataSource),
+            transactionManager,
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            true,
+            2,
+            5,
+            100);
+
+    user =
+        userRepository.save(
+            User.builder().email("bulk@example.com").nickname("이관").password("pw").build());
+    firstBook = bookRepository.save(book("첫 번째 도서"));
+    secondBook = bookRepository.save(book("두 번째 도서"));
+    entityManager.flush();
+  }
+
+  private Book book(String title) {
+    return Book.builder()
+        .title(title)
+        .author("작가")
+        .publisher("출판사")
+        .publishedDate(LocalDate.of(2024, 1, 1))
+        .isDeleted(false)
+        .build();
+  }
+
+  private String line(Object userId, Object bookId, int rating, String content) {
+    return String.format(
+        "{\"userId\":\"%s\",\"bookId\":\"%s\",\"rating\":%d,\"content\":\"%s\"}%n",
+        userId, bookId, rating, content);
+  }
+
+  @Test
+  @DisplayName("NDJSON 본문을 등록하고 항목별 실패 사유와 도서 집계를 함께 반영한다")
+  void importReviews_ndjson_reportsPerItemErrors() throws Exception {
+    // Given
+    String body =
+        line(user.getId(), firstBook.getId(), 4, "좋아요") // 0: 성공
+            + line("not-a-uuid", firstBook.getId(), 3, "잘못된 ID") // 1: 변환 실패
+            + line(user.getId(), firstBook.getId(), 5, "중복") // 2: 같은 요청 안에서 중복
+            + line(UUID.randomUUID(), firstBook.getId(), 3, "없는 사용자") // 3: 사용자 없음
+            + line(user.getId(), secondBook.getId(), 7, "범위 밖 평점") // 4: 검증 실패
+            + line(user.getId(), secondBook.getId(), 2, "별로예요"); // 5: 성공
+
+    // When
+    ReviewBulkImportResponse result =
+        bulkImportService.importReviews(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(result.getTotal()).isEqualTo(6);
+    assertThat(result.getSucceeded()).isEqualTo(2);
+    assertThat(result.getFailed()).isEqualTo(4);
+    assertThat(result.getErrors())
+        .extracting(ItemError::getIndex, ItemError::getCode)
+        .containsExactly(
+            tuple(1, "INVALID_INPUT_VALUE"),
+            tuple(2, "REVIEW_ALREADY_EXISTS_BY_BOOK"),
+            tuple(3, "NOT_FOUND_USER"),
+            tuple(4, "INVALID_INPUT_VALUE"));
+
+    entityManager.clear();
+    assertThat(reviewRepository.findByUserIdAndBookId(user.getId(), firstBook.getId()))
+        .get()
+        .extracting(Review::getRating)
+        .isEqualTo(4);
+    Book first = bookRepository.findById(firstBook.getId()).orElseThrow();
+    assertThat(first.getReviewCount()).isEqualTo(1);
+    assertThat(first.getRatingSum()).isEqualTo(4L);
+    assertThat(first.getRating4Count()).isEqualTo(1);
+    Book second = bookRepository.findById(secondBook.getId()).orElseThrow();
+    assertThat(second.getReviewCount()).isEqualTo(1);
+    assertThat(second.getRating()).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("JSON 배열 본문도 같은 방식으로 등록하고, 이미 리뷰가 있는 조합은 건너뛴다")
+  void importReviews_jsonArray_skipsExistingReviews() throws Exception {
+    // Given - 첫 번째 도서에는 이미 리뷰가 있음
+    bulkImportService.importReviews(
+        new ByteArrayInputStream(
+            line(user.getId(), firstBook.getId(), 3, "기존").getBytes(StandardCharsets.UTF_8)));
+    String body =
+        "["
+            + line(user.getId(), firstBook.getId(), 5, "다시 작성").trim()
+            + ","
+            + line(user.getId(), secondBook.getId(), 5, "새 리뷰").trim()
+            + "]";
+
+    // When
+    ReviewBulkImportResponse result =
+        bulkImportService.importReviews(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(result.getSucceeded()).isEqualTo(1);
+    assertThat(result.getErrors())
+        .singleElement()
+        .satisfies(
+            error -> {
+              assertThat(error.getIndex()).isZero();
+              assertThat(error.getCode()).isEqualTo("REVIEW_ALREADY_EXISTS_BY_BOOK");
+            });
+  }
+
+  @Test
+  @DisplayName("최대 항목 수를 넘는 항목부터는 처리하지 않고 실패로 한 번만 남긴다")
+  void importReviews_overMaxItems_stops() throws Exception {
+    // Given - 최대 5건, 7건 요청 (앞 5건은 검증 실패라 저장되지 않음)
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < 7; i++) {
+      body.append(line(user.getId(), firstBook.getId(), 9, "범위 밖 평점 " + i));
+    }
+
+    // When
+    ReviewBulkImportResponse result =
+        bulkImportService.importReviews(
+            new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(result.getTotal()).isEqualTo(6);
+    assertThat(result.getErrors())
+        .last()
+        .satisfies(
+            error -> {
+              assertThat(error.getIndex()).isEqualTo(5);
+              assertThat(error.getMessage()).contains("최대 5건");
+            });
+  }
+
+  @Test
+  @DisplayName("일괄 등록이 꺼져 있으면 본문을 읽지 않고 NOT_FOUND로 거절한다")
+  void importReviews_disabled_rejects() {
+    // Given
+    ReviewBulkImportService disabled =
+        new ReviewBulkImportService(
+            reviewRepository,
+            userRepository,
+            bookRepository,
+            new JdbcTemplate(dataSource),
+            transactionManager,
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            false,
+            2,
+            5,
+            100);
+    String body = line(user.getId(), firstBook.getId(), 4, "좋아요");
+
+    // When & Then
+    assertThatThrownBy(
+            () ->
+                disabled.importReviews(
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(DomainException.class)
+        .extracting(e -> ((DomainException) e).getErrorCode())
+        .isEqualTo(ErrorCode.NOT_FOUND);
+    assertThat(reviewRepository.findByUserIdAndBookId(user.getId(), firstBook.getId())).isEmpty();
+  }
+}
@@ -0,0 +1,125 @@
+package com.codeit.duckhu.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
+import com.codeit.duckhu.domain.review.service.impl.ReviewLikeCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ReviewLikeCountBufferTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private ReviewLikeCountBuffer buffer;
+
+  // 주기 반영이 테스트 중에 끼어들지 않도록 주기와 즉시 반영 기준을 크게 잡음
+  @BeforeEach
+  void setUp() {
+    buffer =
+        new ReviewLikeCountBuffer(
+            jdbcTemplate,
+            transactionManager,
+            eventPublisher,
+            new SimpleMeterRegistry(),
+            true,
+            60_000,
+            10_000);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    buffer.shutdown();
+  }
+
+  @Test
+  @DisplayName("리뷰별 증감분을 합쳐 ID 순서로 한 번의 배치 UPDATE로 반영한다")
+  @SuppressWarnings("unchecked")
+  void flush_mergesDeltasPerReview() {
+    // Given
+    UUID first = new UUID(0, 1);
+    UUID second = new UUID(0, 2);
+    UUID netZero = new UUID(0, 3);
+    buffer.add(second, 1);
+    buffer.add(first, 1);
+    buffer.add(first, 1);
+    buffer.add(first, -1);
+    buffer.add(netZero, 1);
+    buffer.add(netZero, -1);
+
+    // When
+    buffer.flush();
+
+    // Then - 합이 0인 리뷰는 UPDATE 대상에서 빠짐
+    ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+    assertThat(captor.getValue())
+        .containsExactly(new Object[] {1L, first}, new Object[] {1L, second});
+    verify(eventPublisher).publishEvent(new ReviewChangedEvent(first));
+    verify(eventPublisher).publishEvent(new ReviewChangedEvent(second));
+
+    // 반영 후에는 버퍼가 비어 다시 반영할 것이 없음
+    buffer.flush();
+    verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  @DisplayName("반영에 실패하면 트랜잭션을 롤백하고 증감분을 버퍼에 되돌려 다음 반영에 포함한다")
+  @SuppressWarnings("unchecked")
+  void flush_requeuesOnFailure() {
+    // Given
+    UUID reviewId = UUID.randomUUID();
+    buffer.add(reviewId, 1);
+    when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+        .thenThrow(new QueryTimeoutException("timeout"))
+        .thenReturn(new int[] {1});
+
+    // When
+    buffer.flush();
+    buffer.add(reviewId, 1);
+    buffer.flush();
+
+    // Then
+    ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+    assertThat(captor.getAllValues().get(1)).containsExactly(new Object[] {2L, reviewId});
+    verify(transactionManager).rollback(any());
+    verify(transactionManager).commit(any());
+    verify(eventPublisher, times(1)).publishEvent(new ReviewChangedEvent(reviewId));
+  }
+
+  @Test
+  @DisplayName("종료 시 남은 증감분을 반영한다")
+  void shutdown_flushesPendingDeltas() throws InterruptedException {
+    // Given
+    UUID reviewId = UUID.randomUUID();
+    buffer.add(reviewId, 1);
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+    // When
+    buffer.shutdown();
+
+    // Then
+    verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+  }
+}
@@ -4,12 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,32 +19,42 @@ import com.codeit.duckhu.domain.book.entity.Book;
 import com.codeit.duckhu.domain.book.repository.BookRepository;
 import com.codeit.duckhu.domain.book.storage.ThumbnailImageStorage;
 import com.codeit.duckhu.domain.comment.repository.CommentRepository;
-import com.codeit.duckhu.domain.notification.service.NotificationService;
+import com.codeit.duckhu.domain.notification.event.ReviewLikedEvent;
+import com.codeit.duckhu.domain.review.cache.ReviewDetailCache;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponsePopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.CursorPageResponseReviewDto;
 import com.codeit.duckhu.domain.review.dto.PopularReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewCreateRequest;
 import com.codeit.duckhu.domain.review.dto.ReviewDto;
 import com.codeit.duckhu.domain.review.dto.ReviewLikeDto;
+import com.codeit.duckhu.domain.review.dto.ReviewProjection;
 import com.codeit.duckhu.domain.review.dto.ReviewSearchRequestDto;
 import com.codeit.duckhu.domain.review.dto.ReviewUpdateRequest;
 import com.codeit.duckhu.domain.review.entity.PopularReview;
 import com.codeit.duckhu.domain.review.entity.Review;
+import com.codeit.duckhu.domain.review.event.ReviewChangedEvent;
 import com.codeit.duckhu.domain.review.mapper.ReviewMapper;
+import com.codeit.duckhu.domain.review.ranking.PopularReviewLiveRanking;
+import com.codeit.duckhu.domain.review.ranking.ReviewActivityWindows;
+import com.codeit.duckhu.domain.review.repository.LikedUserIdRepository;
 import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
 import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.service.impl.ReviewLikeCountBuffer;
 import com.codeit.duckhu.domain.review.service.impl.ReviewServiceImpl;
 import com.codeit.duckhu.domain.user.entity.User;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
 import com.codeit.duckhu.global.exception.DomainException;
 import com.codeit.duckhu.global.exception.ErrorCode;
+import com.codeit.duckhu.global.pagination.CursorCodec;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,9 +63,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 /** 리뷰 서비스 테스트 클래스 TDD 방식으로 구현 예정 */
 
@@ -78,7 +92,17 @@ class ReviewServiceTest {
 
   @Mock private PopularReviewRepository popularReviewRepository;
 
-  @Mock private NotificationService notificationService;
+  @Mock private LikedUserIdRepository likedUserIdRepository;
+
+  @Mock private ReviewLikeCountBuffer likeCountBuffer;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private PopularReviewLiveRanking liveRanking;
+
+  @Spy
+  private ReviewDetailCache reviewDetailCache =
+      new ReviewDetailCache(new SimpleMeterRegistry(), 60, 100);
 
   @InjectMocks private ReviewServiceImpl reviewService;
 
@@ -168,7 +192,7 @@ class ReviewServiceTest {
       // thumbnailImageStorage.get() 모킹 추가
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
       // 3개 인자를 받는 toDto 메소드 모킹
-      when(reviewMapper.toDto(any(Review.class), anyString(), eq(testUserId)))
+      when(reviewMapper.toDto(any(Review.class), anyString(), any()))
           .thenReturn(testReviewDto);
 
       // When
@@ -210,7 +234,7 @@ class ReviewServiceTest {
       // 새로운 리뷰 저장
       when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
-      when(reviewMapper.toDto(any(Review.class), anyString(), eq(testUserId)))
+      when(reviewMapper.toDto(any(Review.class), anyString(), any()))
           .thenReturn(testReviewDto);
 
       // When
@@ -240,7 +264,7 @@ class ReviewServiceTest {
       when(testBook.getTitle()).thenReturn("테스트 도서");
       when(testBook.getThumbnailUrl()).thenReturn("test.jpg");
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
-      when(reviewMapper.toDto(eq(testReview), anyString(), eq(testUserId)))
+      when(reviewMapper.toDto(eq(testReview), anyString(), any()))
           .thenReturn(testReviewDto);
 
       // When
@@ -252,6 +276,75 @@ class ReviewServiceTest {
       assertThat(result.getRating()).isEqualTo(testReviewDto.getRating());
     }
 
+    @Test
+    @DisplayName("ID로 리뷰 조회 시 좋아요 여부는 review_likes 조회 결과로 판단")
+    void getReviewById_shouldResolveLikedByViewerWithoutCollection() {
+      // Given
+      Set<UUID> likedReviewIds = Set.of(testReviewId);
+      when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      when(testReview.getBook()).thenReturn(testBook);
+      when(testBook.getThumbnailUrl()).thenReturn("test.jpg");
+      when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
+      when(likedUserIdRepository.findLikedReviewIds(testUserId, List.of(testReviewId)))
+          .thenReturn(likedReviewIds);
+      when(reviewMapper.toDto(testReview, TEST_THUMBNAIL_URL, Set.of()))
+          .thenReturn(testReviewDto);
+
+      // When
+      ReviewDto result = reviewService.getReviewById(testUserId, testReviewId);
+
+      // Then
+      assertThat(result.getId()).isEqualTo(testReviewDto.getId());
+      assertThat(result.isLikedByMe()).isTrue();
+      verify(testReview, never()).liked(any());
+    }
+
+    @Test
+    @DisplayName("같은 리뷰를 다시 조회하면 캐시에서 응답하고 좋아요 여부만 요청자별로 조회")
+    void getReviewById_shouldServeFromCacheAndOverlayLikedByMe() {
+      // Given
+      UUID otherUserId = UUID.randomUUID();
+      when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      when(testReview.getBook()).thenReturn(testBook);
+      when(testBook.getThumbnailUrl()).thenReturn("test.jpg");
+      when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
+      when(reviewMapper.toDto(testReview, TEST_THUMBNAIL_URL, Set.of())).thenReturn(testReviewDto);
+      when(likedUserIdRepository.findLikedReviewIds(testUserId, List.of(testReviewId)))
+          .thenReturn(Set.of(testReviewId));
+      when(likedUserIdRepository.findLikedReviewIds(otherUserId, List.of(testReviewId)))
+          .thenReturn(Set.of());
+
+      // When
+      ReviewDto likedView = reviewService.getReviewById(testUserId, testReviewId);
+      ReviewDto otherView = reviewService.getReviewById(otherUserId, testReviewId);
+
+      // Then
+      assertThat(likedView.isLikedByMe()).isTrue();
+      assertThat(otherView.isLikedByMe()).isFalse();
+      assertThat(otherView.getContent()).isEqualTo(likedView.getContent());
+      verify(reviewRepository, times(1)).findById(testReviewId);
+      verify(thumbnailImageStorage, times(1)).get("test.jpg");
+    }
+
+    @Test
+    @DisplayName("리뷰 변경 이벤트를 받으면 캐시가 무효화되어 다시 조회")
+    void getReviewById_shouldReloadAfterReviewChangedEvent() {
+      // Given
+      when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      when(testReview.getBook()).thenReturn(testBook);
+      when(testBook.getThumbnailUrl()).thenReturn("test.jpg");
+      when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
+      when(reviewMapper.toDto(testReview, TEST_THUMBNAIL_URL, Set.of())).thenReturn(testReviewDto);
+
+      // When
+      reviewService.getReviewById(testUserId, testReviewId);
+      reviewDetailCache.onReviewChanged(new ReviewChangedEvent(testReviewId));
+      reviewService.getReviewById(testUserId, testReviewId);
+
+      // Then
+      verify(reviewRepository, times(2)).findById(testReviewId);
+    }
+
     @Test
     @DisplayName("존재하지 않는 리뷰 조회")
     void getReviewById_shouldThrowException() {
@@ -346,13 +439,17 @@ class ReviewServiceTest {
       when(testUser.getId()).thenReturn(testUserId);
       when(testReview.getBook()).thenReturn(testBook); // Book 객체를 반환하도록 설정
       when(testReview.isDeleted()).thenReturn(false); // 삭제되지 않은 상태로 설정
+      when(testBook.getId()).thenReturn(testBookId);
+      when(testReview.getRating()).thenReturn(4);
 
       // When
       reviewService.softDeleteReviewById(testUserId, testReviewId);
 
       // Then
+      verify(bookRepository).applyReviewDelta(testBookId, -1, -4L, 0, 0, 0, -1, 0);
       verify(testReview).softDelete();
       verify(reviewRepository).save(testReview);
+      verify(eventPublisher).publishEvent(new ReviewChangedEvent(testReviewId));
     }
 
     @Test
@@ -408,8 +505,9 @@ class ReviewServiceTest {
       when(testBook.getThumbnailUrl()).thenReturn("test.jpg");
       when(testReview.isDeleted()).thenReturn(false); // 삭제되지 않은 상태
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
-      when(reviewMapper.toDto(eq(testReview), anyString(), eq(testUserId)))
+      when(reviewMapper.toDto(eq(testReview), anyString(), any()))
           .thenReturn(testReviewDto);
+      when(testReview.getRating()).thenReturn(2).thenReturn(5); // 2점 -> 5점으로 수정
 
       // When
       ReviewDto result =
@@ -418,6 +516,10 @@ class ReviewServiceTest {
       // Then
       assertThat(result).isNotNull();
       assertThat(result).isEqualTo(testReviewDto);
+      // 도서 집계는 재계산 없이 증감분만 반영 (리뷰 수 그대로, 합계 +3, 2점 -1, 5점 +1)
+      verify(bookRepository).applyReviewDelta(testBookId, 0, 3L, 0, -1, 0, 0, 1);
+      verify(reviewRepository, never()).calculateAverageRatingByBookId(any());
+      verify(eventPublisher).publishEvent(new ReviewChangedEvent(testReviewId));
     }
 
     @Test
@@ -470,20 +572,29 @@ class ReviewServiceTest {
     void likeReview_firstTime_likeCountIncreased() {
       // Given
       when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      UUID writerId = UUID.randomUUID();
+      User writer = mock(User.class);
       when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-      when(userRepository.existsById(testUserId)).thenReturn(true); // 존재하는 userId 설정
-      when(testReview.liked(testUserId))
-          .thenReturn(false)
-          .thenReturn(true); // 첫 호출에서 false, 두 번째 호출에서 true 반환
-      when(reviewRepository.save(testReview)).thenReturn(testReview);
-      when(testReview.getBook()).thenReturn(testBook);
-      when(testReview.getId()).thenReturn(testReviewId);
+      when(testUser.getNickname()).thenReturn("좋아요누른사람");
+      when(testReview.getUser()).thenReturn(writer);
+      when(writer.getId()).thenReturn(writerId);
+      when(testReview.getContent()).thenReturn("볼만해요");
+      when(likedUserIdRepository.deleteByReviewIdAndUserId(testReviewId, testUserId))
+          .thenReturn(0);
+      when(likedUserIdRepository.insertIfAbsent(
+              any(UUID.class), any(Instant.class), eq(testReviewId), eq(testUserId)))
+          .thenReturn(1);
 
       // When
       ReviewLikeDto result = reviewService.likeReview(testReviewId, testUserId);
 
       // Then
-      verify(testReview).increaseLikeCount(testUserId);
+      verify(reviewRepository).incrementLikeCount(testReviewId);
+      verify(reviewRepository, never()).decrementLikeCount(any());
+      // 알림은 이미 조회한 값을 담은 이벤트로만 넘기고, 저장은 커밋 이후 비동기로 처리
+      verify(eventPublisher)
+          .publishEvent(new ReviewLikedEvent(testReviewId, writerId, "볼만해요", "좋아요누른사람"));
+      verify(testReview, never()).getLikedUserIds();
       assertThat(result.isLiked()).isTrue();
       assertThat(result.getReviewId()).isEqualTo(testReviewId);
       assertThat(result.getUserId()).isEqualTo(testUserId);
@@ -494,23 +605,63 @@ class ReviewServiceTest {
     void likeReview_toggleOff_likeCountDecreased() {
       // Given
       when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
-      when(userRepository.existsById(testUserId)).thenReturn(true); // 존재하는 userId 설정
-      when(testReview.liked(testUserId))
-          .thenReturn(true)
-          .thenReturn(false); // 첫 호출에서 true, 두 번째 호출에서 false 반환
-      when(testReview.getId()).thenReturn(testReviewId);
-      when(testReview.getUser()).thenReturn(testUser);
+      when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+      when(likedUserIdRepository.deleteByReviewIdAndUserId(testReviewId, testUserId))
+          .thenReturn(1);
 
       // When
       ReviewLikeDto result = reviewService.likeReview(testReviewId, testUserId);
 
       // Then
-      verify(testReview).decreaseLikeCount(testUserId);
+      verify(reviewRepository).decrementLikeCount(testReviewId);
+      verify(likedUserIdRepository, never()).insertIfAbsent(any(), any(), any(), any());
+      verify(eventPublisher, never()).publishEvent(any(ReviewLikedEvent.class));
       assertThat(result.isLiked()).isFalse();
       assertThat(result.getReviewId()).isEqualTo(testReviewId);
       assertThat(result.getUserId()).isEqualTo(testUserId);
     }
 
+    @Test
+    @DisplayName("동시에 들어온 좋아요가 먼저 반영된 경우 카운트를 다시 올리지 않고 liked=true 반환")
+    void likeReview_concurrentInsert_noDoubleCount() {
+      // Given
+      when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+      when(likedUserIdRepository.deleteByReviewIdAndUserId(testReviewId, testUserId))
+          .thenReturn(0);
+      when(likedUserIdRepository.insertIfAbsent(
+              any(UUID.class), any(Instant.class), eq(testReviewId), eq(testUserId)))
+          .thenReturn(0);
+
+      // When
+      ReviewLikeDto result = reviewService.likeReview(testReviewId, testUserId);
+
+      // Then
+      verify(reviewRepository, never()).incrementLikeCount(any());
+      verify(reviewRepository, never()).decrementLikeCount(any());
+      verify(eventPublisher, never()).publishEvent(any(ReviewLikedEvent.class));
+      assertThat(result.isLiked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 like_count를 바로 UPDATE 하지 않고 버퍼에 증감분을 넘긴다")
+    void likeReview_writeBehind_buffersDelta() {
+      // Given
+      when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
+      when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+      when(likeCountBuffer.isEnabled()).thenReturn(true);
+      when(likedUserIdRepository.deleteByReviewIdAndUserId(testReviewId, testUserId))
+          .thenReturn(1);
+
+      // When
+      ReviewLikeDto result = reviewService.likeReview(testReviewId, testUserId);
+
+      // Then
+      verify(likeCountBuffer).add(testReviewId, -1);
+      verify(reviewRepository, never()).decrementLikeCount(any());
+      assertThat(result.isLiked()).isFalse();
+    }
+
     @Test
     @DisplayName("존재하지 않는 리뷰에 좋아요 요청 시 예외")
     void likeReview_reviewNotFound() {
@@ -530,7 +681,7 @@ class ReviewServiceTest {
       // Given
       when(reviewRepository.findById(testReviewId)).thenReturn(Optional.of(testReview));
       when(testReview.isDeleted()).thenReturn(false);
-      when(userRepository.existsById(testUserId)).thenReturn(false); // 존재하지 않는 userId 설정
+      when(userRepository.findById(testUserId)).thenReturn(Optional.empty()); // 존재하지 않는 userId 설정
 
       // When & Then
       DomainException exception =
@@ -562,22 +713,22 @@ class ReviewServiceTest {
     @DisplayName("리뷰 커서 페이지네이션 테스트 성공")
     void findReviews_success() {
       // Given
-      List<Review> reviewList = new ArrayList<>();
+      List<ReviewProjection> reviewList = new ArrayList<>();
       UUID currentUserIdForTest = null; // 테스트용 현재 사용자 ID (null 또는 testUserId 등)
 
       // 정확한 파라미터로 stubbing 설정
-      when(reviewRepository.findReviewsWithCursor(
+      when(reviewRepository.findReviewProjectionsWithCursor(
               eq(null),
               eq("createdAt"),
-              eq(Direction.DESC), // 기본값 가정
-              eq(null),
+              eq(null), // direction 미지정
               eq(null),
               eq(null),
               eq(null),
-              eq(51))) // limit+1
+              eq(51), // limit+1
+              eq(currentUserIdForTest)))
           .thenReturn(reviewList);
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
-      when(reviewMapper.toDto(any(Review.class), anyString(), eq(currentUserIdForTest)))
+      when(reviewMapper.toDto(any(ReviewProjection.class), anyString()))
           .thenReturn(testReviewDto); // 예시 DTO 반환
 
       // When
@@ -591,6 +742,45 @@ class ReviewServiceTest {
       assertThat(result.isHasNext()).isFalse(); // reviewList가 비어있으므로 hasNext는 false 예상
       assertThat(result.getContent()).isEmpty(); // reviewList가 비어있으므로 content는 비어있음 예상
     }
+
+    @Test
+    @DisplayName("프로젝션 결과로 다음 페이지 커서를 계산")
+    void findReviews_withProjection_shouldSetNextCursor() {
+      // Given
+      Instant createdAt = Instant.now();
+      ReviewProjection first =
+          ReviewProjection.builder()
+              .id(UUID.randomUUID())
+              .rating(5)
+              .bookThumbnailKey("image/1")
+              .createdAt(createdAt)
+              .build();
+      ReviewProjection second =
+          ReviewProjection.builder()
+              .id(UUID.randomUUID())
+              .rating(4)
+              .bookThumbnailKey("image/2")
+              .createdAt(createdAt.minusSeconds(1))
+              .build();
+
+      when(reviewRepository.findReviewProjectionsWithCursor(
+              any(), any(), any(), any(), any(), any(), eq(2), eq(testUserId)))
+          .thenReturn(List.of(first, second));
+      when(thumbnailImageStorage.get(anyString())).thenReturn(TEST_THUMBNAIL_URL);
+      when(reviewMapper.toDto(any(ReviewProjection.class), anyString())).thenReturn(testReviewDto);
+
+      // When
+      ReviewSearchRequestDto requestDto = ReviewSearchRequestDto.builder().limit(1).build();
+      CursorPageResponseReviewDto result = reviewService.findReviews(requestDto, testUserId);
+
+      // Then
+      assertThat(result.isHasNext()).isTrue();
+      assertThat(result.getContent()).hasSize(1);
+      assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode(createdAt, first.id()));
+      assertThat(result.getNextAfter()).isEqualTo(createdAt);
+      verify(reviewRepository, never())
+          .findReviewsWithCursor(any(), any(), any(), any(), any(), any(), anyInt());
+    }
   }
 
   @Nested
@@ -605,10 +795,10 @@ class ReviewServiceTest {
       popularReview = mock(PopularReview.class);
 
       when(popularReviewRepository.findReviewsWithCursor(
-              eq(null), eq(Direction.DESC), eq(null), eq(null), eq(51)))
+              eq(null), eq(Direction.DESC), eq(null), eq(51)))
           .thenReturn(popularReviews);
       when(thumbnailImageStorage.get(any())).thenReturn(TEST_THUMBNAIL_URL);
-      when(reviewMapper.toDto(any(Review.class), anyString(), eq(testUserId)))
+      when(reviewMapper.toDto(any(Review.class), anyString(), any()))
           .thenReturn(testReviewDto);
 
       // When
@@ -626,7 +816,7 @@ class ReviewServiceTest {
     @DisplayName("인기 리뷰 커서, after 조건 포함된 페이지네이션 테스트")
     void findPopularReviews_withCursorAndAfter_shouldCallCursorLogic() {
       // Given
-      String cursor = "3";
+      String cursor = CursorCodec.encode(3, Instant.now().minusSeconds(120), UUID.randomUUID());
       Instant after = Instant.now().minusSeconds(60);
       List<PopularReview> mockList = new ArrayList<>();
 
@@ -656,9 +846,9 @@ class ReviewServiceTest {
       mockList.add(review);
 
       when(popularReviewRepository.findReviewsWithCursor(
-          eq(PeriodType.DAILY), eq(Direction.ASC), eq(cursor), eq(after), eq(51)))
+          eq(PeriodType.DAILY), eq(Direction.ASC), eq(cursor), eq(51)))
           .thenReturn(mockList);
-      when(popularReviewRepository.countByPeriodSince(eq(PeriodType.DAILY), any()))
+      when(popularReviewRepository.countCurrentByPeriod(PeriodType.DAILY))
           .thenReturn((long) mockList.size());
       when(thumbnailImageStorage.get(anyString())).thenReturn(TEST_THUMBNAIL_URL);
 
@@ -671,6 +861,45 @@ class ReviewServiceTest {
       assertThat(result.getContent()).hasSize(1);
       assertThat(result.getNextCursor()).isNull();
     }
+
+    @Test
+    @DisplayName("실시간 랭킹이 준비되면 스냅샷 대신 실시간 랭킹과 리뷰 상세로 응답한다")
+    void findPopularReviews_liveRanking() {
+      // Given
+      UUID deletedReviewId = UUID.randomUUID();
+      when(liveRanking.isServing()).thenReturn(true);
+      when(liveRanking.page(PeriodType.WEEKLY, Direction.ASC, null, 3))
+          .thenReturn(
+              new ReviewActivityWindows.Page(
+                  List.of(
+                      new ReviewActivityWindows.Ranked(testReviewId, 2, 1, 1.3, 1),
+                      new ReviewActivityWindows.Ranked(deletedReviewId, 1, 0, 0.3, 2)),
+                  2));
+      when(reviewRepository.findAllWithBookAndUserByIdIn(Set.of(testReviewId, deletedReviewId)))
+          .thenReturn(List.of(testReview));
+      when(testReview.getId()).thenReturn(testReviewId);
+      when(testReview.getBook()).thenReturn(testBook);
+      when(reviewMapper.toDto(eq(testReview), any(), any())).thenReturn(testReviewDto);
+
+      // When
+      CursorPageResponsePopularReviewDto result =
+          reviewService.getPopularReviews(PeriodType.WEEKLY, Direction.ASC, null, null, 2);
+
+      // Then - 조회할 수 없는 리뷰는 건너뜀
+      assertThat(result.getContent()).hasSize(1);
+      PopularReviewDto dto = result.getContent().get(0);
+      assertThat(dto.getReviewId()).isEqualTo(testReviewId);
+      assertThat(dto.getBookTitle()).isEqualTo("테스트 도서");
+      assertThat(dto.getRank()).isEqualTo(1);
+      assertThat(dto.getLikeCount()).isEqualTo(2);
+      assertThat(dto.getPeriod()).isEqualTo(PeriodType.WEEKLY);
+      assertThat(result.getTotalElements()).isEqualTo(2L);
+      assertThat(result.isHasNext()).isFalse();
+      verify(popularReviewRepository, never()).findReviewsWithCursor(any(), any(), any(), anyInt());
+      // 캐시 미스는 리뷰마다가 아니라 IN 조회 한 번으로 채움
+      verify(reviewRepository, times(1)).findAllWithBookAndUserByIdIn(any());
+      verify(reviewRepository, never()).findById(any());
+    }
   }
 
   @Nested
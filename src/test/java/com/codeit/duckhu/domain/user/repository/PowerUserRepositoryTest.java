@@ -12,7 +12,11 @@ import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,17 +52,51 @@ public class PowerUserRepositoryTest {
     assertThat(stats.get(0).commentCount()).isGreaterThan(0);
   }
 
+  @Test
+  @DisplayName("전체 기간 활동 집계는 기간별로 따로 집계한 결과와 같다")
+  @Transactional
+  void powerUserStatsByPeriods_matchesPerPeriodStats() {
+    // given
+    Instant now = Instant.now();
+
+    // when
+    Map<PeriodType, List<PowerUserStatsDto>> byPeriod =
+        powerUserRepository.findPowerUserStatsByPeriods(EnumSet.allOf(PeriodType.class), now);
+
+    // then
+    assertThat(byPeriod).containsOnlyKeys(PeriodType.values());
+    for (PeriodType period : PeriodType.values()) {
+      List<PowerUserStatsDto> expected =
+          powerUserRepository.findPowerUserStatsBetween(period.toStartInstant(now), now);
+      assertThat(byPeriod.get(period))
+          .extracting(
+              PowerUserStatsDto::userId,
+              PowerUserStatsDto::likedCount,
+              PowerUserStatsDto::commentCount)
+          .containsExactlyInAnyOrderElementsOf(
+              expected.stream()
+                  .map(dto -> tuple(dto.userId(), dto.likedCount(), dto.commentCount()))
+                  .toList());
+      Map<UUID, Double> expectedScores =
+          expected.stream()
+              .collect(Collectors.toMap(PowerUserStatsDto::userId, PowerUserStatsDto::reviewScoreSum));
+      assertThat(byPeriod.get(period))
+          .allSatisfy(
+              dto ->
+                  assertThat(dto.reviewScoreSum())
+                      .isCloseTo(expectedScores.get(dto.userId()), within(1e-6)));
+    }
+  }
+
   @Test
   @DisplayName("커서 없이 첫 페이지 ASC정렬 조회 성공")
   void searchPowerUserStats_asc() {
     // given
-    // 한달 전
-    Instant after = Instant.now().minus(30, ChronoUnit.DAYS);
     int limit = 10;
     // when
     List<PowerUser> result =
         powerUserRepository.searchByPeriodWithCursorPaging(
-            PeriodType.MONTHLY, Direction.ASC, null, after, limit);
+            PeriodType.MONTHLY, Direction.ASC, null, limit);
 
     // then
     assertThat(result).isNotEmpty();
@@ -70,13 +108,12 @@ public class PowerUserRepositoryTest {
   @DisplayName("커서 없이 첫 페이지 DESC정렬 조회 성공")
   void searchPowerUserStats_desc() {
     // given
-    Instant after = Instant.now().minus(30, ChronoUnit.DAYS);
     int limit = 10;
 
     // when
     List<PowerUser> result =
         powerUserRepository.searchByPeriodWithCursorPaging(
-            PeriodType.MONTHLY, Direction.DESC, null, after, limit);
+            PeriodType.MONTHLY, Direction.DESC, null, limit);
 
     // then
     assertThat(result).isNotEmpty();
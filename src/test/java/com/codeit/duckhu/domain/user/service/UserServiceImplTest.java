@@ -2,6 +2,8 @@ package com.codeit.duckhu.domain.user.service;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -24,10 +26,15 @@ import com.codeit.duckhu.domain.user.mapper.PowerUserMapper;
 import com.codeit.duckhu.domain.user.mapper.UserMapper;
 import com.codeit.duckhu.domain.user.repository.UserRepository;
 import com.codeit.duckhu.domain.user.repository.poweruser.PowerUserRepository;
+import com.codeit.duckhu.global.batch.RankingGenerationStore;
+import com.codeit.duckhu.global.batch.RankingSnapshotTable;
+import com.codeit.duckhu.global.batch.RankingSnapshotWriter;
 import com.codeit.duckhu.global.type.Direction;
 import com.codeit.duckhu.global.type.PeriodType;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,6 +49,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
@@ -50,6 +58,9 @@ class UserServiceImplTest {
   @Mock private PowerUserMapper powerUserMapper;
   @Mock private PowerUserRepository powerUserRepository;
   @Mock private MeterRegistry meterRegistry;
+  @Mock private RankingSnapshotWriter rankingSnapshotWriter;
+  @Mock private RankingGenerationStore rankingGenerationStore;
+  @Mock private PlatformTransactionManager transactionManager;
 
   @InjectMocks private UserServiceImpl sut;
 
@@ -301,7 +312,7 @@ class UserServiceImplTest {
               .build();
       given(
               powerUserRepository.searchByPeriodWithCursorPaging(
-                  period, direction, cursor, after, limit + 1))
+                  period, direction, cursor, limit + 1))
           .willReturn(List.of(entity));
       given(powerUserMapper.toDto(entity)).willReturn(dto);
 
@@ -338,7 +349,8 @@ class UserServiceImplTest {
           User.builder().email("testA@example.com").nickname("testA").password("testA1!").build();
       ReflectionTestUtils.setField(mockUser, "id", userId);
 
-      given(powerUserRepository.findPowerUserStatsBetween(any(), any())).willReturn(stats);
+      given(powerUserRepository.findPowerUserStatsByPeriods(eq(EnumSet.of(period)), any()))
+          .willReturn(Map.of(period, stats));
       given(userRepository.findAllById(any())).willReturn(List.of(mockUser));
       Counter mockCounter = mock(Counter.class);
 
@@ -347,11 +359,78 @@ class UserServiceImplTest {
               eq("DAILY")))
               .willReturn(mockCounter);
 
+      given(rankingGenerationStore.nextGeneration()).willReturn(3L);
+
       // when
       sut.savePowerUser(period);
-      // then
-      verify(powerUserRepository, times(1)).deleteByPeriod(period);
-      verify(powerUserRepository, times(1)).saveAll(any());
+      // then - 새 세대로 저장한 뒤 공개
+      verify(rankingSnapshotWriter, times(1))
+          .insert(eq(RankingSnapshotTable.POWER_USER), eq(3L), anyList(), any());
+      verify(rankingGenerationStore).publish(RankingSnapshotTable.POWER_USER, period, 3L);
+    }
+
+    @Test
+    @DisplayName("전체 기간 파워 유저를 한 번의 집계로 저장")
+    void savePowerUsersForAllPeriods_success() {
+      // given - 주간 활동만 있는 사용자
+      UUID userId = UUID.randomUUID();
+      PowerUserStatsDto statsDto =
+          PowerUserStatsDto.builder()
+              .userId(userId)
+              .reviewScoreSum(3.0)
+              .likedCount(1)
+              .commentCount(2)
+              .build();
+      User mockUser =
+          User.builder().email("testB@example.com").nickname("testB").password("testB1!").build();
+      ReflectionTestUtils.setField(mockUser, "id", userId);
+
+      given(
+              powerUserRepository.findPowerUserStatsByPeriods(
+                  eq(EnumSet.allOf(PeriodType.class)), any()))
+          .willReturn(Map.of(PeriodType.WEEKLY, List.of(statsDto)));
+      given(userRepository.findAllById(any())).willReturn(List.of(mockUser));
+      given(meterRegistry.counter(anyString(), anyString(), anyString()))
+          .willReturn(mock(Counter.class));
+
+      // when
+      sut.savePowerUsersForAllPeriods();
+
+      // then - 집계와 세대 발급은 한 번, 기간별 저장/공개는 네 번
+      verify(powerUserRepository, times(1)).findPowerUserStatsByPeriods(any(), any());
+      verify(rankingGenerationStore, times(1)).nextGeneration();
+      verify(rankingSnapshotWriter, times(PeriodType.values().length))
+          .insert(eq(RankingSnapshotTable.POWER_USER), anyLong(), anyList(), any());
+      for (PeriodType period : PeriodType.values()) {
+        verify(rankingGenerationStore)
+            .publish(eq(RankingSnapshotTable.POWER_USER), eq(period), anyLong());
+      }
+    }
+
+    @Test
+    @DisplayName("한 기간의 저장이 실패하면 그 기간 트랜잭션만 롤백하고 실패로 센다")
+    void savePowerUsersForAllPeriods_failedPeriodRollsBackAlone() {
+      // given - 월간 공개만 실패
+      given(
+              powerUserRepository.findPowerUserStatsByPeriods(
+                  eq(EnumSet.allOf(PeriodType.class)), any()))
+          .willReturn(Map.of());
+      given(userRepository.findAllById(any())).willReturn(List.of());
+      given(meterRegistry.counter(anyString(), anyString(), anyString()))
+          .willReturn(mock(Counter.class));
+      given(rankingGenerationStore.nextGeneration()).willReturn(4L);
+      given(rankingGenerationStore.publish(RankingSnapshotTable.POWER_USER, PeriodType.MONTHLY, 4L))
+          .willThrow(new IllegalStateException("publish failed"));
+
+      // when
+      sut.savePowerUsersForAllPeriods();
+
+      // then - 월간만 롤백, 나머지 기간은 각자 커밋
+      verify(transactionManager, times(1)).rollback(any());
+      verify(transactionManager, times(PeriodType.values().length - 1)).commit(any());
+      verify(meterRegistry).counter("batch.user.powerUser.failure", "period", "MONTHLY");
+      verify(meterRegistry, times(PeriodType.values().length - 1))
+          .counter(eq("batch.user.powerUser.success"), eq("period"), anyString());
     }
   }
 
@@ -0,0 +1,140 @@
+package com.codeit.duckhu.global.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class RankingGenerationStoreTest {
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private RankingSnapshotWriter writer;
+  private RankingGenerationStore store;
+  private Book book;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    writer = new RankingSnapshotWriter(jdbcTemplate, 100);
+    store = new RankingGenerationStore(jdbcTemplate, 24);
+    book =
+        bookRepository.save(
+            Book.builder()
+                .title("세대")
+                .author("작가")
+                .publisher("출판사")
+                .publishedDate(LocalDate.of(2024, 1, 1))
+                .isDeleted(false)
+                .build());
+    entityManager.flush();
+  }
+
+  private void saveSnapshot(PeriodType period, long generation) {
+    writer.insert(
+        RankingSnapshotTable.POPULAR_BOOK,
+        generation,
+        List.of(book),
+        b -> new Object[] {b.getId(), period.name(), 1, 4.0, 2.8, 1});
+  }
+
+  private Map<String, Object> pointer(PeriodType period) {
+    return jdbcTemplate.queryForMap(
+        "SELECT generation, previous_generation FROM ranking_generations"
+            + " WHERE ranking = 'POPULAR_BOOK' AND period = ?",
+        period.name());
+  }
+
+  private List<Long> generations(PeriodType period) {
+    return jdbcTemplate.queryForList(
+        "SELECT generation FROM popular_book WHERE period = ? ORDER BY generation",
+        Long.class,
+        period.name());
+  }
+
+  @Test
+  @DisplayName("세대 번호는 연속 호출에도 항상 증가한다")
+  void nextGeneration_isMonotonic() {
+    long first = store.nextGeneration();
+    long second = store.nextGeneration();
+
+    assertThat(second).isGreaterThan(first);
+  }
+
+  @Test
+  @DisplayName("공개할 때마다 직전 세대를 기록하며, 더 오래된 세대로는 되돌리지 않는다")
+  void publish_flipsPointerForward() {
+    // When
+    boolean first = store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 100L);
+    boolean second = store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 200L);
+    boolean stale = store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 150L);
+
+    // Then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(stale).isFalse();
+    assertThat(pointer(PeriodType.DAILY))
+        .containsEntry("generation", 200L)
+        .containsEntry("previous_generation", 100L);
+  }
+
+  @Test
+  @DisplayName("포인터 행이 없으면 새로 만들어 공개한다")
+  void publish_createsMissingPointer() {
+    // Given
+    jdbcTemplate.update(
+        "DELETE FROM ranking_generations WHERE ranking = 'POPULAR_BOOK' AND period = 'MONTHLY'");
+
+    // When
+    boolean published = store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.MONTHLY, 100L);
+
+    // Then
+    assertThat(published).isTrue();
+    assertThat(pointer(PeriodType.MONTHLY)).containsEntry("generation", 100L);
+  }
+
+  @Test
+  @DisplayName("현재/직전 세대와 최근의 미공개 세대는 남기고, 그보다 오래된 세대와 버려진 미공개 세대를 지운다")
+  void collectGarbage_keepsCurrentAndPreviousGenerations() {
+    // Given - 100, 200, 300 순으로 공개, 250은 공개 전에 실패, 400은 실행 중
+    for (long generation : new long[] {100L, 200L, 250L, 300L, 400L}) {
+      saveSnapshot(PeriodType.DAILY, generation);
+    }
+    store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 100L);
+    store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 200L);
+    store.publish(RankingSnapshotTable.POPULAR_BOOK, PeriodType.DAILY, 300L);
+    // 아직 공개한 적 없는 기간의 세대 도입 전 행은 초기 포인터(세대 0)가 가리키므로 남김
+    saveSnapshot(PeriodType.WEEKLY, 0L);
+
+    // When - 세대 번호 350 이전에 발급된 미공개 세대는 버려진 것으로 봄
+    int deleted = store.collectGarbage(RankingSnapshotTable.POPULAR_BOOK, 350L);
+
+    // Then
+    assertThat(deleted).isEqualTo(2);
+    assertThat(generations(PeriodType.DAILY)).containsExactly(200L, 300L, 400L);
+    assertThat(generations(PeriodType.WEEKLY)).containsExactly(0L);
+  }
+}
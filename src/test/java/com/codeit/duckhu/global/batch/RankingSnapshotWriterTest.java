@@ -0,0 +1,77 @@
+package com.codeit.duckhu.global.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.book.entity.Book;
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class RankingSnapshotWriterTest {
+
+  @Autowired private BookRepository bookRepository;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private JdbcTemplate jdbcTemplate;
+  private RankingSnapshotWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    // 한 문장에 2행씩 묶어 문장 경계에서의 동작도 함께 확인
+    writer = new RankingSnapshotWriter(jdbcTemplate, 2);
+  }
+
+  private Book saveBook(String title) {
+    return bookRepository.save(
+        Book.builder()
+            .title(title)
+            .author("작가")
+            .publisher("출판사")
+            .publishedDate(LocalDate.of(2024, 1, 1))
+            .isDeleted(false)
+            .build());
+  }
+
+  @Test
+  @DisplayName("여러 행 INSERT로 스냅샷을 저장하고 ID, 생성 시각, 세대를 채운다")
+  void insert_writesRowsInMultiRowStatements() {
+    // Given
+    List<Book> books = List.of(saveBook("첫째"), saveBook("둘째"), saveBook("셋째"));
+    entityManager.flush();
+
+    // When
+    int written =
+        writer.insert(
+            RankingSnapshotTable.POPULAR_BOOK,
+            42L,
+            books,
+            book -> new Object[] {book.getId(), "DAILY", 1, 4.0, 2.8, books.indexOf(book) + 1});
+
+    // Then
+    assertThat(written).isEqualTo(3);
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT rank FROM popular_book WHERE period = 'DAILY' AND generation = 42"
+                    + " AND id IS NOT NULL AND created_at IS NOT NULL ORDER BY rank",
+                Integer.class))
+        .containsExactly(1, 2, 3);
+  }
+}
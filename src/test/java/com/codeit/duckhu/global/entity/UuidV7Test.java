@@ -0,0 +1,46 @@
+package com.codeit.duckhu.global.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  @Test
+  @DisplayName("버전 7, RFC 9562 variant 비트를 가지며 상위 48비트에 생성 시각을 담는다")
+  void randomUUID_encodesVersionAndTimestamp() {
+    // Given
+    long before = System.currentTimeMillis();
+
+    // When
+    UUID uuid = UuidV7.randomUUID();
+
+    // Then
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    // 다른 테스트에서 순번이 넘쳐 시각이 수 ms 앞당겨졌을 수 있음
+    assertThat(uuid.getMostSignificantBits() >>> 16)
+        .isBetween(before, System.currentTimeMillis() + 10);
+  }
+
+  @Test
+  @DisplayName("같은 밀리초 안에서 순번이 넘쳐도 생성 순서대로 증가한다")
+  void generate_isMonotonicWithinSameMillisecond() {
+    // Given - 12비트 순번(4096)을 넘기도록 같은 시각으로 여러 번 생성
+    long now = System.currentTimeMillis();
+    List<UUID> generated = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 5000; i++) {
+      generated.add(UuidV7.generate(now));
+    }
+
+    // Then
+    assertThat(generated).isSorted().doesNotHaveDuplicates();
+    assertThat(generated.get(0).getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(now);
+  }
+}
@@ -0,0 +1,248 @@
+package com.codeit.duckhu.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.duckhu.domain.book.repository.BookRepository;
+import com.codeit.duckhu.domain.book.repository.popular.PopularBookRepository;
+import com.codeit.duckhu.domain.comment.repository.CommentRepository;
+import com.codeit.duckhu.domain.notification.repository.NotificationRepository;
+import com.codeit.duckhu.domain.review.repository.PopularReviewRepository;
+import com.codeit.duckhu.domain.review.repository.ReviewRepository;
+import com.codeit.duckhu.domain.review.repository.TestJpaConfig;
+import com.codeit.duckhu.domain.user.repository.poweruser.PowerUserRepository;
+import com.codeit.duckhu.global.pagination.CursorCodec;
+import com.codeit.duckhu.global.type.Direction;
+import com.codeit.duckhu.global.type.PeriodType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 커서 페이지네이션 쿼리 실행 계획 검증
+ *
+ * <p>배포 DB(docker-compose initdb)와 같은 순서로 schema.sql, schema-postgresql.sql을 같은 버전의 PostgreSQL에
+ * 적용한 뒤, 실제 저장소 메서드를 호출하고 Hibernate가 보낸 SQL을 {@link StatementInspector}로 받아 그대로 EXPLAIN하여 Seq
+ * Scan이나 Sort 노드가 없는지 확인합니다. 바인딩 값은 알 수 없으므로 파라미터를 $n으로 바꿔 GENERIC_PLAN으로 계획만 세웁니다.
+ * 빈 테이블에서는 플래너가 항상 Seq Scan을 고르므로 enable_seqscan / enable_sort를 끄고, 그래도 해당 노드가 남으면 쿼리를 받쳐 줄 인덱스가
+ * 없는 것으로 판단합니다. (Docker가 없는 환경에서는 건너뜀)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(TestJpaConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class CursorQueryPlanTest {
+
+  private static final UUID ID = new UUID(0, 1);
+  private static final Instant AFTER = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired BookRepository bookRepository;
+  @Autowired ReviewRepository reviewRepository;
+  @Autowired CommentRepository commentRepository;
+  @Autowired NotificationRepository notificationRepository;
+  @Autowired PopularReviewRepository popularReviewRepository;
+  @Autowired PopularBookRepository popularBookRepository;
+  @Autowired PowerUserRepository powerUserRepository;
+
+  /** Hibernate가 실행하는 SQL을 모아 두는 StatementInspector (SessionFactory 설정으로 등록) */
+  public static class CapturedSql implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      statements.add(sql);
+      return sql;
+    }
+  }
+
+  @DynamicPropertySource
+  static void properties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add(
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector",
+        CapturedSql.class::getName);
+  }
+
+  // 스키마 검증(ddl-auto: validate) 전에 배포 DB와 같은 스키마를 만들어 둠
+  @BeforeAll
+  static void setUpSchema() throws SQLException {
+    try (Connection connection =
+        DriverManager.getConnection(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+      ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+      ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema-postgresql.sql"));
+    }
+  }
+
+  static Stream<Arguments> cursorQueries() {
+    return Stream.of(
+        query(
+            "도서 목록 - 생성일 내림차순",
+            t ->
+                t.bookRepository.searchBooks(
+                    null, "createdAt", Direction.DESC, CursorCodec.encode(AFTER, ID), 50)),
+        query(
+            "도서 목록 - 제목 오름차순",
+            t ->
+                t.bookRepository.searchBooks(
+                    null, "title", Direction.ASC, CursorCodec.encode("a", AFTER, ID), 50)),
+        query(
+            "도서 목록 - 평점 내림차순",
+            t ->
+                t.bookRepository.searchBooks(
+                    null, "rating", Direction.DESC, CursorCodec.encode(4.0, AFTER, ID), 50)),
+        query(
+            "도서 목록 - 리뷰수 내림차순",
+            t -> t.bookRepository.searchBooks(null, "reviewCount", Direction.DESC, null, 50)),
+        query(
+            "도서 목록 - 출판일 내림차순",
+            t -> t.bookRepository.searchBooks(null, "publishedDate", Direction.DESC, null, 50)),
+        query(
+            "리뷰 목록 - 생성일 내림차순",
+            t ->
+                t.reviewRepository.findReviewProjectionsWithCursor(
+                    null,
+                    "createdAt",
+                    Direction.DESC,
+                    null,
+                    null,
+                    CursorCodec.encode(AFTER, ID),
+                    50,
+                    ID)),
+        query(
+            "리뷰 목록 - 평점 내림차순",
+            t ->
+                t.reviewRepository.findReviewProjectionsWithCursor(
+                    null, "rating", Direction.DESC, null, null, null, 50, null)),
+        query(
+            "도서별 리뷰 - 평점 내림차순",
+            t ->
+                t.reviewRepository.findReviewProjectionsWithCursor(
+                    null,
+                    "rating",
+                    Direction.DESC,
+                    null,
+                    ID,
+                    CursorCodec.encode(4, AFTER, ID),
+                    50,
+                    null)),
+        query(
+            "도서별 리뷰 - 생성일 내림차순",
+            t ->
+                t.reviewRepository.findReviewProjectionsWithCursor(
+                    null, "createdAt", Direction.DESC, null, ID, null, 50, null)),
+        query(
+            "작성자별 리뷰 - 생성일 내림차순",
+            t ->
+                t.reviewRepository.findReviewProjectionsWithCursor(
+                    null, "createdAt", Direction.DESC, ID, null, null, 50, null)),
+        query(
+            "리뷰별 댓글 - 생성일 오름차순",
+            t -> t.commentRepository.searchAll(ID, "ASC", CursorCodec.encode(AFTER, ID), 50)),
+        query(
+            "알림 목록 - 생성일 오름차순",
+            t ->
+                t.notificationRepository.findAscWithCursor(ID, AFTER, ID, PageRequest.of(0, 20))),
+        query(
+            "알림 목록 - 생성일 내림차순",
+            t -> t.notificationRepository.findDescNoCursor(ID, PageRequest.of(0, 20))),
+        query(
+            "인기 리뷰 - 순위 오름차순",
+            t ->
+                t.popularReviewRepository.findReviewsWithCursor(
+                    PeriodType.DAILY, Direction.ASC, CursorCodec.encode(10, AFTER, ID), 50)),
+        query(
+            "인기 도서 - 순위 오름차순",
+            t ->
+                t.popularBookRepository.searchByPeriodWithCursorPaging(
+                    PeriodType.DAILY, Direction.ASC, CursorCodec.encode(10, AFTER, ID), 50)),
+        query(
+            "파워 유저 - 순위 오름차순",
+            t ->
+                t.powerUserRepository.searchByPeriodWithCursorPaging(
+                    PeriodType.DAILY, Direction.ASC, CursorCodec.encode(10, AFTER, ID), 50)),
+        query("알림 일괄 확인", t -> t.notificationRepository.bulkMarkAsConfirmed(ID, AFTER)),
+        query(
+            "확인된 오래된 알림 정리",
+            t -> t.notificationRepository.deleteOldConfirmedNotifications(AFTER)));
+  }
+
+  private static Arguments query(String name, Consumer<CursorQueryPlanTest> call) {
+    return Arguments.of(name, call);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cursorQueries")
+  @DisplayName("저장소가 보내는 커서 조회 쿼리는 인덱스만으로 처리되어야 한다 (Seq Scan, Sort 없음)")
+  void cursorQuery_shouldBeServedByIndex(String name, Consumer<CursorQueryPlanTest> call) {
+    // given
+    CapturedSql.statements.clear();
+
+    // when - 저장소가 실제로 보낸 SQL을 모음
+    call.accept(this);
+    List<String> statements = List.copyOf(CapturedSql.statements);
+
+    // then
+    assertThat(statements).as(name).isNotEmpty();
+    jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    jdbcTemplate.execute("SET LOCAL enable_sort = off");
+    for (String sql : statements) {
+      String plan = explain(sql);
+      assertThat(plan)
+          .as(name + "\n" + sql + "\n" + plan)
+          .doesNotContain("Seq Scan")
+          .doesNotContain("Sort");
+    }
+  }
+
+  // JDBC 파라미터(?)를 $n으로 바꿔 바인딩 값 없이 일반 계획을 세움 (PostgreSQL 16+)
+  private String explain(String sql) {
+    StringBuilder numbered = new StringBuilder();
+    int index = 0;
+    for (char c : sql.toCharArray()) {
+      if (c == '?') {
+        numbered.append('$').append(++index);
+      } else {
+        numbered.append(c);
+      }
+    }
+    return String.join(
+        "\n",
+        jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class));
+  }
+}